@@ -11,17 +11,32 @@ import io.frictionlessdata.tableschema.exception.InvalidCastException;
 import java.io.*;
 
 import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.iterator.BatchIterator;
 import io.frictionlessdata.tableschema.iterator.BeanIterator;
+import io.frictionlessdata.tableschema.iterator.CastErrorCollector;
+import io.frictionlessdata.tableschema.iterator.PipelinedTableIterator;
+import io.frictionlessdata.tableschema.iterator.ColumnBatch;
+import io.frictionlessdata.tableschema.iterator.ReusingTableIterator;
+import io.frictionlessdata.tableschema.iterator.Row;
+import io.frictionlessdata.tableschema.iterator.RowFilter;
+import io.frictionlessdata.tableschema.iterator.RowIterator;
 import io.frictionlessdata.tableschema.iterator.SimpleTableIterator;
 import io.frictionlessdata.tableschema.iterator.TableIterator;
+import io.frictionlessdata.tableschema.iterator.TablePublisher;
+import io.frictionlessdata.tableschema.iterator.TableSpliterator;
+import io.frictionlessdata.tableschema.schema.InferenceSampling;
+import io.frictionlessdata.tableschema.schema.InferenceState;
 import io.frictionlessdata.tableschema.schema.Schema;
 import io.frictionlessdata.tableschema.util.TableSchemaUtil;
 import org.apache.commons.csv.CSVFormat;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.reactivestreams.Publisher;
 
 import java.net.URL;
 import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class represents a CSV or JSON-array encoded  table with optional CSV specification
@@ -149,7 +164,7 @@ public class Table{
      */
     public static Table fromSource(URL dataSource) throws IOException {
         Table table = new Table();
-        table.dataSourceFormat = DataSourceFormat.createDataSourceFormat(dataSource.openStream());
+        table.dataSourceFormat = DataSourceFormat.createDataSourceFormat(dataSource);
         return table;
     }
 
@@ -190,6 +205,61 @@ public class Table{
        return new TableIterator<>(this, keyed, extended, cast, relations);
     }
 
+    /**
+     * Returns an Iterator over the cast values of `columns`, in that order. Only these columns are read and cast.
+     */
+    public Iterator<Object[]> iterator(List<String> columns) throws Exception{
+       return new TableIterator<>(this, columns.toArray(new String[0]), false, false, true, false);
+    }
+
+    /**
+     * Like {@link #iterator(List)}, with rows keyed by column name.
+     */
+    public Iterator<Map<String, Object>> keyedIterator(List<String> columns) throws Exception{
+       return new TableIterator<>(this, columns.toArray(new String[0]), true, false, true, false);
+    }
+
+    /**
+     * Returns an Iterator over the cast values of the rows matching `filter`. The filter runs on the raw
+     * values, so rows not matching are never cast.
+     */
+    public Iterator<Object[]> iterator(RowFilter filter) throws Exception{
+       return new TableIterator<>(this, null, filter, false, false, true, false);
+    }
+
+    /**
+     * Like {@link #iterator(RowFilter)}, returning only the cast values of `columns`.
+     */
+    public Iterator<Object[]> iterator(List<String> columns, RowFilter filter) throws Exception{
+       return new TableIterator<>(this, columns.toArray(new String[0]), filter, false, false, true, false);
+    }
+
+    /**
+     * Returns an Iterator over the cast values of the rows without errors. Values that can't be cast or
+     * violate constraints are recorded in `errors` and their rows are skipped. Reading stops with a
+     * TableSchemaException once the error budget of `errors` is used up.
+     */
+    public Iterator<Object[]> iterator(CastErrorCollector errors) throws Exception{
+       return new TableIterator<>(this, null, null, false, false, errors);
+    }
+
+    /**
+     * Like {@link #iterator(CastErrorCollector)}, with rows keyed by column name.
+     */
+    public Iterator<Map<String, Object>> keyedIterator(CastErrorCollector errors) throws Exception{
+       return new TableIterator<>(this, null, null, true, false, errors);
+    }
+
+    /**
+     * Returns an Iterator that reads the data on a separate thread and casts it on `numWorkers` threads,
+     * returning the same rows as {@link #iterator(boolean, boolean, boolean, boolean)}. Close the Iterator
+     * if it is abandoned before the end of the data.
+     */
+    public PipelinedTableIterator<Object[]> pipelinedIterator(boolean keyed, boolean extended, boolean cast,
+                                                              boolean relations, int numWorkers) throws Exception{
+        return new PipelinedTableIterator<>(this, keyed, extended, cast, relations, numWorkers);
+    }
+
     public BeanIterator iterator(Class<?> beanType, boolean relations) throws Exception{
         return new BeanIterator(this,  beanType, relations);
     }
@@ -202,6 +272,124 @@ public class Table{
         return new SimpleTableIterator(this, relations);
     }
 
+    /**
+     * Returns an Iterator that refills `buffer` with the raw values of every row, in Schema order if a
+     * Schema is set. The returned array is only valid until the next call to `next()`.
+     */
+    public Iterator<String[]> stringArrayIterator(String[] buffer) throws Exception{
+        return new ReusingTableIterator<>(this, buffer, false, false);
+    }
+
+    /**
+     * Like {@link #stringArrayIterator(String[])}, refilling `buffer` with the cast values.
+     */
+    public Iterator<Object[]> iterator(Object[] buffer) throws Exception{
+        return new ReusingTableIterator<>(this, buffer, true, false);
+    }
+
+    /**
+     * Like {@link #iterator(Object[])}, refilling a Map keyed by header name.
+     */
+    public Iterator<Map<String, Object>> keyedIterator(Map<String, Object> buffer) throws Exception{
+        return new ReusingTableIterator<>(this, buffer, true, false);
+    }
+
+    /**
+     * Returns an Iterator over the cast values of every row as {@link Row}, which holds integers, numbers,
+     * booleans and dates as primitives. Requires a Schema.
+     */
+    public Iterator<Row> rowIterator() throws Exception{
+        return new RowIterator(this, false);
+    }
+
+    /**
+     * Like {@link #rowIterator()}, optionally refilling one Row, which is only valid until the next call to `next()`.
+     */
+    public Iterator<Row> rowIterator(boolean reuseRow) throws Exception{
+        return new RowIterator(this, reuseRow);
+    }
+
+    /**
+     * Like {@link #rowIterator(boolean)}, optionally casting and checking a column only when it is first
+     * accessed, so invalid values in columns that are never read don't cause errors.
+     */
+    public Iterator<Row> rowIterator(boolean reuseRow, boolean lazy) throws Exception{
+        return new RowIterator(this, reuseRow, lazy);
+    }
+
+    /**
+     * Returns an Iterator over the data in batches of up to `batchSize` rows, with one typed vector per
+     * Schema Field. Requires a Schema.
+     */
+    public Iterator<ColumnBatch> batchIterator(int batchSize) throws Exception{
+        return new BatchIterator(this, batchSize);
+    }
+
+    /**
+     * Returns a Stream over the cast values of every row, like {@link #iterator()}. Parallel Streams on local
+     * CSV or NDJSON files split the data at record boundaries and read the parts in parallel, see
+     * {@link TableSpliterator}. Close the Stream if it isn't read to the end.
+     */
+    public Stream<Object[]> stream() {
+        return toStream(new TableSpliterator<>(this, Table::iterator));
+    }
+
+    /**
+     * Like {@link #stream()}, over the values returned by {@link #iterator(List)}.
+     */
+    public Stream<Object[]> stream(List<String> columns) {
+        return toStream(new TableSpliterator<>(this, (table) -> table.iterator(columns)));
+    }
+
+    /**
+     * Like {@link #stream()}, over the values returned by {@link #iterator(List, RowFilter)}.
+     */
+    public Stream<Object[]> stream(List<String> columns, RowFilter filter) {
+        return toStream(new TableSpliterator<>(this, (table) -> table.iterator(columns, filter), null == filter));
+    }
+
+    /**
+     * Like {@link #stream()}, over the values returned by {@link #keyedIterator()}.
+     */
+    public Stream<Map<String, Object>> keyedStream() {
+        return toStream(new TableSpliterator<>(this, Table::keyedIterator));
+    }
+
+    /**
+     * Like {@link #stream()}, over the Beans returned by {@link #iterator(Class, boolean)}.
+     */
+    public <T> Stream<T> beanStream(Class<T> beanType) {
+        return toStream(new TableSpliterator<>(this, (table) -> new BeanIterator<>(table, beanType, false)));
+    }
+
+    /**
+     * Closing the Stream closes the data source of every part not read completely
+     */
+    private static <T> Stream<T> toStream(TableSpliterator<T> rows) {
+        return StreamSupport.stream(rows, false).onClose(rows::close);
+    }
+
+    /**
+     * Returns a Reactive Streams Publisher of the cast values of every row, like {@link #iterator()}. Rows
+     * are read as the Subscriber requests them, and cancelling the Subscription closes the data source.
+     * @return Publisher of the data
+     */
+    public Publisher<Object[]> publisher() {
+        return new TablePublisher<>(this, Table::iterator);
+    }
+
+    /**
+     * Returns a Reactive Streams Publisher of the rows converted to instances of `beanType`, like
+     * {@link #iterator(Class, boolean)}. Rows are read as the Subscriber requests them, and cancelling the
+     * Subscription closes the data source.
+     * @param beanType the Bean class
+     * @param <T> the Bean class
+     * @return Publisher of the data
+     */
+    public <T> Publisher<T> publisher(Class<T> beanType) {
+        return new TablePublisher<>(this, (table) -> new BeanIterator<>(table, beanType, false));
+    }
+
     public Iterator<Map<String, Object>> keyedIterator() throws Exception{
         return new TableIterator<>(this, true, false, true, false);
     }
@@ -315,12 +503,38 @@ public class Table{
             } else if (dataFormat.equals(DataSourceFormat.Format.FORMAT_JSON)) {
                 String content = this.asJson();
                 out.write(content);
+            } else if (dataFormat.equals(DataSourceFormat.Format.FORMAT_NDJSON)) {
+                writeNdJson(out);
             }
         } catch (Exception ex) {
             throw new RuntimeException(ex);
         }
     }
 
+    /**
+     * Write the Table as newline-delimited JSON, one JSON object per row. Rows are read, cast and
+     * written one at a time, so the Table is never held in memory as a whole. If no Schema is set,
+     * one is inferred first and the values are written uncast.
+     * @param out the Writer to write to
+     * @throws Exception if reading, casting or writing fails
+     */
+    private void writeNdJson(Writer out) throws Exception {
+        boolean cast = (null != this.schema);
+        Schema schema = cast ? this.schema : this.inferSchema();
+        List<Field> fields = schema.getFields();
+        Iterator<Object[]> iter = this.iterator(false, false, cast, false);
+        while (iter.hasNext()) {
+            Object[] rec = iter.next();
+            JSONObject obj = new JSONObject();
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                obj.put(field.getName(), field.formatValueForJson(rec[i]));
+            }
+            out.write(obj.toString());
+            out.write('\n');
+        }
+    }
+
     public void writeCsv(Writer out, CSVFormat format) {
         CSVFormat oldFormat = this.format;
         this.format = format;
@@ -386,10 +600,17 @@ public class Table{
         }
     }
 
+    /**
+     * Infer the Schema from the raw values of the data, streaming the rows instead of reading them
+     * into memory first. Sets the Schema of this Table.
+     * @param headers the column names, in data order
+     * @param rowLimit the index of the last row to use, -1 for all rows
+     * @return the inferred Schema
+     * @throws TypeInferringException if reading the data or inferring fails
+     */
     public Schema inferSchema(String[] headers, int rowLimit) throws TypeInferringException{
-        try{
-            List<Object[]> data = read();
-            schema = Schema.infer(data, headers, rowLimit);
+        try (SimpleTableIterator rows = new SimpleTableIterator(this)) {
+            schema = Schema.infer(rows, headers, rowLimit);
             return schema;
 
         }catch(Exception e){
@@ -398,6 +619,40 @@ public class Table{
     }
 
 
+    /**
+     * Infer the Schema from a sample of the raw values spread over the data, instead of the first
+     * rows. Local CSV and NDJSON files are sampled by seeking into them, and reading stops once the type
+     * of every column is settled. Sets the Schema of this Table.
+     * @param sampling selects the rows to infer from
+     * @return the inferred Schema
+     * @throws TypeInferringException if reading the data or inferring fails
+     */
+    public Schema inferSchema(InferenceSampling sampling) throws TypeInferringException{
+        try {
+            schema = Schema.infer(dataSourceFormat, getHeaders(), sampling);
+            return schema;
+
+        }catch(Exception e){
+            throw new TypeInferringException(e);
+        }
+    }
+
+    /**
+     * Score the raw values of all rows for Schema inferral without building the Schema, so the scores
+     * can be merged with those of other Tables holding parts of the same data, see {@link InferenceState}.
+     * Does not change the Schema of this Table.
+     * @return the type and format votes of the columns
+     * @throws TypeInferringException if reading the data fails
+     */
+    public InferenceState inferState() throws TypeInferringException{
+        try (SimpleTableIterator rows = new SimpleTableIterator(this)) {
+            return InferenceState.infer(rows, getHeaders());
+
+        }catch(Exception e){
+            throw new TypeInferringException(e);
+        }
+    }
+
     public Table setCsvFormat(CSVFormat format) {
         this.format = format;
         if ((null != dataSourceFormat) && (dataSourceFormat instanceof CsvDataSourceFormat)) {
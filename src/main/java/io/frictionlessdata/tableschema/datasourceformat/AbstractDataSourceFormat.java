@@ -1,16 +1,22 @@
 package io.frictionlessdata.tableschema.datasourceformat;
 
-import com.google.common.collect.Iterators;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import io.frictionlessdata.tableschema.util.TableSchemaUtil;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.csv.CSVRecord;
 
+import com.google.common.io.ByteStreams;
+
 import java.io.*;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
@@ -21,9 +27,18 @@ import java.util.zip.ZipFile;
  * 
  */
 public abstract class AbstractDataSourceFormat implements DataSourceFormat {
+    private static final int SCAN_BUFFER_SIZE = 8192;
+
     String[] headers;
     Object dataSource = null;
-    private File workDir;
+    File workDir;
+
+    // byte range of a local file this instance reads, rangeEnd < 0 means up to the end of the file
+    long rangeStart = 0;
+    long rangeEnd = -1;
+
+    // number of rows read ahead on a background thread, 0 to read on the caller's thread
+    int prefetchDepth = 0;
 
     AbstractDataSourceFormat(){}
 
@@ -42,20 +57,197 @@ public abstract class AbstractDataSourceFormat implements DataSourceFormat {
 
     abstract CSVParser getCSVParser() throws Exception;
 
+    /**
+     * Returns an Iterator over the records of the CSV parser. The parser, and with it
+     * the underlying file or stream, is closed once the last record has been read, or when the
+     * Iterator, which is {@link AutoCloseable}, is closed.
+     *
+     * If a prefetch depth is set, the records are read ahead on a background thread, see
+     * {@link #setPrefetchDepth(int)}.
+     * @return Iterator over the data
+     * @throws Exception thrown if creating the parser fails
+     */
     @Override
     public Iterator<String[]> iterator() throws Exception{
-        Iterator<CSVRecord> iterCSVRecords = this.getCSVParser().iterator();
+        CSVParser parser = this.getCSVParser();
+        return prefetching(recordIterator(parser, null, null), parser);
+    }
+
+    /**
+     * Returns an Iterator over the records of the CSV parser with only the values of `columns`, in that
+     * order. The other values of a record are not copied. Columns not found in the headers are null.
+     * @param columns the column names in the order the values should be returned
+     * @return Iterator over the data
+     * @throws Exception thrown if creating the parser fails
+     */
+    @Override
+    public Iterator<String[]> iterator(String[] columns) throws Exception{
+        int[] positions = columnPositions(getHeaders(), columns);
+        CSVParser parser = this.getCSVParser();
+        return prefetching(recordIterator(parser, null, positions), parser);
+    }
+
+    private Iterator<String[]> prefetching(Iterator<String[]> rows, CSVParser parser) {
+        if (prefetchDepth > 0) {
+            return new PrefetchingIterator(rows, parser, prefetchDepth);
+        }
+        return rows;
+    }
+
+    /**
+     * Enable reading ahead: {@link #iterator()} then reads and tokenizes up to `depth` records ahead on a
+     * background thread, so that slow sources like URLs or network mounts are read while the rows are processed.
+     * Exceptions while reading are thrown from the Iterator after the rows read before. The thread stops
+     * at the end of the data or when the Iterator is closed or no longer referenced.
+     *
+     * This applies to data read through a CSV parser. Iterators refilling a buffer, see
+     * {@link #reusingIterator(String[])}, never read ahead.
+     * @param depth the maximum number of records read ahead, 0 to disable reading ahead
+     * @return this instance
+     */
+    public AbstractDataSourceFormat setPrefetchDepth(int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Prefetch depth must not be negative");
+        }
+        this.prefetchDepth = depth;
+        return this;
+    }
+
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
+    /**
+     * Returns an Iterator over the records of the CSV parser that copies the values of each
+     * record into `buffer`.
+     * @param buffer the array to refill, must be large enough for the widest row
+     * @return Iterator over the data, always returning `buffer`
+     * @throws Exception thrown if creating the parser fails
+     */
+    @Override
+    public Iterator<String[]> reusingIterator(String[] buffer) throws Exception{
+        return recordIterator(this.getCSVParser(), buffer, null);
+    }
 
-        return Iterators.transform(iterCSVRecords, (CSVRecord input) -> {
-            Iterator<String> iterCols = input.iterator();
+    private Iterator<String[]> recordIterator(CSVParser parser, String[] buffer, int[] positions) {
+        Iterator<CSVRecord> iterCSVRecords = parser.iterator();
+
+        return new ParserIterator(parser) {
+            @Override
+            protected String[] computeNext() {
+                if (!iterCSVRecords.hasNext()) {
+                    try {
+                        parser.close();
+                    } catch (IOException ex) {
+                        throw new TableSchemaException(ex);
+                    }
+                    return endOfData();
+                }
+                CSVRecord input = iterCSVRecords.next();
+                int size = input.size();
+                if (null != positions) {
+                    String[] row = new String[positions.length];
+                    for (int i = 0; i < positions.length; i++) {
+                        int pos = positions[i];
+                        row[i] = ((pos >= 0) && (pos < size)) ? input.get(pos) : null;
+                    }
+                    return row;
+                }
+                String[] row = (null != buffer) ? buffer : new String[size];
+                checkRowLength(size, row);
+                for (int i = 0; i < size; i++) {
+                    row[i] = input.get(i);
+                }
+                Arrays.fill(row, size, row.length, null);
+                return row;
+            }
+        };
+    }
 
-            List<String> cols = new ArrayList<>();
-            while(iterCols.hasNext()){
-                cols.add(iterCols.next());
+    /**
+     * Wrap an Iterator so that it copies every row into `buffer` and returns that instead
+     */
+    static Iterator<String[]> refilling(Iterator<String[]> rows, String[] buffer) {
+        return new ClosingIterator(rows) {
+            @Override
+            public String[] next() {
+                String[] row = rows.next();
+                checkRowLength(row.length, buffer);
+                System.arraycopy(row, 0, buffer, 0, row.length);
+                Arrays.fill(buffer, row.length, buffer.length, null);
+                return buffer;
             }
+        };
+    }
 
-            return cols.toArray(new String[0]);
-        });
+    /**
+     * Wrap an Iterator so that it returns only the values at `positions`
+     * @param rows the rows to project
+     * @param positions the index of every returned value in the rows, -1 for null values
+     * @return Iterator over the projected rows
+     */
+    static Iterator<String[]> projecting(Iterator<String[]> rows, int[] positions) {
+        return new ClosingIterator(rows) {
+            @Override
+            public String[] next() {
+                String[] row = rows.next();
+                String[] projected = new String[positions.length];
+                for (int i = 0; i < positions.length; i++) {
+                    int pos = positions[i];
+                    projected[i] = ((pos >= 0) && (pos < row.length)) ? row[pos] : null;
+                }
+                return projected;
+            }
+        };
+    }
+
+    /**
+     * Base of Iterators wrapping the rows of another Iterator, which is closed along with them
+     */
+    private abstract static class ClosingIterator implements Iterator<String[]>, AutoCloseable {
+        final Iterator<String[]> rows;
+
+        ClosingIterator(Iterator<String[]> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public void close() throws Exception {
+            if (rows instanceof AutoCloseable) {
+                ((AutoCloseable) rows).close();
+            }
+        }
+    }
+
+    /**
+     * Find the position of each of `columns` in `headers`
+     * @param headers the headers of the data
+     * @param columns the column names to look up
+     * @return the index of every column in the headers, -1 for columns not found
+     */
+    static int[] columnPositions(String[] headers, String[] columns) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < headers.length; i++) {
+            index.putIfAbsent(headers[i], i);
+        }
+        int[] positions = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            Integer pos = index.get(columns[i]);
+            positions[i] = (null != pos) ? pos : -1;
+        }
+        return positions;
+    }
+
+    static void checkRowLength(int size, String[] buffer) {
+        if (size > buffer.length) {
+            throw new TableSchemaException("Row has " + size + " values, but the buffer only holds "
+                    + buffer.length);
+        }
     }
 
     @Override
@@ -71,7 +263,13 @@ public abstract class AbstractDataSourceFormat implements DataSourceFormat {
         if (null == headers) {
             // Get a copy of the header map that iterates in column order.
             // The map keys are column names. The map values are 0-based indices.
-            Map<String, Integer> headerMap = this.getCSVParser().getHeaderMap();
+            CSVParser parser = this.getCSVParser();
+            Map<String, Integer> headerMap = parser.getHeaderMap();
+            // a parser on a one-shot Reader must stay open, as it
+            // will be used for iterating the data afterwards
+            if (!(dataSource instanceof Reader)) {
+                parser.close();
+            }
 
             // Generate list of keys
             List<String> headerVals = new ArrayList<>();
@@ -85,10 +283,124 @@ public abstract class AbstractDataSourceFormat implements DataSourceFormat {
         return headers;
     }
 
+    /**
+     * @return true if the data is a file in a directory, not in a zip archive, and can be read
+     * in byte ranges
+     */
+    boolean isLocalFile() {
+        return (dataSource instanceof File) && (null != workDir) && !workDir.getName().endsWith(".zip");
+    }
+
+    /**
+     * @return true if this instance reads only a byte range of a local file
+     */
+    boolean isRange() {
+        return (rangeStart > 0) || (rangeEnd >= 0);
+    }
+
+    Path getFilePath() throws IOException {
+        return DataSourceFormat.toSecure(((File) dataSource).toPath(), workDir.toPath());
+    }
+
+    /**
+     * Open a Reader on the byte range of a local file this instance reads
+     */
+    Reader openRangeReader() throws IOException {
+        FileChannel channel = FileChannel.open(getFilePath(), StandardOpenOption.READ);
+        channel.position(rangeStart);
+        InputStream in = Channels.newInputStream(channel);
+        if (rangeEnd >= 0) {
+            in = ByteStreams.limit(in, rangeEnd - rangeStart);
+        }
+        return DataSourceFormat.trimBOM(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Find the boundaries for splitting the byte range of a local file into up to `numSplits` parts
+     * of about equal size, each ending after a line feed. If `quoteChar` is set, line feeds between
+     * quotes don't end a part, which needs a scan of the whole range to keep track of the quoting.
+     * Otherwise, every line feed ends a record and the scan skips ahead to the wanted split positions.
+     * @param numSplits the number of parts wanted
+     * @param quoteChar an ASCII quote character, or null
+     * @return the start of every part, followed by the end of the last part
+     * @throws IOException if reading the file fails
+     */
+    long[] findSplitPoints(int numSplits, Character quoteChar) throws IOException {
+        if (numSplits <= 0) {
+            throw new IllegalArgumentException("Number of splits must be positive");
+        }
+        long end;
+        try (FileChannel channel = FileChannel.open(getFilePath(), StandardOpenOption.READ)) {
+            end = (rangeEnd < 0) ? channel.size() : rangeEnd;
+        }
+        return findSplitPoints(rangeStart, end, Math.max(1, (end - rangeStart) / numSplits), numSplits, quoteChar);
+    }
+
+    /**
+     * Find the boundaries for splitting the byte range `start` to `end` of a local file into up to
+     * `numSplits` parts, each ending after the first line feed past a multiple of `splitSize`. Quoting is
+     * tracked like in {@link #findSplitPoints(int, Character)}; `start` must not be inside quotes.
+     * A `splitSize` of 0 ends the first part after the first record.
+     * @param start the byte position to start at
+     * @param end the byte position to end at
+     * @param splitSize the wanted size of each part in bytes
+     * @param numSplits the maximum number of parts
+     * @param quoteChar an ASCII quote character, or null
+     * @return the start of every part, followed by `end`
+     * @throws IOException if reading the file fails
+     */
+    long[] findSplitPoints(long start, long end, long splitSize, int numSplits, Character quoteChar)
+            throws IOException {
+        List<Long> points = new ArrayList<>();
+        points.add(start);
+        try (FileChannel channel = FileChannel.open(getFilePath(), StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            boolean inQuotes = false;
+            long pos = start;
+            while ((points.size() < numSplits) && (pos < end)) {
+                long target = start + points.size() * splitSize;
+                if ((null == quoteChar) && (pos < target)) {
+                    pos = target;
+                    continue;
+                }
+                buf.clear();
+                int read = channel.read(buf, pos);
+                if (read <= 0) {
+                    break;
+                }
+                int limit = (int) Math.min(read, end - pos);
+                boolean found = false;
+                int i = 0;
+                while ((i < limit) && !found) {
+                    byte b = buf.get(i++);
+                    if ((null != quoteChar) && (b == quoteChar)) {
+                        inQuotes = !inQuotes;
+                    } else if ((b == '\n') && !inQuotes && (pos + i > target)) {
+                        found = true;
+                    }
+                }
+                pos += i;
+                if (found && (pos < end)) {
+                    points.add(pos);
+                }
+            }
+            points.add(end);
+        }
+        long[] result = new long[points.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = points.get(i);
+        }
+        return result;
+    }
+
     String getFileContents(String path) throws IOException {
         return DataSourceFormat.getFileContents(path, workDir);
     }
 
+    Reader getFileReader(String path) throws IOException {
+        return DataSourceFormat.getFileReader(path, workDir);
+    }
+
     /**
      * Write as CSV file, the `format` parameter decides on the CSV options. If it is
      * null, then the file will be written as RFC 4180 compliant CSV
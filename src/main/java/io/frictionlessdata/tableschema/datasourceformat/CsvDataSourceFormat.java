@@ -3,13 +3,14 @@ package io.frictionlessdata.tableschema.datasourceformat;
 import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
 
 import java.io.*;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -18,34 +19,36 @@ import java.util.stream.Collectors;
 public class CsvDataSourceFormat extends AbstractDataSourceFormat {
 
     private CSVFormat format = DataSourceFormat.getDefaultCsvFormat();
+    private CSVParser streamingParser = null;
+    private boolean consumed = false;
 
     /**
-     * Constructor from a Stream. In contrast to lazy-loading File- or URL-based constructors, this one
-     * reads all the data at construction time.
-     * @param inStream the stream to read from
+     * Constructor from a Stream. The data is read completely at construction time.
+     * @param inStream the UTF-8 encoded stream to read from
      * @throws Exception if an IOException occurs
      */
     CsvDataSourceFormat(InputStream inStream) throws Exception{
-        try (InputStreamReader is = new InputStreamReader(inStream, StandardCharsets.UTF_8);
-                BufferedReader br = new BufferedReader(is)) {
+        try (BufferedReader br = DataSourceFormat.trimBOM(new InputStreamReader(inStream, StandardCharsets.UTF_8))) {
             String content = br.lines().collect(Collectors.joining("\n"));
-            this.dataSource = DataSourceFormat.trimBOM(content);
-
-            // ensure that both parsing as JSON array and JSON object data fails. If one succeeds,
-            // then the data is not CSV, but JSON -> throw exception
-            try {
-                new JSONArray((String)this.dataSource);
-            } catch (JSONException ex) {
-                try {
-                    new JSONObject((String)this.dataSource);
-                } catch (JSONException ex2) {
-                    return;
-                }
+            // if the data looks like JSON, then it is not CSV -> throw exception
+            if (FormatSniffer.sniff(content).getFormat() != DataSourceFormat.Format.FORMAT_CSV) {
+                throw new IllegalArgumentException("Input seems to be in JSON format");
             }
-            throw new IllegalArgumentException("Input seems to be in JSON format");
+            this.dataSource = content;
         }
     }
 
+    /**
+     * Constructor for streaming from a Reader. The data is not read at construction time, but
+     * handed to the CSV parser record by record, therefore memory consumption is bounded by the row size
+     * and not the input size. As the Reader cannot be rewound, the data can only be iterated once.
+     * @param reader the Reader to stream from
+     * @throws IOException if skipping the BOM fails
+     */
+    CsvDataSourceFormat(Reader reader) throws IOException {
+        this.dataSource = DataSourceFormat.trimBOM(reader);
+    }
+
     CsvDataSourceFormat(URL dataSource){
         super(dataSource);
     }
@@ -69,13 +72,63 @@ public class CsvDataSourceFormat extends AbstractDataSourceFormat {
                 : DataSourceFormat.getDefaultCsvFormat();
     }
 
+    /**
+     * Returns an Iterator over the data. Instances streaming from a Reader can only be iterated once.
+     * @return Iterator over the data
+     * @throws Exception thrown if reading the data fails
+     */
+    @Override
+    public Iterator<String[]> iterator() throws Exception {
+        if (dataSource instanceof Reader) {
+            Iterator<String[]> iter = super.iterator();
+            consumed = true;
+            return iter;
+        }
+        return super.iterator();
+    }
+
+    /**
+     * Returns an Iterator over the values of `columns`. Instances streaming from a Reader can only be
+     * iterated once.
+     * @param columns the column names in the order the values should be returned
+     * @return Iterator over the data
+     * @throws Exception thrown if reading the data fails
+     */
+    @Override
+    public Iterator<String[]> iterator(String[] columns) throws Exception {
+        Iterator<String[]> iter = super.iterator(columns);
+        if (dataSource instanceof Reader) {
+            consumed = true;
+        }
+        return iter;
+    }
+
+    /**
+     * Returns an Iterator refilling `buffer` with every row. Instances streaming from a Reader can
+     * only be iterated once.
+     * @param buffer the array to refill, must be large enough for the widest row
+     * @return Iterator over the data, always returning `buffer`
+     * @throws Exception thrown if reading the data fails
+     */
+    @Override
+    public Iterator<String[]> reusingIterator(String[] buffer) throws Exception {
+        Iterator<String[]> iter = super.reusingIterator(buffer);
+        if (dataSource instanceof Reader) {
+            consumed = true;
+        }
+        return iter;
+    }
+
     /**
      * Retrieve the CSV Parser.
      * The parser works record wise. It is not possible to go back, once a
      * record has been parsed from the input stream. Because of this, CSVParser
      * needs to be recreated every time:
      * https://commons.apache.org/proper/commons-csv/apidocs/index.html?org/apache/commons/csv/CSVParser.html
-     * 
+     *
+     * Files are not read into memory, but streamed. For Reader-based instances, the parser is
+     * created once and shared between reading the headers and iterating the data.
+     *
      * @return a CSVParser instance
      * @throws Exception if either the data has the wrong format or some I/O exception occurs
      */
@@ -94,20 +147,76 @@ public class CsvDataSourceFormat extends AbstractDataSourceFormat {
             //    - https://github.com/frictionlessdata/tableschema-java/issues/29
             //    - https://frictionlessdata.io/specs/data-resource/#url-or-path
 
-            String lines = getFileContents(((File)dataSource).getPath());
+            Reader rdr = isRange()
+                    ? openRangeReader()
+                    : getFileReader(((File)dataSource).getPath());
 
             // Get the parser.
             //return CSVFormat.RFC4180.withHeader().parse(fr);
-            return CSVParser.parse(lines, format);
+            return new CSVParser(rdr, format);
             
         } else if(dataSource instanceof URL){
-            return CSVParser.parse((URL)dataSource, StandardCharsets.UTF_8, format);
-            
+            Reader rdr = new InputStreamReader(((URL)dataSource).openStream(), StandardCharsets.UTF_8);
+            return new CSVParser(DataSourceFormat.trimBOM(rdr), format);
+
+        } else if(dataSource instanceof Reader){
+            if (consumed) {
+                throw new TableSchemaException("Streaming data source can only be read once");
+            }
+            if (null == streamingParser) {
+                streamingParser = new CSVParser((Reader)dataSource, format);
+            }
+            return streamingParser;
+
         } else{
             throw new TableSchemaException("Data source is of invalid type.");
         }
     }
 
+    /**
+     * Local CSV files can be split if the CSV format has no escape character, as then quoting can
+     * be tracked from the quote characters alone.
+     * @return true if this is a local file that can be split
+     */
+    @Override
+    public boolean isSplittable() {
+        Character quote = getFormat().getQuoteCharacter();
+        return isLocalFile()
+                && (null == getFormat().getEscapeCharacter())
+                && ((null == quote) || (quote < 0x80));
+    }
+
+    /**
+     * Split a local CSV file into up to `numSplits` data sources reading consecutive record ranges of
+     * the file, which can be iterated in parallel. Quoted line breaks are respected, which needs one scan
+     * over the file. All parts share the headers of this instance, only the first part reads the
+     * header row.
+     * Data sources that are not splittable return only themselves.
+     * @param numSplits the number of splits wanted. Less are returned if the file has fewer records
+     * @return data sources covering the file in order
+     * @throws Exception if the file can't be read
+     */
+    @Override
+    public List<CsvDataSourceFormat> split(int numSplits) throws Exception {
+        if (!isSplittable()) {
+            return Collections.singletonList(this);
+        }
+        String[] sharedHeaders = getHeaders();
+        long[] points = findSplitPoints(numSplits, getFormat().getQuoteCharacter());
+        List<CsvDataSourceFormat> splits = new ArrayList<>();
+        for (int i = 0; i < points.length - 1; i++) {
+            CsvDataSourceFormat split = new CsvDataSourceFormat((File) dataSource, workDir);
+            split.rangeStart = points[i];
+            split.rangeEnd = points[i + 1];
+            split.headers = sharedHeaders;
+            split.format = (points[i] == 0)
+                    ? getFormat()
+                    : getFormat().withHeader(sharedHeaders).withSkipHeaderRecord(false);
+            splits.add(split);
+        }
+        return splits;
+    }
+
     @Override
     public void write(File outputFile) throws Exception {
         CSVFormat format = DataSourceFormat.getDefaultCsvFormat();
@@ -5,10 +5,9 @@ package io.frictionlessdata.tableschema.datasourceformat;
 
 import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import org.apache.commons.csv.CSVFormat;
-import org.json.JSONArray;
-import org.json.JSONException;
 
 import java.io.*;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -31,6 +30,33 @@ public interface DataSourceFormat {
      */
     Iterator<String[]> iterator() throws Exception;
 
+    /**
+     * Returns an Iterator over the rows with only the values of `columns`, in that order. Data sources
+     * that can, skip the other values while reading instead of copying them into the rows. Columns not
+     * found in the data are null.
+     * @param columns the column names in the order the values should be returned
+     * @return Iterator over the data
+     * @throws Exception thrown if reading the data fails
+     */
+    default Iterator<String[]> iterator(String[] columns) throws Exception {
+        return AbstractDataSourceFormat.projecting(iterator(),
+                AbstractDataSourceFormat.columnPositions(getHeaders(), columns));
+    }
+
+    /**
+     * Returns an Iterator that refills the caller-owned `buffer` with every row and returns it,
+     * instead of allocating a new array per row. The returned array is therefore only valid until
+     * the next call to `next()`. Values missing from a row are set to null.
+     * @param buffer the array to refill, must be large enough for the widest row
+     * @return Iterator over the data, always returning `buffer`
+     * @throws Exception thrown if reading the data fails
+     * @throws io.frictionlessdata.tableschema.exception.TableSchemaException if a row has more values
+     *          than `buffer` can hold
+     */
+    default Iterator<String[]> reusingIterator(String[] buffer) throws Exception {
+        return AbstractDataSourceFormat.refilling(iterator(), buffer);
+    }
+
     /**
      * Returns the data headers if no headers were set or the set headers
      * @return Column headers as a String array
@@ -79,34 +105,95 @@ public interface DataSourceFormat {
     boolean hasReliableHeaders();
 
     /**
-     * Factory method to instantiate either a JsonArrayDataSource or a
-     * CsvDataSource based on input format
+     * Signals whether the data can be split into parts that are read independently, see {@link #split(int)}
+     * @return true if {@link #split(int)} can return more than one part
+     */
+    default boolean isSplittable() {
+        return false;
+    }
+
+    /**
+     * Split the data into up to `numSplits` data sources reading consecutive, disjoint parts of it,
+     * which can be iterated in parallel. All parts share the headers of this data source, so their
+     * rows have the same column order. Data sources that are not splittable return only themselves.
+     * @param numSplits the number of splits wanted
+     * @return data sources covering the data in order
+     * @throws Exception if reading the data fails
+     */
+    default List<? extends DataSourceFormat> split(int numSplits) throws Exception {
+        return Collections.singletonList(this);
+    }
+
+    /**
+     * Returns the number of rows if it is known without reading the data
+     * @return the number of rows, or -1 if unknown
+     */
+    default long getRowCount() {
+        return -1;
+    }
+
+    /**
+     * Factory method to instantiate either a JsonArrayDataSource, a NdJsonDataSource or a
+     * CsvDataSource based on input format. The format is sniffed from a bounded prefix
+     * of the input, see {@link FormatSniffer}. CSV data is read with the default CSV format.
      * @return DataSource created from input String
      */
     static DataSourceFormat createDataSourceFormat(String input) {
         String content = trimBOM(input);
-        try {
-            // JSON array generation only to see if an exception is thrown -> probably CSV data
-            new JSONArray(content);
+        FormatSniffer.Result sniffed = FormatSniffer.sniff(content);
+        if (sniffed.isJsonArray()) {
             return new JsonArrayDataSourceFormat(content);
-        } catch (JSONException ex) {
-            // JSON parsing failed, treat it as a CSV
-            return new CsvDataSourceFormat(content);
+        } else if (sniffed.getFormat() == Format.FORMAT_NDJSON) {
+            return new NdJsonDataSourceFormat(content);
         }
+        // JSON documents other than arrays are not tabular, treat them as CSV like
+        // anything else
+        return new CsvDataSourceFormat(content);
     }
 
     /**
      * Factory method to instantiate either a {@link JsonArrayDataSourceFormat} or a
-     * {@link CsvDataSourceFormat} based on input format
+     * {@link CsvDataSourceFormat} based on input format, or a {@link NdJsonDataSourceFormat}
+     * for files with an `.ndjson` or `.jsonl` extension. Files are not read at
+     * construction time, but streamed record by record each time the data is iterated.
      * @return DataSource created from input File
      */
     static DataSourceFormat createDataSourceFormat(File input, File workDir) throws IOException {
-        String content = getFileContents(input.getPath(), workDir);
-        return createDataSourceFormat(content);
+        String name = input.getName().toLowerCase();
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return new NdJsonDataSourceFormat(input, workDir);
+        }
+        FormatSniffer.Result sniffed;
+        try (BufferedReader rdr = getFileReader(input.getPath(), workDir)) {
+            sniffed = FormatSniffer.sniff(rdr);
+        }
+        if (sniffed.isJsonArray()) {
+            return new JsonArrayDataSourceFormat(input, workDir);
+        } else if (sniffed.getFormat() == Format.FORMAT_NDJSON) {
+            return new NdJsonDataSourceFormat(input, workDir);
+        }
+        return new CsvDataSourceFormat(input, workDir);
     }
 
     static String getFileContents(String path, File workDir) throws IOException {
-        String lines;
+        try (BufferedReader rdr = getFileReader(path, workDir)) {
+            return rdr
+                    .lines()
+                    .collect(Collectors.joining("\n"));
+        }
+    }
+
+    /**
+     * Open a UTF-8 Reader on a file relative to `workDir`, or on an entry of a zip archive if `workDir`
+     * is a zip file. A leading BOM is skipped. Closing the Reader releases the file and, for zip entries,
+     * the archive.
+     * @param path relative path of the file or zip entry
+     * @param workDir the base directory or zip archive
+     * @return a BufferedReader positioned after the BOM, if any
+     * @throws IOException if the file can't be opened
+     */
+    static BufferedReader getFileReader(String path, File workDir) throws IOException {
+        Reader reader;
         if (workDir.getName().endsWith(".zip")) {
             //have to exchange the backslashes on Windows, as
             //zip paths are forward slashed.
@@ -114,13 +201,21 @@ public interface DataSourceFormat {
                 path = path.replaceAll("\\\\", "/");
             ZipFile zipFile = new ZipFile(workDir.getAbsolutePath());
             ZipEntry entry = zipFile.getEntry(path);
-            InputStream stream = zipFile.getInputStream(entry);
-            try (BufferedReader rdr = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
-                lines = rdr
-                        .lines()
-                        .collect(Collectors.joining("\n"));
+            if (null == entry) {
+                zipFile.close();
+                throw new FileNotFoundException("Entry "+path+" not found in "+workDir.getName());
             }
-
+            InputStream stream = zipFile.getInputStream(entry);
+            reader = new FilterReader(new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        zipFile.close();
+                    }
+                }
+            };
         } else {
             // The path value can either be a relative path or a full path.
             // If it's a relative path then build the full path by using the working directory.
@@ -130,15 +225,9 @@ public interface DataSourceFormat {
             //    - https://github.com/frictionlessdata/tableschema-java/issues/29
             //    - https://frictionlessdata.io/specs/data-resource/#url-or-path
             Path resolvedPath = DataSourceFormat.toSecure(new File(path).toPath(), workDir.toPath());
-
-            // Read the file.
-            try (BufferedReader rdr = new BufferedReader(new FileReader(resolvedPath.toFile()))) {
-                lines = rdr
-                        .lines()
-                        .collect(Collectors.joining("\n"));
-            }
+            reader = new InputStreamReader(new FileInputStream(resolvedPath.toFile()), StandardCharsets.UTF_8);
         }
-        return lines;
+        return trimBOM(reader);
     }
 
     static CSVFormat getDefaultCsvFormat() {
@@ -149,23 +238,65 @@ public interface DataSourceFormat {
     }
 
     /**
-     * Factory method to instantiate either a {@link JsonArrayDataSourceFormat} or a
-     * {@link CsvDataSourceFormat}  based on input format
-     * @return DataSource created from input String
+     * Factory method to instantiate either a {@link JsonArrayDataSourceFormat}, a {@link NdJsonDataSourceFormat}
+     * or a {@link CsvDataSourceFormat} based on input format. The data is read completely at construction
+     * time, use {@link #createDataSourceFormat(InputStream, boolean)} to stream large CSV data instead.
+     * The stream is closed afterwards.
+     * @param input the UTF-8 encoded stream to read from
+     * @return DataSource created from input stream
      */
     static DataSourceFormat createDataSourceFormat(InputStream input) throws IOException {
-        String content = null;
+        try (BufferedReader rdr = trimBOM(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            return createDataSourceFormat(rdr.lines().collect(Collectors.joining("\n")));
+        }
+    }
 
-        // Read the file.
-        try (Reader fr = new InputStreamReader(input)) {
-            try (BufferedReader rdr = new BufferedReader(fr)) {
-                content = rdr.lines().collect(Collectors.joining("\n"));
+    /**
+     * Factory method to instantiate either a {@link JsonArrayDataSourceFormat}, a {@link NdJsonDataSourceFormat}
+     * or a {@link CsvDataSourceFormat} based on input format. The format is sniffed from a prefix of the
+     * content. CSV data is not read at construction time, but streamed from the URL each time the data is
+     * iterated. JSON data is read completely.
+     * @param input the URL of UTF-8 encoded content
+     * @return DataSource created from input URL
+     */
+    static DataSourceFormat createDataSourceFormat(URL input) throws IOException {
+        FormatSniffer.Result sniffed;
+        try (BufferedReader rdr = trimBOM(new InputStreamReader(input.openStream(), StandardCharsets.UTF_8))) {
+            sniffed = FormatSniffer.sniff(rdr);
+            if (sniffed.isJsonArray()) {
+                return new JsonArrayDataSourceFormat(rdr.lines().collect(Collectors.joining("\n")));
+            } else if (sniffed.getFormat() == Format.FORMAT_NDJSON) {
+                return new NdJsonDataSourceFormat(rdr.lines().collect(Collectors.joining("\n")));
             }
-        } catch (IOException ex) {
-            throw ex;
         }
+        return new CsvDataSourceFormat(input);
+    }
 
-        return createDataSourceFormat(content);
+    /**
+     * Factory method to instantiate either a {@link JsonArrayDataSourceFormat} or a
+     * {@link CsvDataSourceFormat} based on input format. If `streaming` is true, CSV data
+     * is not read at construction time, but handed to the CSV parser record by record. Such a
+     * DataSourceFormat keeps memory bounded by the row size, but can only be iterated once.
+     * JSON data is always read completely. The format is sniffed from a prefix that is
+     * pushed back afterwards, so the stream needn't support rewinding.
+     * @param input the stream to read from
+     * @param streaming whether to stream CSV data instead of reading it at construction time
+     * @return DataSource created from input stream
+     */
+    static DataSourceFormat createDataSourceFormat(InputStream input, boolean streaming) throws IOException {
+        if (!streaming) {
+            return createDataSourceFormat(input);
+        }
+        BufferedReader rdr = trimBOM(new InputStreamReader(input, StandardCharsets.UTF_8));
+        FormatSniffer.Result sniffed = FormatSniffer.sniff(rdr);
+        if (sniffed.isJsonArray() || (sniffed.getFormat() == Format.FORMAT_NDJSON)) {
+            String content = rdr.lines().collect(Collectors.joining("\n"));
+            rdr.close();
+            return sniffed.isJsonArray()
+                    ? new JsonArrayDataSourceFormat(content)
+                    : new NdJsonDataSourceFormat(content);
+        }
+        return new CsvDataSourceFormat(rdr);
     }
 
     static String trimBOM(String input) {
@@ -179,6 +310,35 @@ public interface DataSourceFormat {
         return input;
     }
 
+    /**
+     * Skip a leading BOM on a Reader.
+     * @param input the Reader to read from
+     * @return a BufferedReader wrapping `input`, positioned after the BOM, if any
+     * @throws IOException if reading fails
+     */
+    static BufferedReader trimBOM(Reader input) throws IOException {
+        BufferedReader rdr = (input instanceof BufferedReader)
+                ? (BufferedReader)input
+                : new BufferedReader(input);
+        char[] prefix = new char[UTF8_BOM.length()];
+        int len = 0;
+        rdr.mark(prefix.length);
+        while (len < prefix.length) {
+            int read = rdr.read(prefix, len, prefix.length - len);
+            if (read == -1)
+                break;
+            len += read;
+        }
+        rdr.reset();
+        String start = new String(prefix, 0, len);
+        if (start.startsWith(UTF16_BOM)) {
+            rdr.skip(UTF16_BOM.length());
+        } else if (start.startsWith(UTF8_BOM)) {
+            rdr.skip(UTF8_BOM.length());
+        }
+        return rdr;
+    }
+
     //https://docs.oracle.com/javase/tutorial/essential/io/pathOps.html
     static Path toSecure(Path testPath, Path referencePath) throws IOException {
         // catch paths starting with "/" but on Windows where they get rewritten
@@ -209,7 +369,8 @@ public interface DataSourceFormat {
 
     enum Format {
         FORMAT_CSV("csv"),
-        FORMAT_JSON("json");
+        FORMAT_JSON("json"),
+        FORMAT_NDJSON("ndjson");
 
         private static final Map<String, Format> lookup = new HashMap<>();
         private final String label;
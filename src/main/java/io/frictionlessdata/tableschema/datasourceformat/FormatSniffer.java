@@ -0,0 +1,258 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detects the format of tabular data from a bounded prefix of the input, so that neither
+ * huge CSV files get parsed as JSON to see if that fails, nor JSON gets parsed twice.
+ *
+ * The first non-whitespace character decides between JSON and CSV. For JSON candidates, the prefix is
+ * tokenized to make sure it really is JSON, and its first line is checked to tell newline-delimited JSON
+ * from a JSON document. For CSV, the delimiter is guessed from a sample of lines.
+ *
+ * The factories in {@link DataSourceFormat} only use the detected format and read CSV with the default
+ * CSV format. To read CSV with the guessed delimiter, pass {@link Result#getDialect()} as the CSVFormat
+ * to `Table.fromSource`.
+ *
+ * Readers are sniffed by marking them and resetting them after reading the prefix, so the prefix is
+ * pushed back and the Reader can be handed on to the parser, even if the underlying stream can't be
+ * rewound.
+ */
+public class FormatSniffer {
+    /**
+     * Maximum number of characters inspected
+     */
+    public static final int SNIFF_LIMIT = 64 * 1024;
+
+    /**
+     * Maximum number of lines used for guessing the CSV delimiter
+     */
+    public static final int SAMPLE_LINES = 20;
+
+    // in order of preference if more than one looks plausible
+    private static final char[] DELIMITERS = new char[]{',', ';', '\t', '|'};
+
+    private FormatSniffer() {}
+
+    /**
+     * Result of sniffing an input
+     */
+    public static class Result {
+        private final DataSourceFormat.Format format;
+        private final boolean jsonArray;
+        private final CSVFormat dialect;
+
+        Result(DataSourceFormat.Format format, boolean jsonArray, CSVFormat dialect) {
+            this.format = format;
+            this.jsonArray = jsonArray;
+            this.dialect = dialect;
+        }
+
+        /**
+         * @return the detected format. FORMAT_JSON is returned for JSON arrays as well as for JSON
+         * documents that aren't arrays, see {@link #isJsonArray()}
+         */
+        public DataSourceFormat.Format getFormat() {
+            return format;
+        }
+
+        /**
+         * @return true if the input is a JSON array, which can be read as tabular data
+         */
+        public boolean isJsonArray() {
+            return jsonArray;
+        }
+
+        /**
+         * @return the detected CSV dialect, the default CSV format with the guessed delimiter.
+         * Null if the input is not CSV
+         */
+        public CSVFormat getDialect() {
+            return dialect;
+        }
+    }
+
+    /**
+     * Sniff the format of a Reader. At most {@link #SNIFF_LIMIT} characters are read, then the Reader
+     * is reset to where it was before.
+     * @param rdr the Reader to sniff, positioned after a BOM
+     * @return the detected format
+     * @throws IOException if reading fails
+     */
+    public static Result sniff(BufferedReader rdr) throws IOException {
+        char[] prefix = new char[SNIFF_LIMIT];
+        int len = 0;
+        boolean truncated = false;
+        rdr.mark(SNIFF_LIMIT + 1);
+        try {
+            int read;
+            while ((len < SNIFF_LIMIT) && ((read = rdr.read(prefix, len, SNIFF_LIMIT - len)) != -1)) {
+                len += read;
+            }
+            truncated = (len == SNIFF_LIMIT) && (rdr.read() != -1);
+        } finally {
+            rdr.reset();
+        }
+        return sniff(new String(prefix, 0, len), truncated);
+    }
+
+    /**
+     * Sniff the format of a String. At most {@link #SNIFF_LIMIT} characters are inspected.
+     * @param input the data to sniff
+     * @return the detected format
+     */
+    public static Result sniff(String input) {
+        String content = DataSourceFormat.trimBOM(input);
+        if (content.length() > SNIFF_LIMIT) {
+            return sniff(content.substring(0, SNIFF_LIMIT), true);
+        }
+        return sniff(content, false);
+    }
+
+    private static Result sniff(String sample, boolean truncated) {
+        if (truncated) {
+            // only look at complete lines, so tokens don't get cut off
+            int lastLineEnd = sample.lastIndexOf('\n');
+            if (lastLineEnd > 0) {
+                sample = sample.substring(0, lastLineEnd + 1);
+            }
+        }
+        List<String> lines = sampleLines(sample);
+        String firstLine = lines.isEmpty() ? "" : lines.get(0).trim();
+        if ((firstLine.startsWith("[") || firstLine.startsWith("{")) && isJson(sample, truncated)) {
+            boolean firstLineComplete = isSingleValue(firstLine);
+            if (firstLine.startsWith("{")) {
+                if (firstLineComplete) {
+                    return new Result(DataSourceFormat.Format.FORMAT_NDJSON, false, null);
+                }
+                return new Result(DataSourceFormat.Format.FORMAT_JSON, false, null);
+            }
+            // a JSON array on a single line followed by more arrays is NDJSON with a header line
+            if (firstLineComplete && (lines.size() > 1) && lines.get(1).trim().startsWith("[")) {
+                return new Result(DataSourceFormat.Format.FORMAT_NDJSON, false, null);
+            }
+            return new Result(DataSourceFormat.Format.FORMAT_JSON, true, null);
+        }
+        if (truncated && (lines.size() > 1)) {
+            lines.remove(lines.size() - 1);
+        }
+        CSVFormat dialect = DataSourceFormat.getDefaultCsvFormat().withDelimiter(guessDelimiter(lines));
+        return new Result(DataSourceFormat.Format.FORMAT_CSV, false, dialect);
+    }
+
+    /**
+     * Tokenize the sample. Running out of input is fine if the sample was cut off, any other
+     * syntax error means it's not JSON.
+     */
+    private static boolean isJson(String sample, boolean truncated) {
+        try (JsonParser parser = JsonArrayDataSourceFormat.jsonFactory.createParser(sample)) {
+            while (parser.nextToken() != null) {
+                // tokenizing is all we need
+            }
+            return true;
+        } catch (JsonParseException ex) {
+            // not every end-of-input error is a JsonEOFException, so also check where it happened
+            return truncated && ((ex instanceof JsonEOFException)
+                    || (ex.getLocation().getCharOffset() >= sample.length()));
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isSingleValue(String line) {
+        try (JsonParser parser = JsonArrayDataSourceFormat.jsonFactory.createParser(line)) {
+            JsonToken token = parser.nextToken();
+            if ((token != JsonToken.START_OBJECT) && (token != JsonToken.START_ARRAY)) {
+                return false;
+            }
+            parser.skipChildren();
+            return parser.nextToken() == null;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Split off up to {@link #SAMPLE_LINES} non-empty lines.
+     */
+    private static List<String> sampleLines(String sample) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        while ((start < sample.length()) && (lines.size() < SAMPLE_LINES)) {
+            int end = sample.indexOf('\n', start);
+            if (end < 0) {
+                end = sample.length();
+            }
+            String line = sample.substring(start, end);
+            if (line.endsWith("\r")) {
+                line = line.substring(0, line.length() - 1);
+            }
+            if (!line.trim().isEmpty()) {
+                lines.add(line);
+            }
+            start = end + 1;
+        }
+        return lines;
+    }
+
+    /**
+     * Guess the delimiter: a comma anywhere outside quotes wins, so regular CSV is never
+     * reinterpreted. Otherwise, take the candidate found the same, non-zero number of times
+     * on all lines, preferring the highest count.
+     */
+    static char guessDelimiter(List<String> lines) {
+        int[][] counts = new int[DELIMITERS.length][lines.size()];
+        boolean inQuotes = false;
+        for (int l = 0; l < lines.size(); l++) {
+            String line = lines.get(l);
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    inQuotes = !inQuotes;
+                } else if (!inQuotes) {
+                    for (int d = 0; d < DELIMITERS.length; d++) {
+                        if (c == DELIMITERS[d]) {
+                            counts[d][l]++;
+                        }
+                    }
+                }
+            }
+        }
+        char best = DELIMITERS[0];
+        int bestCount = 0;
+        for (int d = 0; d < DELIMITERS.length; d++) {
+            int perLine = (lines.isEmpty()) ? 0 : counts[d][0];
+            boolean consistent = true;
+            for (int l = 1; l < lines.size(); l++) {
+                if (counts[d][l] != perLine) {
+                    consistent = false;
+                }
+            }
+            if ((d == 0) && (countAll(counts[d]) > 0)) {
+                return DELIMITERS[0];
+            }
+            if (consistent && (perLine > bestCount)) {
+                best = DELIMITERS[d];
+                bestCount = perLine;
+            }
+        }
+        return best;
+    }
+
+    private static int countAll(int[] counts) {
+        int sum = 0;
+        for (int count : counts) {
+            sum += count;
+        }
+        return sum;
+    }
+}
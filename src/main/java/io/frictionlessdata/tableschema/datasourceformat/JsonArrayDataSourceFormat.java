@@ -1,35 +1,197 @@
 package io.frictionlessdata.tableschema.datasourceformat;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.util.TableSchemaUtil;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVPrinter;
-import org.json.CDL;
-import org.json.JSONArray;
-import org.json.JSONObject;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
+ * Data source for JSON arrays, either of JSON objects (one object per row, keys are the column names),
+ * or of JSON arrays (the first array holds the column names, the following ones the rows).
  *
+ * The JSON is read token by token with a Jackson streaming parser, each row is converted directly
+ * to a String array. Nested objects and arrays are returned as their JSON serialization, JSON nulls
+ * and keys missing from an object are returned as null.
  */
 public class JsonArrayDataSourceFormat extends AbstractDataSourceFormat {
+    static final JsonFactory jsonFactory = new JsonFactory();
+
+    boolean arrayOfArrays;
+
+    JsonArrayDataSourceFormat() {
+        super();
+    }
 
     public JsonArrayDataSourceFormat(String json){
         super();
-        this.dataSource = new JSONArray(DataSourceFormat.trimBOM(json));
+        String content = DataSourceFormat.trimBOM(json).trim();
+        if (!content.startsWith("[")) {
+            throw new TableSchemaException("Data source is not a JSON array");
+        }
+        this.dataSource = content;
     }
 
     public JsonArrayDataSourceFormat (InputStream inStream) throws IOException {
+        this(readAll(inStream));
+    }
+
+    /**
+     * Create a data source on a JSON file. The file is not read at construction time, but streamed
+     * each time the data is iterated.
+     * @param dataSource path of the JSON file relative to `workDir`
+     * @param workDir the base directory or zip archive
+     */
+    public JsonArrayDataSourceFormat(File dataSource, File workDir) {
+        super(dataSource, workDir);
+    }
+
+    static String readAll(InputStream inStream) throws IOException {
         try (InputStreamReader inputStreamReader = new InputStreamReader(inStream, StandardCharsets.UTF_8);
         BufferedReader br = new BufferedReader(inputStreamReader)) {
-            String content = br.lines().collect(Collectors.joining("\n"));
-            this.dataSource = new JSONArray(DataSourceFormat.trimBOM(content));
+            return br.lines().collect(Collectors.joining("\n"));
         }
     }
 
+    /**
+     * Returns the column names. For arrays of objects, those are the keys of all objects in the order
+     * they first appear, which needs one pass over the data. For arrays of arrays, they are the values
+     * of the first array.
+     * @return Column headers as a String array
+     * @throws Exception thrown if reading the data fails
+     */
+    @Override
+    public String[] getHeaders() throws Exception {
+        if (null == headers) {
+            headers = readHeaders();
+        }
+        return headers;
+    }
+
+    /**
+     * Returns an Iterator over the rows, with values in the order of {@link #getHeaders()}.
+     * @return Iterator over the data
+     * @throws Exception thrown if reading the data fails
+     */
+    @Override
+    public Iterator<String[]> iterator() throws Exception {
+        return iterator(getHeaders());
+    }
+
+    /**
+     * Returns an Iterator over the rows, with values in the order of `columns`. Object keys and
+     * array positions not in `columns` are skipped without being converted, columns not found in
+     * a row are null.
+     * @param columns the column names in the order the values should be returned
+     * @return Iterator over the data
+     * @throws Exception thrown if reading the data fails
+     */
+    @Override
+    public Iterator<String[]> iterator(String[] columns) throws Exception {
+        return rowIterator(columns, null);
+    }
+
+    /**
+     * Returns an Iterator refilling `buffer` with every row, with values in the order of
+     * {@link #getHeaders()}.
+     * @param buffer the array to refill, must be at least as long as the headers
+     * @return Iterator over the data, always returning `buffer`
+     * @throws Exception thrown if reading the data fails
+     */
+    @Override
+    public Iterator<String[]> reusingIterator(String[] buffer) throws Exception {
+        checkRowLength(getHeaders().length, buffer);
+        return rowIterator(getHeaders(), buffer);
+    }
+
+    private Iterator<String[]> rowIterator(String[] columns, String[] buffer) throws Exception {
+        String[] sourceHeaders = getHeaders();
+        Map<String, Integer> keyIndex = new HashMap<>();
+        int[] positionIndex = new int[sourceHeaders.length];
+        Arrays.fill(positionIndex, -1);
+        if (arrayOfArrays) {
+            // match repeated names in order, so that each one keeps its position
+            for (int i = 0; i < columns.length; i++) {
+                for (int j = 0; j < sourceHeaders.length; j++) {
+                    if ((positionIndex[j] < 0) && columns[i].equals(sourceHeaders[j])) {
+                        positionIndex[j] = i;
+                        break;
+                    }
+                }
+            }
+        } else {
+            Map<Integer, Integer> mapping = TableSchemaUtil.createSchemaHeaderMapping(sourceHeaders, columns);
+            for (Map.Entry<Integer, Integer> entry : mapping.entrySet()) {
+                if (null != entry.getValue()) {
+                    keyIndex.put(sourceHeaders[entry.getValue()], entry.getKey());
+                }
+            }
+        }
+
+        JsonParser parser = openParser();
+        if (arrayOfArrays && containsHeaderRow()) {
+            // skip the header row
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        int width = columns.length;
+        return new ParserIterator(parser) {
+            @Override
+            protected String[] computeNext() {
+                try {
+                    JsonToken token = parser.nextToken();
+                    if ((null == token) || (token == JsonToken.END_ARRAY)) {
+                        parser.close();
+                        return endOfData();
+                    }
+                    String[] row;
+                    if (null != buffer) {
+                        row = buffer;
+                        Arrays.fill(row, null);
+                    } else {
+                        row = new String[width];
+                    }
+                    if (token == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            Integer idx = keyIndex.get(parser.getCurrentName());
+                            parser.nextToken();
+                            if (null == idx) {
+                                parser.skipChildren();
+                            } else {
+                                row[idx] = valueAsString(parser);
+                            }
+                        }
+                    } else if (token == JsonToken.START_ARRAY) {
+                        int pos = 0;
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            if ((pos < positionIndex.length) && (positionIndex[pos] >= 0)) {
+                                row[positionIndex[pos]] = valueAsString(parser);
+                            } else {
+                                parser.skipChildren();
+                            }
+                            pos++;
+                        }
+                    } else {
+                        throw new TableSchemaException("JSON array entries must be objects or arrays, found "
+                                + token + " at " + parser.getCurrentLocation());
+                    }
+                    return row;
+                } catch (IOException ex) {
+                    throw new TableSchemaException(ex);
+                }
+            }
+        };
+    }
+
     /**
      * Write as CSV file, the `format` parameter decides on the CSV options. If it is
      * null, then the file will be written as RFC 4180 compliant CSV
@@ -50,10 +212,9 @@ public class JsonArrayDataSourceFormat extends AbstractDataSourceFormat {
 
             locFormat = locFormat.withHeader(sortedHeaders);
             CSVPrinter csvPrinter = new CSVPrinter(out, locFormat);
-            JSONArray data = (JSONArray)this.dataSource;
-            for (Object record : data) {
-                JSONObject obj = (JSONObject) record;
-                writeDataRow(obj, sortedHeaders, csvPrinter);
+            Iterator<String[]> iter = iterator(sortedHeaders);
+            while (iter.hasNext()) {
+                csvPrinter.printRecord((Object[]) iter.next());
             }
             csvPrinter.close();
         } catch (Exception ex) {
@@ -61,52 +222,116 @@ public class JsonArrayDataSourceFormat extends AbstractDataSourceFormat {
         }
     }
 
-    private static void writeDataRow(JSONObject data, String[] sortedHeaders, CSVPrinter csvPrinter) {
-        try {
-            int recordLength = sortedHeaders.length;
-            String[] sortedRec = new String[recordLength];
-            for (int i = 0; i < recordLength; i++) {
-                String key = sortedHeaders[i];
-                if (data.has(key))
-                    sortedRec[i] = data.get(key).toString();
+    @Override
+    public void write(File outputFile) throws Exception {
+        try (Writer out = new BufferedWriter(new FileWriter(outputFile));
+             Reader in = openReader()) {
+            char[] buf = new char[8192];
+            int read;
+            while ((read = in.read(buf)) != -1) {
+                out.write(buf, 0, read);
             }
-            csvPrinter.printRecord(sortedRec);
-        } catch (Exception ex) {
-            throw new RuntimeException(ex);
         }
     }
 
+    /**
+     * Headers of arrays of arrays are read from the first array, so they are as reliable
+     * as those of a CSV file with header row.
+     * @return true for arrays of arrays, false for arrays of objects or if the headers can't be read
+     */
     @Override
-    public void write(File outputFile) throws Exception {
-        try (Writer out = new BufferedWriter(new FileWriter(outputFile))) {
-            out.write(dataSource.toString());
-        } catch (Exception e) {
-            throw e;
+    public boolean hasReliableHeaders() {
+        try {
+            getHeaders();
+        } catch (Exception ex) {
+            return false;
         }
+        return arrayOfArrays;
     }
 
+    /**
+     * JSON data is parsed directly, not via a CSVParser
+     */
     @Override
-    public boolean hasReliableHeaders() {
-        return false;
+    CSVParser getCSVParser() {
+        throw new TableSchemaException("Not implemented for JsonArrayDataSourceFormat");
+    }
+
+    private String[] readHeaders() throws IOException {
+        Set<String> keys = new LinkedHashSet<>();
+        try (JsonParser parser = openParser()) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                // the header row is positional, duplicate names keep their place like in CSV
+                arrayOfArrays = true;
+                List<String> names = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    names.add(valueAsString(parser));
+                }
+                return names.toArray(new String[0]);
+            }
+            while ((token == JsonToken.START_OBJECT)) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    keys.add(parser.getCurrentName());
+                    parser.nextToken();
+                    parser.skipChildren();
+                }
+                token = parser.nextToken();
+            }
+            if ((null != token) && (token != JsonToken.END_ARRAY)) {
+                throw new TableSchemaException("JSON array entries must be objects or arrays, found "
+                        + token + " at " + parser.getCurrentLocation());
+            }
+        }
+        return keys.toArray(new String[0]);
     }
 
     /**
-     * Retrieve the CSV Parser.
-     *
-     *
-     * @return a CSVParser instance that works CSV data generated by converting the JSON-array data to CSV
-     * @throws Exception thrown if the parser throws an exception
+     * For arrays of arrays, whether the first array read holds the headers and must be skipped
+     * when iterating
      */
-    @Override
-    CSVParser getCSVParser() throws Exception {
-        String dataCsv = null;
-        if(dataSource instanceof JSONArray){
-            dataCsv = CDL.toString((JSONArray)dataSource);
-        } else{
-            throw new TableSchemaException("Data source is of invalid type.");
+    boolean containsHeaderRow() {
+        return true;
+    }
+
+    /**
+     * Open a parser positioned before the first row
+     */
+    JsonParser openParser() throws IOException {
+        JsonParser parser = jsonFactory.createParser(openReader());
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new TableSchemaException("Data source is not a JSON array");
+        }
+        return parser;
+    }
+
+    Reader openReader() throws IOException {
+        if (dataSource instanceof String) {
+            return new StringReader((String) dataSource);
+        } else if (dataSource instanceof File) {
+            return getFileReader(((File) dataSource).getPath());
+        }
+        throw new TableSchemaException("Data source is of invalid type.");
+    }
+
+    /**
+     * Convert the value at the current token to a String. Scalars are returned as their
+     * JSON text, objects and arrays serialized to JSON, and JSON null as null.
+     */
+    static String valueAsString(JsonParser parser) throws IOException {
+        switch (parser.getCurrentToken()) {
+            case VALUE_NULL:
+                return null;
+            case START_OBJECT:
+            case START_ARRAY:
+                StringWriter sw = new StringWriter();
+                try (JsonGenerator generator = jsonFactory.createGenerator(sw)) {
+                    generator.copyCurrentStructure(parser);
+                }
+                return sw.toString();
+            default:
+                return parser.getText();
         }
-        Reader sr = new StringReader(dataCsv);
-        // Get the parser.
-        return CSVParser.parse(sr, DataSourceFormat.getDefaultCsvFormat());
     }
 }
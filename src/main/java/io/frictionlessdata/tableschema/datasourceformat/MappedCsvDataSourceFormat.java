@@ -0,0 +1,277 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import com.google.common.collect.AbstractIterator;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * CSV data source for large local files that memory-maps the file and parses it in parallel.
+ *
+ * The file is split into chunks of roughly {@link #getChunkSize()} bytes at record boundaries, which are
+ * found like for {@link #split(int)}: every split is moved to the next line break outside of quotes. The
+ * chunks are parsed on a {@link java.util.concurrent.ForkJoinPool}, with a bounded number of chunks in
+ * flight. Parsing starts when the first row is requested, and closing the Iterator cancels the chunks
+ * not parsed yet.
+ *
+ * Rows are returned in source order unless {@link #setOrdered(boolean)} is set to false, in which case
+ * chunks are returned in the order their parsing finishes.
+ *
+ * Restrictions: the file must be UTF-8 encoded (or a single-byte encoding compatible with ASCII), records
+ * must be separated by line feeds, and quoting must follow RFC 4180, ie. quotes inside a field must be
+ * doubled. If the CSVFormat defines an escape character, the file is parsed as one chunk.
+ */
+public class MappedCsvDataSourceFormat extends CsvDataSourceFormat {
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final byte[] UTF8_BOM_BYTES = new byte[]{(byte)0xEF, (byte)0xBB, (byte)0xBF};
+
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private boolean ordered = true;
+
+    /**
+     * Create a data source on a local CSV file.
+     * @param dataSource path of the CSV file relative to `workDir`
+     * @param workDir the base directory. Zip archives are not supported, as their entries can't be mapped
+     */
+    public MappedCsvDataSourceFormat(File dataSource, File workDir) {
+        super(dataSource, workDir);
+        if (workDir.getName().endsWith(".zip")) {
+            throw new IllegalArgumentException("Files in zip archives cannot be memory-mapped");
+        }
+    }
+
+    public MappedCsvDataSourceFormat setPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public MappedCsvDataSourceFormat setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Set whether rows are returned in source order (the default) or in the order parsing finishes,
+     * which keeps all workers busy if chunks differ a lot in parsing cost.
+     * @param ordered true for source order
+     * @return this instance
+     */
+    public MappedCsvDataSourceFormat setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Returns an Iterator over the data that parses chunks of the file in parallel. The Iterator is
+     * {@link AutoCloseable}, closing it cancels the parsing of chunks not read yet.
+     * @return Iterator over the data
+     * @throws Exception thrown if mapping the file fails
+     */
+    @Override
+    public Iterator<String[]> iterator() throws Exception {
+        CSVFormat chunkFormat = getFormat().withHeader((String[])null);
+        return new ChunkIterator(mapChunks(), chunkFormat, ordered);
+    }
+
+    /**
+     * Returns an Iterator that parses chunks of the file in parallel and returns the values of `columns`.
+     * @param columns the column names in the order the values should be returned
+     * @return Iterator over the data
+     * @throws Exception thrown if mapping the file fails
+     */
+    @Override
+    public Iterator<String[]> iterator(String[] columns) throws Exception {
+        return projecting(iterator(), columnPositions(getHeaders(), columns));
+    }
+
+    /**
+     * Returns an Iterator that parses chunks of the file in parallel and copies each row into
+     * `buffer`. Parsed chunks are still held as separate rows until they are consumed.
+     * @param buffer the array to refill, must be large enough for the widest row
+     * @return Iterator over the data, always returning `buffer`
+     * @throws Exception thrown if mapping the file fails
+     */
+    @Override
+    public Iterator<String[]> reusingIterator(String[] buffer) throws Exception {
+        return refilling(iterator(), buffer);
+    }
+
+    /**
+     * Split the file into chunks at record boundaries and map them into memory. The header
+     * record and a leading BOM are not part of any chunk.
+     * @return the mapped chunks in file order
+     * @throws Exception if mapping or scanning the file fails
+     */
+    List<ByteBuffer> mapChunks() throws Exception {
+        Path path = DataSourceFormat.toSecure(((File)dataSource).toPath(), workDir.toPath());
+        CSVFormat format = getFormat();
+        Character quote = quoteCharacter(format);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = bomLength(channel);
+            String[] header = format.getHeader();
+            if ((null != header) && ((header.length == 0) || format.getSkipHeaderRecord())) {
+                // the first part ends after the header record
+                dataStart = findSplitPoints(dataStart, size, 0, 2, quote)[1];
+            }
+
+            long[] boundaries = new long[]{dataStart, size};
+            if (null == format.getEscapeCharacter()) {
+                int numChunks = (int)Math.min(Integer.MAX_VALUE, (size - dataStart + chunkSize - 1) / chunkSize);
+                boundaries = findSplitPoints(dataStart, size, chunkSize, Math.max(1, numChunks), quote);
+            }
+
+            List<ByteBuffer> chunks = new ArrayList<>();
+            for (int i = 0; i < boundaries.length - 1; i++) {
+                long start = boundaries[i];
+                long length = boundaries[i + 1] - start;
+                if (length <= 0) {
+                    continue;
+                }
+                if (length > Integer.MAX_VALUE) {
+                    throw new TableSchemaException("Record too large to be mapped at offset " + start);
+                }
+                chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, length));
+            }
+            return chunks;
+        }
+    }
+
+    private static long bomLength(FileChannel channel) throws IOException {
+        if (channel.size() < UTF8_BOM_BYTES.length) {
+            return 0;
+        }
+        MappedByteBuffer start = channel.map(FileChannel.MapMode.READ_ONLY, 0, UTF8_BOM_BYTES.length);
+        for (int i = 0; i < UTF8_BOM_BYTES.length; i++) {
+            if (start.get(i) != UTF8_BOM_BYTES[i]) {
+                return 0;
+            }
+        }
+        return UTF8_BOM_BYTES.length;
+    }
+
+    private static Character quoteCharacter(CSVFormat format) {
+        Character quoteChar = format.getQuoteCharacter();
+        if ((null != quoteChar) && (quoteChar > 127)) {
+            throw new TableSchemaException("Quote character must be ASCII for memory-mapped parsing");
+        }
+        return quoteChar;
+    }
+
+    private static List<String[]> parseChunk(ByteBuffer chunk, CSVFormat format) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        Reader rdr = new InputStreamReader(new ByteBufferInputStream(chunk.duplicate()), StandardCharsets.UTF_8);
+        try (CSVParser parser = new CSVParser(new BufferedReader(rdr), format)) {
+            for (CSVRecord record : parser) {
+                String[] row = new String[record.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = record.get(i);
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private int maxChunksInFlight() {
+        return Math.max(2, pool.getParallelism() * 2);
+    }
+
+    /**
+     * Returns the rows of the chunks parsed on the pool, keeping up to {@link #maxChunksInFlight()} chunks
+     * submitted. Chunks are submitted once rows are requested, and closing cancels those not parsed yet.
+     */
+    private class ChunkIterator extends AbstractIterator<String[]> implements AutoCloseable {
+        private final Deque<Future<List<String[]>>> inFlight = new ArrayDeque<>();
+        private final CSVFormat format;
+        // null if rows are returned in source order
+        private final CompletionService<List<String[]>> completed;
+        private final int window = maxChunksInFlight();
+        private Iterator<ByteBuffer> pending;
+        private Iterator<String[]> current = Collections.emptyIterator();
+
+        ChunkIterator(List<ByteBuffer> chunks, CSVFormat format, boolean ordered) {
+            this.pending = chunks.iterator();
+            this.format = format;
+            this.completed = ordered ? null : new ExecutorCompletionService<>(pool);
+        }
+
+        @Override
+        protected String[] computeNext() {
+            while (!current.hasNext()) {
+                while (pending.hasNext() && (inFlight.size() < window)) {
+                    ByteBuffer chunk = pending.next();
+                    Callable<List<String[]>> task = () -> parseChunk(chunk, format);
+                    inFlight.add((null == completed) ? pool.submit(task) : completed.submit(task));
+                }
+                if (inFlight.isEmpty()) {
+                    return endOfData();
+                }
+                current = getResult(nextParsed()).iterator();
+            }
+            return current.next();
+        }
+
+        private Future<List<String[]>> nextParsed() {
+            if (null == completed) {
+                return inFlight.poll();
+            }
+            try {
+                Future<List<String[]>> next = completed.take();
+                inFlight.remove(next);
+                return next;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new TableSchemaException(ex);
+            }
+        }
+
+        @Override
+        public void close() {
+            pending = Collections.emptyIterator();
+            current = Collections.emptyIterator();
+            for (Future<List<String[]>> future : inFlight) {
+                future.cancel(true);
+            }
+            inFlight.clear();
+        }
+    }
+
+    private static <V> V getResult(Future<V> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TableSchemaException(ex);
+        } catch (ExecutionException ex) {
+            throw new TableSchemaException(ex.getCause());
+        }
+    }
+}
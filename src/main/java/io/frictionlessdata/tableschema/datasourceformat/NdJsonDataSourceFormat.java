@@ -0,0 +1,98 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Data source for newline-delimited JSON (NDJSON, JSON Lines): one JSON object per line, keys are the
+ * column names. Alternatively, every line can hold a JSON array, then the first line holds the column
+ * names. Values are converted like in {@link JsonArrayDataSourceFormat}.
+ *
+ * Local files are streamed each time the data is iterated and can be split at line breaks with
+ * {@link #split(int)} to read parts of the file in parallel.
+ */
+public class NdJsonDataSourceFormat extends JsonArrayDataSourceFormat {
+    public NdJsonDataSourceFormat(String json) {
+        super();
+        this.dataSource = DataSourceFormat.trimBOM(json);
+    }
+
+    public NdJsonDataSourceFormat(InputStream inStream) throws IOException {
+        this(readAll(inStream));
+    }
+
+    /**
+     * Create a data source on a NDJSON file. The file is not read at construction time, but streamed
+     * each time the data is iterated.
+     * @param dataSource path of the NDJSON file relative to `workDir`
+     * @param workDir the base directory or zip archive
+     */
+    public NdJsonDataSourceFormat(File dataSource, File workDir) {
+        super(dataSource, workDir);
+    }
+
+    /**
+     * Split a local NDJSON file into up to `numSplits` data sources reading consecutive line ranges of
+     * the file, which can be iterated in parallel. All of them share the headers of this instance, so
+     * the rows they return have the same column order. Other data sources return only themselves.
+     * @param numSplits the number of splits wanted. Less are returned if the file has fewer lines
+     * @return data sources covering the file in order
+     * @throws Exception if the file can't be read
+     */
+    @Override
+    public List<NdJsonDataSourceFormat> split(int numSplits) throws Exception {
+        if (!isSplittable()) {
+            return Collections.singletonList(this);
+        }
+        if (numSplits <= 0) {
+            throw new IllegalArgumentException("Number of splits must be positive");
+        }
+        String[] sharedHeaders = getHeaders();
+        // in NDJSON, line feeds inside values are escaped, so every line feed ends a record
+        long[] points = findSplitPoints(numSplits, null);
+        List<NdJsonDataSourceFormat> splits = new ArrayList<>();
+        for (int i = 0; i < points.length - 1; i++) {
+            NdJsonDataSourceFormat split = new NdJsonDataSourceFormat((File) dataSource, workDir);
+            split.rangeStart = points[i];
+            split.rangeEnd = points[i + 1];
+            split.headers = sharedHeaders;
+            split.arrayOfArrays = arrayOfArrays;
+            splits.add(split);
+        }
+        return splits;
+    }
+
+    @Override
+    public boolean isSplittable() {
+        return isLocalFile();
+    }
+
+    /**
+     * Only the first part of a split file contains the header line of an NDJSON file of arrays
+     */
+    @Override
+    boolean containsHeaderRow() {
+        return (rangeStart == 0);
+    }
+
+    /**
+     * Open a parser before the first line. Jackson reads whitespace-separated root values, so
+     * every line is one top-level value.
+     */
+    @Override
+    JsonParser openParser() throws IOException {
+        return jsonFactory.createParser(openReader());
+    }
+
+    @Override
+    Reader openReader() throws IOException {
+        if ((dataSource instanceof File) && isRange()) {
+            return openRangeReader();
+        }
+        return super.openReader();
+    }
+}
@@ -0,0 +1,31 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import com.google.common.collect.AbstractIterator;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Iterator over the rows read by a parser, which can be closed to release the parser and the underlying
+ * file or stream before the end of the data.
+ */
+abstract class ParserIterator extends AbstractIterator<String[]> implements AutoCloseable {
+    private final Closeable parser;
+
+    ParserIterator(Closeable parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Close the parser. No more rows are read afterwards
+     */
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException ex) {
+            throw new TableSchemaException(ex);
+        }
+    }
+}
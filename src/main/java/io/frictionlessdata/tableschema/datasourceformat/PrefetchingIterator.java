@@ -0,0 +1,190 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Iterator that reads rows ahead on a background thread into a bounded ring buffer, so that reading
+ * from slow sources and processing the rows overlap.
+ *
+ * The buffer has one producer and one consumer and needs no locks: each side only advances its own
+ * counter, and waits by parking briefly while the buffer is full or empty. An exception thrown by the source
+ * is rethrown from `hasNext()` or `next()` once the rows read before it have been consumed.
+ *
+ * The reader thread stops at the end of the data, on {@link #close()}, or when the Iterator is no longer
+ * referenced, and then closes the source.
+ */
+class PrefetchingIterator implements Iterator<String[]>, AutoCloseable {
+    private static final Object END = new Object();
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final Ring ring;
+    private Object nextItem = null;
+    private boolean finished = false;
+
+    /**
+     * Start reading ahead
+     * @param source the rows to read
+     * @param closeable closed when reading stops, may be null
+     * @param depth the maximum number of rows read ahead, rounded up to a power of two
+     */
+    PrefetchingIterator(Iterator<String[]> source, Closeable closeable, int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Prefetch depth must be positive");
+        }
+        this.ring = new Ring(depth);
+        Thread reader = new Thread(new Reader(source, closeable, ring, new WeakReference<>(this)),
+                "tableschema-prefetch");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (null != nextItem) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        Object item = ring.take();
+        if (item == END) {
+            finished = true;
+            Throwable failure = ring.failure;
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (null != failure) {
+                throw new TableSchemaException(failure);
+            }
+            return false;
+        }
+        nextItem = item;
+        return true;
+    }
+
+    @Override
+    public String[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String[] row = (String[]) nextItem;
+        nextItem = null;
+        return row;
+    }
+
+    /**
+     * Stop reading ahead. Rows not yet returned are discarded
+     */
+    @Override
+    public void close() {
+        finished = true;
+        nextItem = null;
+        ring.closed = true;
+    }
+
+    /**
+     * Single-producer, single-consumer ring buffer
+     */
+    private static final class Ring {
+        private final Object[] slots;
+        private final int mask;
+        // next slot to read, written by the consumer only
+        private final AtomicLong head = new AtomicLong();
+        // next slot to write, written by the producer only
+        private final AtomicLong tail = new AtomicLong();
+        volatile boolean closed = false;
+        volatile Throwable failure = null;
+
+        Ring(int depth) {
+            int capacity = Integer.highestOneBit(Math.max(1, depth - 1)) << 1;
+            slots = new Object[capacity];
+            mask = capacity - 1;
+        }
+
+        /**
+         * Wait for a free slot and fill it
+         * @return false if the buffer was closed while waiting
+         */
+        boolean put(Object item, WeakReference<?> owner) {
+            long t = tail.get();
+            while (t - head.get() == slots.length) {
+                if (closed || (null == owner.get())) {
+                    return false;
+                }
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+            slots[(int) t & mask] = item;
+            tail.lazySet(t + 1);
+            return true;
+        }
+
+        Object take() {
+            long h = head.get();
+            while (h == tail.get()) {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+            int index = (int) h & mask;
+            Object item = slots[index];
+            slots[index] = null;
+            head.lazySet(h + 1);
+            return item;
+        }
+    }
+
+    /**
+     * Reader thread, holding only a weak reference to the Iterator so it can notice if the
+     * Iterator is abandoned
+     */
+    private static final class Reader implements Runnable {
+        private final Iterator<String[]> source;
+        private final Closeable closeable;
+        private final Ring ring;
+        private final WeakReference<?> owner;
+
+        Reader(Iterator<String[]> source, Closeable closeable, Ring ring, WeakReference<?> owner) {
+            this.source = source;
+            this.closeable = closeable;
+            this.ring = ring;
+            this.owner = owner;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!ring.closed && source.hasNext()) {
+                    if (!ring.put(source.next(), owner)) {
+                        break;
+                    }
+                }
+            } catch (Throwable t) {
+                ring.failure = t;
+            } finally {
+                closeSource();
+                ring.put(END, owner);
+            }
+        }
+
+        private void closeSource() {
+            if (null == closeable) {
+                return;
+            }
+            try {
+                closeable.close();
+            } catch (IOException ex) {
+                if (null == ring.failure) {
+                    ring.failure = ex;
+                }
+            }
+        }
+    }
+}
@@ -33,6 +33,16 @@ public class StringArrayDataSourceFormat extends AbstractDataSourceFormat {
         return ((Collection<String[]>)dataSource).iterator();
     }
 
+    @Override
+    public Iterator<String[]> iterator(String[] columns) throws Exception{
+        return projecting(iterator(), columnPositions(headers, columns));
+    }
+
+    @Override
+    public Iterator<String[]> reusingIterator(String[] buffer) throws Exception{
+        return refilling(iterator(), buffer);
+    }
+
     @Override
     public List<String[]> data() throws Exception{
         return new ArrayList<>((Collection<String[]>)dataSource);
@@ -53,4 +63,9 @@ public class StringArrayDataSourceFormat extends AbstractDataSourceFormat {
     public boolean hasReliableHeaders() {
         return headers != null;
     }
+
+    @Override
+    public long getRowCount() {
+        return ((Collection<String[]>)dataSource).size();
+    }
 }
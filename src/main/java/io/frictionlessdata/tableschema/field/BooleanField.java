@@ -39,6 +39,20 @@ public class BooleanField extends Field<Boolean> {
     @Override
     public Boolean parseValue(String value, String format, Map<String, Object> options)
             throws InvalidCastException, ConstraintsException {
+        Boolean result = toBoolean(value, options);
+        if (null == result) {
+            throw new TypeInferringException();
+        }
+        return result;
+    }
+
+    @Override
+    protected CastResult<Boolean> tryParseValue(String value, String format, Map<String, Object> options) {
+        Boolean result = toBoolean(value, options);
+        return (null != result) ? CastResult.of(result) : invalidValue(value, format);
+    }
+
+    private Boolean toBoolean(String value, Map<String, Object> options) {
         if (null != options) {
             if (options.containsKey("trueValues")) {
                 trueValues = new ArrayList<>((Collection) options.get("trueValues"));
@@ -55,7 +69,7 @@ public class BooleanField extends Field<Boolean> {
             return false;
 
         }else{
-            throw new TypeInferringException();
+            return null;
         }
     }
 
@@ -0,0 +1,63 @@
+package io.frictionlessdata.tableschema.field;
+
+/**
+ * Outcome of casting a value without exceptions, see {@link Field#tryCast(String, boolean, java.util.Map)}
+ * and {@link FieldCaster#tryCast(String)}: either the cast value, which is null for empty values,
+ * or the reason the value is invalid.
+ *
+ * @param <T> the Java type of the Field's values
+ */
+public final class CastResult<T> {
+    private static final CastResult<?> NULL_VALUE = new CastResult<>(null, null);
+
+    private final T value;
+    private final String reason;
+
+    private CastResult(T value, String reason) {
+        this.value = value;
+        this.reason = reason;
+    }
+
+    /**
+     * @param value the cast value, may be null
+     * @return a valid result holding `value`
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CastResult<T> of(T value) {
+        return (null == value) ? (CastResult<T>) NULL_VALUE : new CastResult<>(value, null);
+    }
+
+    /**
+     * @param reason why the value is invalid
+     * @return an invalid result
+     */
+    public static <T> CastResult<T> failure(String reason) {
+        return new CastResult<>(null, (null != reason) ? reason : "Invalid value");
+    }
+
+    /**
+     * @return true if the value could be cast and satisfies the checked constraints
+     */
+    public boolean isValid() {
+        return null == reason;
+    }
+
+    /**
+     * @return the cast value, null for empty and for invalid values
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * @return why the value is invalid, null for valid values
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "CastResult{value=" + value + "}" : "CastResult{reason=" + reason + "}";
+    }
+}
@@ -0,0 +1,390 @@
+package io.frictionlessdata.tableschema.field;
+
+import io.frictionlessdata.tableschema.exception.ConstraintsException;
+import org.joda.time.DateTime;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import static io.frictionlessdata.tableschema.field.Field.*;
+
+/**
+ * The constraints of a {@link Field}, resolved once into the form needed for checking values:
+ *
+ * - `pattern` is compiled into a {@link Pattern},
+ * - `minimum` and `maximum` are converted into the value type of the Field, so that a `minimum` of
+ *   `"2000-01-01"` or a Joda DateTime is compared to the LocalDate values a DateField produces,
+ * - `enum` values are put into sets: strings into a case-insensitive one, integers into a sorted
+ *   array, and values of the Field's type into a hash set.
+ *
+ * Checking a valid value doesn't allocate, the Map of violations is only created if a constraint is
+ * violated. Values of the types the constraints were checked against before, like Integer or Joda DateTime,
+ * are still accepted.
+ *
+ * Immutable and thread-safe.
+ */
+final class CompiledConstraints implements ConstraintsChecker {
+    private static final int NOT_COMPARABLE = Integer.MIN_VALUE;
+
+    // a copy of the constraints Map this was compiled from, to notice changes to the Field's Map
+    final Map<String, Object> source;
+
+    private final boolean required;
+    private final int minLength;
+    private final int maxLength;
+    private final Bound minimum;
+    private final Bound maximum;
+    private final Pattern pattern;
+    private final String patternSource;
+    private final Object enumSource;
+    private final EnumValues enumValues;
+
+    private CompiledConstraints(Map<String, Object> source, Field<?> field) {
+        this.source = new HashMap<>(source);
+        required = Boolean.TRUE.equals(source.get(CONSTRAINT_KEY_REQUIRED));
+        minLength = source.containsKey(CONSTRAINT_KEY_MIN_LENGTH)
+                ? ((Number) source.get(CONSTRAINT_KEY_MIN_LENGTH)).intValue()
+                : -1;
+        maxLength = source.containsKey(CONSTRAINT_KEY_MAX_LENGTH)
+                ? ((Number) source.get(CONSTRAINT_KEY_MAX_LENGTH)).intValue()
+                : -1;
+        minimum = source.containsKey(CONSTRAINT_KEY_MINIMUM)
+                ? new Bound(source.get(CONSTRAINT_KEY_MINIMUM), field)
+                : null;
+        maximum = source.containsKey(CONSTRAINT_KEY_MAXIMUM)
+                ? new Bound(source.get(CONSTRAINT_KEY_MAXIMUM), field)
+                : null;
+        patternSource = (String) source.get(CONSTRAINT_KEY_PATTERN);
+        pattern = (null != patternSource) ? Pattern.compile(patternSource) : null;
+        enumSource = source.get(CONSTRAINT_KEY_ENUM);
+        enumValues = source.containsKey(CONSTRAINT_KEY_ENUM)
+                ? new EnumValues((Collection<?>) enumSource, field)
+                : null;
+    }
+
+    /**
+     * @param field the Field whose constraints to compile
+     * @return the compiled constraints, or null if the Field has none
+     * @throws java.util.regex.PatternSyntaxException if the `pattern` constraint is not a valid regular expression
+     */
+    static CompiledConstraints compile(Field<?> field) {
+        Map<String, Object> constraints = field.getConstraints();
+        if ((null == constraints) || constraints.isEmpty()) {
+            return null;
+        }
+        return new CompiledConstraints(constraints, field);
+    }
+
+    @Override
+    public void check(Object value) throws ConstraintsException {
+        Map<String, Object> violatedConstraints = violations(value);
+        if (!violatedConstraints.isEmpty()) {
+            throw new ConstraintsException("Violated "+ violatedConstraints.size()+" contstraints");
+        }
+    }
+
+    @Override
+    public String findViolation(Object value) {
+        Map<String, Object> violatedConstraints = violations(value);
+        if (violatedConstraints.isEmpty()) {
+            return null;
+        }
+        return "Violated constraints: " + String.join(", ", violatedConstraints.keySet());
+    }
+
+    /**
+     * Returns the constraints `value` violates, mapped to the constraint value
+     * @param value a cast value
+     * @return the violated constraints, an empty immutable Map if there are none
+     */
+    Map<String, Object> violations(Object value) {
+        Map<String, Object> violated = Collections.emptyMap();
+        if (required && (null == value)) {
+            violated = violation(violated, CONSTRAINT_KEY_REQUIRED, true);
+        }
+        if ((minLength >= 0) || (maxLength >= 0)) {
+            int length = length(value);
+            if ((length >= 0) && (minLength >= 0) && (length < minLength)) {
+                violated = violation(violated, CONSTRAINT_KEY_MIN_LENGTH, minLength);
+            }
+            if ((length >= 0) && (maxLength >= 0) && (length > maxLength)) {
+                violated = violation(violated, CONSTRAINT_KEY_MAX_LENGTH, maxLength);
+            }
+        }
+        if (null != minimum) {
+            int comparison = minimum.compare(value);
+            if ((comparison != NOT_COMPARABLE) && (comparison < 0)) {
+                violated = violation(violated, CONSTRAINT_KEY_MINIMUM, minimum.constraint);
+            }
+        }
+        if (null != maximum) {
+            int comparison = maximum.compare(value);
+            if ((comparison != NOT_COMPARABLE) && (comparison > 0)) {
+                violated = violation(violated, CONSTRAINT_KEY_MAXIMUM, maximum.constraint);
+            }
+        }
+        // Constraint only applies to a String value, anything else is a violation
+        if ((null != pattern) && (!(value instanceof String) || !pattern.matcher((String) value).matches())) {
+            violated = violation(violated, CONSTRAINT_KEY_PATTERN, patternSource);
+        }
+        if ((null != enumValues) && !enumValues.contains(value)) {
+            violated = violation(violated, CONSTRAINT_KEY_ENUM, enumSource);
+        }
+        return violated;
+    }
+
+    private static Map<String, Object> violation(Map<String, Object> violated, String key, Object constraint) {
+        Map<String, Object> result = violated.isEmpty() ? new HashMap<>() : violated;
+        result.put(key, constraint);
+        return result;
+    }
+
+    private static int length(Object value) {
+        if (value instanceof String) {
+            return ((String) value).length();
+        } else if (value instanceof JSONObject) {
+            return ((JSONObject) value).length();
+        } else if (value instanceof JSONArray) {
+            return ((JSONArray) value).length();
+        } else if (value instanceof Object[]) {
+            return ((Object[]) value).length;
+        } else if (value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        } else if (value instanceof Map) {
+            return ((Map<?, ?>) value).size();
+        }
+        return -1;
+    }
+
+    /**
+     * Convert a constraint value into the value type of the Field
+     * @return the converted value, or null if it can't be converted
+     */
+    private static Object toFieldType(Object constraint, Field<?> field) {
+        if (constraint instanceof String) {
+            try {
+                return field.parseValue((String) constraint, field.getFormat(), null);
+            } catch (Exception ex) {
+                return null;
+            }
+        } else if (constraint instanceof DateTime) {
+            DateTime dt = (DateTime) constraint;
+            if (field instanceof DateField) {
+                return LocalDate.of(dt.getYear(), dt.getMonthOfYear(), dt.getDayOfMonth());
+            } else if (field instanceof TimeField) {
+                return LocalTime.of(dt.getHourOfDay(), dt.getMinuteOfHour(), dt.getSecondOfMinute(),
+                        dt.getMillisOfSecond() * 1_000_000);
+            } else if (field instanceof DatetimeField) {
+                return ZonedDateTime.ofInstant(Instant.ofEpochMilli(dt.getMillis()), ZoneOffset.UTC);
+            } else if (field instanceof YearmonthField) {
+                return YearMonth.of(dt.getYear(), dt.getMonthOfYear());
+            } else if (field instanceof YearField) {
+                return Year.of(dt.getYear());
+            }
+            return null;
+        }
+        return constraint;
+    }
+
+    /**
+     * @return the value as BigDecimal if it is a number, or a Year
+     */
+    private static BigDecimal toDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if ((value instanceof Double) || (value instanceof Float)) {
+            double d = ((Number) value).doubleValue();
+            return (Double.isNaN(d) || Double.isInfinite(d)) ? null : BigDecimal.valueOf(d);
+        } else if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        } else if (value instanceof Year) {
+            return BigDecimal.valueOf(((Year) value).getValue());
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the value is an integral number that fits into a long, so that it can be read
+     * with `longValue()`, or a Year
+     */
+    private static boolean isLong(Object value) {
+        return (value instanceof Integer) || (value instanceof Long)
+                || (value instanceof Short) || (value instanceof Byte)
+                || ((value instanceof BigInteger) && (((BigInteger) value).bitLength() < 64))
+                || (value instanceof Year);
+    }
+
+    private static long longValue(Object value) {
+        return (value instanceof Year) ? ((Year) value).getValue() : ((Number) value).longValue();
+    }
+
+    /**
+     * A `minimum` or `maximum` constraint, comparable to the values of the Field and to values of the
+     * type of the constraint itself
+     */
+    private static final class Bound {
+        private final Object constraint;
+        private final Object typed;
+        private final BigDecimal number;
+        private final boolean integral;
+        private final long longBound;
+
+        Bound(Object constraint, Field<?> field) {
+            this.constraint = constraint;
+            this.typed = toFieldType(constraint, field);
+            this.number = toDecimal(typed);
+            boolean fitsLong = false;
+            long value = 0;
+            if (null != number) {
+                try {
+                    value = number.longValueExact();
+                    fitsLong = true;
+                } catch (ArithmeticException ex) {
+                    // fractional or too large, compare as BigDecimal
+                }
+            }
+            this.integral = fitsLong;
+            this.longBound = value;
+        }
+
+        /**
+         * @return the sign of `value` compared to the bound, {@link #NOT_COMPARABLE} if they can't be compared
+         */
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        int compare(Object value) {
+            if (null == value) {
+                return NOT_COMPARABLE;
+            }
+            if (value instanceof DateTime) {
+                return (constraint instanceof DateTime)
+                        ? Integer.signum(((DateTime) value).compareTo((DateTime) constraint))
+                        : NOT_COMPARABLE;
+            }
+            if (null != number) {
+                if (integral && isLong(value)) {
+                    return Long.compare(longValue(value), longBound);
+                }
+                if (value instanceof BigDecimal) {
+                    return ((BigDecimal) value).compareTo(number);
+                }
+                BigDecimal decimal = toDecimal(value);
+                return (null != decimal) ? decimal.compareTo(number) : NOT_COMPARABLE;
+            }
+            if ((value instanceof ZonedDateTime) && (typed instanceof ZonedDateTime)) {
+                // by instant, ZonedDateTime.compareTo() also compares the offsets
+                ZonedDateTime zdt = (ZonedDateTime) value;
+                ZonedDateTime bound = (ZonedDateTime) typed;
+                int comparison = Long.compare(zdt.toEpochSecond(), bound.toEpochSecond());
+                return (comparison != 0) ? comparison : Integer.compare(zdt.getNano(), bound.getNano());
+            }
+            if ((typed instanceof Comparable) && typed.getClass().isInstance(value)) {
+                return Integer.signum(((Comparable) value).compareTo(typed));
+            }
+            return NOT_COMPARABLE;
+        }
+    }
+
+    /**
+     * An `enum` constraint, with the allowed values grouped by how they are looked up
+     */
+    private static final class EnumValues {
+        // matched ignoring case, as before
+        private final Set<String> strings = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        private final long[] longs;
+        private final Set<BigDecimal> numbers = new TreeSet<>();
+        private final Set<Object> typed = new HashSet<>();
+        // compared one by one, they have no usable equals()
+        private final List<Object> others = new ArrayList<>();
+
+        EnumValues(Collection<?> values, Field<?> field) {
+            List<Long> integralValues = new ArrayList<>();
+            for (Object value : values) {
+                if (value instanceof String) {
+                    strings.add((String) value);
+                }
+                if ((value instanceof JSONObject) || (value instanceof JSONArray) || (value instanceof DateTime)) {
+                    others.add(value);
+                }
+                Object converted = toFieldType(value, field);
+                if (null == converted) {
+                    continue;
+                }
+                BigDecimal decimal = toDecimal(converted);
+                if (null != decimal) {
+                    numbers.add(decimal);
+                    if (isLong(converted)) {
+                        integralValues.add(longValue(converted));
+                    }
+                } else if (converted instanceof ZonedDateTime) {
+                    typed.add(((ZonedDateTime) converted).toInstant());
+                } else if (!(converted instanceof String)) {
+                    typed.add(converted);
+                }
+            }
+            longs = new long[integralValues.size()];
+            for (int i = 0; i < longs.length; i++) {
+                longs[i] = integralValues.get(i);
+            }
+            Arrays.sort(longs);
+        }
+
+        boolean contains(Object value) {
+            if (value instanceof String) {
+                return strings.contains(value);
+            } else if (isLong(value)) {
+                return Arrays.binarySearch(longs, longValue(value)) >= 0;
+            } else if (value instanceof BigDecimal) {
+                return numbers.contains(value);
+            } else if (value instanceof Number) {
+                BigDecimal decimal = toDecimal(value);
+                return (null != decimal) && numbers.contains(decimal);
+            } else if (value instanceof ZonedDateTime) {
+                return typed.contains(((ZonedDateTime) value).toInstant());
+            } else if (value instanceof JSONObject) {
+                for (Object other : others) {
+                    if ((other instanceof JSONObject) && ((JSONObject) other).similar(value)) {
+                        return true;
+                    }
+                }
+                return false;
+            } else if (value instanceof JSONArray) {
+                for (Object other : others) {
+                    if ((other instanceof JSONArray) && ((JSONArray) other).similar(value)) {
+                        return true;
+                    }
+                }
+                return false;
+            } else if (value instanceof DateTime) {
+                for (Object other : others) {
+                    if ((other instanceof DateTime) && (((DateTime) other).compareTo((DateTime) value) == 0)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return typed.contains(value);
+        }
+    }
+}
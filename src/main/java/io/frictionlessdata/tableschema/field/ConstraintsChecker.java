@@ -0,0 +1,34 @@
+package io.frictionlessdata.tableschema.field;
+
+import io.frictionlessdata.tableschema.exception.ConstraintsException;
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+
+/**
+ * Checks cast values against the constraints of a {@link Field}. Obtained via
+ * {@link Field#getConstraintsChecker()} once and then applied to many values.
+ */
+@FunctionalInterface
+public interface ConstraintsChecker {
+
+    /**
+     * Check a value that has been cast to the type of the Field.
+     * @param value the cast value
+     * @throws ConstraintsException if one or more constraints are violated
+     * @throws InvalidCastException if the value can't be compared to the constraints
+     */
+    void check(Object value) throws ConstraintsException, InvalidCastException;
+
+    /**
+     * Check a value that has been cast to the type of the Field, without throwing.
+     * @param value the cast value
+     * @return null if the value satisfies the constraints, otherwise why it doesn't
+     */
+    default String findViolation(Object value) {
+        try {
+            check(value);
+            return null;
+        } catch (RuntimeException ex) {
+            return (null != ex.getMessage()) ? ex.getMessage() : ex.getClass().getSimpleName();
+        }
+    }
+}
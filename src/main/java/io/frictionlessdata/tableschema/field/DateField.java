@@ -7,14 +7,13 @@ import io.frictionlessdata.tableschema.exception.TypeInferringException;
 import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.TemporalAccessor;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class DateField extends Field<LocalDate> {
     // ISO8601 format yyyy-MM-dd
-    private static final String REGEX_DATE = "([0-9]{4})-(1[0-2]|0[1-9])-(3[0-1]|0[1-9]|[1-2][0-9])";
+    private static final DateTimeFormatter DEFAULT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final FormatterCache formatterCache = new FormatterCache();
 
     DateField() {
         super();
@@ -32,24 +31,33 @@ public class DateField extends Field<LocalDate> {
     @Override
     public LocalDate parseValue(String value, String format, Map<String, Object> options)
             throws InvalidCastException, ConstraintsException {
-
-        Pattern pattern = Pattern.compile(REGEX_DATE);
-        Matcher matcher = pattern.matcher(value);
-
-        if(matcher.matches()){
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            TemporalAccessor dt = formatter.parse(value);
-
-            return LocalDate.from(dt);
-
-        }else{
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return LocalDate.parse(value, formatterCache.get(format));
+        }
+        LocalDate date = TemporalParser.parseDate(value);
+        if (null == date) {
             throw new TypeInferringException();
         }
+        return date;
+    }
+
+    @Override
+    protected CastResult<LocalDate> tryParseValue(String value, String format, Map<String, Object> options) {
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return formatterCache.matches(format, value)
+                    ? super.tryParseValue(value, format, options)
+                    : invalidValue(value, format);
+        }
+        LocalDate date = TemporalParser.parseDate(value);
+        return (null != date) ? CastResult.of(date) : invalidValue(value, format);
     }
 
     @Override
     public String formatValueAsString(LocalDate value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
-        return value.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return value.format(formatterCache.get(format));
+        }
+        return value.format(DEFAULT_FORMATTER);
     }
 
 
@@ -5,17 +5,18 @@ import io.frictionlessdata.tableschema.exception.InvalidCastException;
 import io.frictionlessdata.tableschema.exception.TypeInferringException;
 
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class DatetimeField extends Field<ZonedDateTime> {
     // ISO 8601 format of yyyy-MM-dd'T'HH:mm:ss.SSSZ in UTC time
-    private static final String REGEX_DATETIME
-            = "(-?(?:[1-9][0-9]*)?[0-9]{4})-(1[0-2]|0[1-9])-(3[01]|0[1-9]|[12][0-9])T(2[0-3]|[01][0-9]):([0-5][0-9]):([0-5][0-9])(\\.[0-9]+)?(Z|[+-](?:2[0-3]|[01][0-9]):[0-5][0-9])?";
+    private static final DateTimeFormatter DEFAULT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+    private final FormatterCache formatterCache = new FormatterCache();
 
     DatetimeField() {
         super();
@@ -33,24 +34,35 @@ public class DatetimeField extends Field<ZonedDateTime> {
     @Override
     public ZonedDateTime parseValue(String value, String format, Map<String, Object> options)
             throws InvalidCastException, ConstraintsException {
-
-        Pattern pattern = Pattern.compile(REGEX_DATETIME);
-        Matcher matcher = pattern.matcher(value);
-
-        if(matcher.matches()){
-            String locValue = value.endsWith("Z") ? value.replace("Z", "")+"+0000" : value;
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
-            TemporalAccessor dt = formatter.parse(locValue);
-
-            return ZonedDateTime.from(dt);
-        }else{
+        if (!TemporalParser.isDefaultFormat(format)) {
+            // formats without zone are read as UTC
+            TemporalAccessor dt = formatterCache.get(format).parseBest(value, ZonedDateTime::from, LocalDateTime::from);
+            return (dt instanceof LocalDateTime) ? ((LocalDateTime) dt).atZone(ZoneOffset.UTC) : (ZonedDateTime) dt;
+        }
+        ZonedDateTime dateTime = TemporalParser.parseDatetime(value);
+        if (null == dateTime) {
             throw new TypeInferringException("DateTime field not in ISO 8601 format yyyy-MM-dd'T'HH:mm:ss.SSSZ");
         }
+        return dateTime;
+    }
+
+    @Override
+    protected CastResult<ZonedDateTime> tryParseValue(String value, String format, Map<String, Object> options) {
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return formatterCache.matches(format, value)
+                    ? super.tryParseValue(value, format, options)
+                    : invalidValue(value, format);
+        }
+        ZonedDateTime dateTime = TemporalParser.parseDatetime(value);
+        return (null != dateTime) ? CastResult.of(dateTime) : invalidValue(value, format);
     }
 
     @Override
     public String formatValueAsString(ZonedDateTime value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
-        return value.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ"));
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return value.format(formatterCache.get(format));
+        }
+        return value.format(DEFAULT_FORMATTER);
     }
 
 
@@ -4,16 +4,11 @@ import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
 import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import org.apache.commons.lang3.StringUtils;
-import org.joda.time.DateTime;
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.time.Duration;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Definition of a field in a data table. Doesn't hold values
@@ -108,6 +103,9 @@ public abstract class Field<T> {
 
     Map<String, Object> constraints = null;
 
+    // compiled from `constraints` on first use
+    private CompiledConstraints compiledConstraints = null;
+
     Map<String, Object> options = null;
 
     /**
@@ -229,9 +227,9 @@ public abstract class Field<T> {
             
                 // Check for constraint violations
                 if(enforceConstraints && this.constraints != null){
-                    Map<String, Object> violatedConstraints = checkConstraintViolations(castValue);
-                    if(!violatedConstraints.isEmpty()){
-                        throw new ConstraintsException("Violated "+ violatedConstraints.size()+" contstraints");
+                    CompiledConstraints compiled = getCompiledConstraints();
+                    if (null != compiled) {
+                        compiled.check(castValue);
                     }
                 }
                 
@@ -247,244 +245,170 @@ public abstract class Field<T> {
     }
     
     /**
-     * Returns a Map with all the constraints that have been violated.
-     * @param value either a JSONArray/JSONObject or a string containing JSON
-     * @return Map containing all the contraints violations
+     * Cast a value like {@link #castValue(String)} does, but report an invalid value or a constraint
+     * violation in the result instead of throwing.
+     * @param value the value string to cast
+     * @return the cast value, or the reason `value` is invalid
      */
-    public Map<String, Object> checkConstraintViolations(Object value){
-       
-        Map<String, Object> violatedConstraints = new HashMap<>();
-        
-        // Indicates whether this field is allowed to be null. If required is true, then null is disallowed. 
-        if(this.constraints.containsKey(CONSTRAINT_KEY_REQUIRED)){
-            if((boolean) this.constraints.get(CONSTRAINT_KEY_REQUIRED) && value == null){
-                violatedConstraints.put(CONSTRAINT_KEY_REQUIRED, true);
-            }
+    public CastResult<T> tryCast(String value) {
+        return tryCast(value, true, null);
+    }
+
+    /**
+     * Cast a value like {@link #castValue(String, boolean, Map)} does, but report an invalid value
+     * or a constraint violation in the result instead of throwing. The built-in Field types detect
+     * invalid values without creating exceptions, which makes this much cheaper on dirty data.
+     * @param value the value string to cast
+     * @param enforceConstraints whether to check Field constraints
+     * @param options casting options
+     * @return the cast value, or the reason `value` is invalid
+     */
+    public CastResult<T> tryCast(String value, boolean enforceConstraints, Map<String, Object> options) {
+        if(this.type.isEmpty()){
+            return CastResult.failure("Property 'type' must not be empty");
+        } else if (StringUtils.isEmpty(value)) {
+            return CastResult.of(null);
         }
-        
-        // All values for that field MUST be unique within the data file in which it is found.
-        // Can't check UNIQUE constraint when operating with only one value.
-        // TODO: Implement a method that takes List<Object> value as argument.
-        /*
-        if(this.constraints.containsKey(CONSTRAINT_KEY_UNIQUE)){
-    
-        }*/
-        
-        // An integer that specifies the minimum length of a value.
-        if(this.constraints.containsKey(CONSTRAINT_KEY_MIN_LENGTH)){
-            int minLength = (int)this.constraints.get(CONSTRAINT_KEY_MIN_LENGTH);
- 
-            if(value instanceof String){
-                if(((String)value).length() < minLength){
-                    violatedConstraints.put(CONSTRAINT_KEY_MIN_LENGTH, minLength);
-                }
-                
-            }else if (value instanceof JSONObject){
-                if(((JSONObject)value).length() < minLength){
-                    violatedConstraints.put(CONSTRAINT_KEY_MIN_LENGTH, minLength);
-                }
-                 
-            }else if (value instanceof JSONArray){
-                if(((JSONArray)value).length() < minLength){
-                    violatedConstraints.put(CONSTRAINT_KEY_MIN_LENGTH, minLength);
-                }                
+        CastResult<T> result = tryParseValue(value, format, options);
+        if (result.isValid() && enforceConstraints && (null != this.constraints)) {
+            String violation;
+            try {
+                CompiledConstraints compiled = getCompiledConstraints();
+                violation = (null != compiled) ? compiled.findViolation(result.getValue()) : null;
+            } catch (Exception e) {
+                violation = "Invalid constraints: " + e.getMessage();
+            }
+            if (null != violation) {
+                return CastResult.failure(violation);
             }
         }
-        
-        // An integer that specifies the maximum length of a value.
-        if(this.constraints.containsKey(CONSTRAINT_KEY_MAX_LENGTH)){
-            int maxLength = (int)this.constraints.get(CONSTRAINT_KEY_MAX_LENGTH);
-            
-            if(value instanceof String){
-                if(((String)value).length() > maxLength){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAX_LENGTH, maxLength);
-                }
-                
-            }else if (value instanceof JSONObject){
-                if(((JSONObject)value).length() > maxLength){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAX_LENGTH, maxLength);
-                }
-                 
-            }else if (value instanceof JSONArray){
-                if(((JSONArray)value).length() > maxLength){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAX_LENGTH, maxLength);
-                }                
-            }  
-        }
-        
-        /*
-         * Specifies a minimum value for a field.
-         * This is different to minLength which checks the number of items in the value.
-         * A minimum value constraint checks whether a field value is greater than or equal to the specified value.
-         * The range checking depends on the type of the field.
-         * E.g. an integer field may have a minimum value of 100; a date field might have a minimum date.
-         * If a minimum value constraint is specified then the field descriptor MUST contain a type key.
-         **/
-        if(this.constraints.containsKey(CONSTRAINT_KEY_MINIMUM)){
-            
-            if(value instanceof Integer){
-                int minInt = (int)this.constraints.get(CONSTRAINT_KEY_MINIMUM);
-                if((int)value < minInt){
-                    violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minInt);
-                }
-                
-            }else if(value instanceof DateTime){
-                DateTime minDateTime = (DateTime)this.constraints.get(CONSTRAINT_KEY_MINIMUM);
-                if(((DateTime)value).isBefore(minDateTime)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minDateTime);
-                }
-                
-            }else if(value instanceof Duration){
-                Duration minDuration = (Duration)this.constraints.get(CONSTRAINT_KEY_MINIMUM);
-                if(((Duration)value).compareTo(minDuration) < 0){
-                    violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minDuration);
-                }
-            } 
+        return result;
+    }
+
+    /**
+     * Parse a non-empty value like {@link #parseValue(String, String, Map)}, but report an invalid
+     * value in the result. This implementation catches the exceptions of `parseValue()`, Field types
+     * override it to detect invalid values without creating exceptions.
+     * @param value the value string to parse, not empty
+     * @param format the format of the value
+     * @param options casting options
+     * @return the parsed value, or the reason `value` is invalid
+     */
+    protected CastResult<T> tryParseValue(String value, String format, Map<String, Object> options) {
+        try {
+            return CastResult.of(parseValue(value, format, options));
+        } catch (Exception e) {
+            return invalidValue(value, format);
         }
-        
-        // As for minimum, but specifies a maximum value for a field.
-        if(this.constraints.containsKey(CONSTRAINT_KEY_MAXIMUM)){
-            
-            if(value instanceof Integer){
-                int maxInt = (int)this.constraints.get(CONSTRAINT_KEY_MAXIMUM);
-                if((int)value > maxInt){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxInt);
-                }
-                
-            }else if(value instanceof DateTime){
-                DateTime maxDateTime = (DateTime)this.constraints.get(CONSTRAINT_KEY_MAXIMUM);
-                
-                if(((DateTime)value).isAfter(maxDateTime)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxDateTime);
-                }
-                
-            }else if(value instanceof Duration){
-                Duration maxDuration = (Duration)this.constraints.get(CONSTRAINT_KEY_MAXIMUM);
-                if(((Duration)value).compareTo(maxDuration) > 0){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxDuration);
-                }
-            } 
+    }
+
+    /**
+     * @param value the value string that couldn't be parsed
+     * @param format the format of the value
+     * @return an invalid result naming the value and the type and format of this Field
+     */
+    protected CastResult<T> invalidValue(String value, String format) {
+        String reason = "Value '" + value + "' is not a valid " + type;
+        if ((null != format) && !format.isEmpty() && !format.equalsIgnoreCase(FIELD_FORMAT_DEFAULT)) {
+            reason += " in format '" + format + "'";
         }
-        
-        // A regular expression that can be used to test field values. If the regular expression matches then the value is valid.
-        if(this.constraints.containsKey(CONSTRAINT_KEY_PATTERN)){
-            String regexPatternString = (String)this.constraints.get(CONSTRAINT_KEY_PATTERN);
-            
-            // Constraint only applies to a String value.
-            if(value instanceof String){       
-                Pattern pattern = Pattern.compile(regexPatternString);
-                Matcher matcher = pattern.matcher((String)value);
-                
-                if(!matcher.matches()){
-                    violatedConstraints.put(CONSTRAINT_KEY_PATTERN, regexPatternString);
-                }
-            
-            }else{
-                // If the value is not a String, then just interpret as a constraint violation.
-                violatedConstraints.put(CONSTRAINT_KEY_PATTERN, regexPatternString);
-            }
+        return CastResult.failure(reason);
+    }
+
+    /**
+     * Resolve type and format of this Field into a caster that behaves like
+     * {@link #castValue(String, boolean, Map)} without enforcing constraints, for casting
+     * many values without looking up the Field definition every time.
+     * @param options casting options
+     * @return a caster for values of this Field
+     */
+    public FieldCaster<T> getCaster(Map<String, Object> options) {
+        if(this.type.isEmpty()){
+            return (value) -> {
+                throw new InvalidCastException("Property 'type' must not be empty");
+            };
         }
-        
-        // The value of the field must exactly match a value in the enum array.
-        if(this.constraints.containsKey(CONSTRAINT_KEY_ENUM)){
-            boolean violatesEnumConstraint = true;
-            
-            if(value instanceof String){
-                List<String> stringList = (List<String>)this.constraints.get(CONSTRAINT_KEY_ENUM); 
-                
-                Iterator<String> iter = stringList.iterator();
-                while(iter.hasNext()){
-                    if(iter.next().equalsIgnoreCase((String)value)){
-                        violatesEnumConstraint = false;
-                        break;
-                    }
-                }
-                
-            }else if(value instanceof JSONObject){
-                List<JSONObject> jsonObjList = (List<JSONObject>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-                
-                Iterator<JSONObject> iter = jsonObjList.iterator();
-                while(iter.hasNext()){
-                    if(iter.next().similar((JSONObject)value)){
-                        violatesEnumConstraint = false;
-                        break;
-                    }
-                }
-                
-            }else if(value instanceof JSONArray){
-                List<JSONArray> jsonArrList = (List<JSONArray>)this.constraints.get(CONSTRAINT_KEY_ENUM); 
-                
-                Iterator<JSONArray> iter = jsonArrList.iterator();
-                while(iter.hasNext()){
-                    if(iter.next().similar((JSONArray)value)){
-                        violatesEnumConstraint = false;
-                        break;
-                    }
+        final String format = this.format;
+        return new FieldCaster<T>() {
+            @Override
+            public T cast(String value) {
+                if (StringUtils.isEmpty(value)) {
+                    return null;
                 }
-                
-            }else if(value instanceof Integer){
-                List<Integer> intList = (List<Integer>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-                
-                Iterator<Integer> iter = intList.iterator();
-                while(iter.hasNext()){
-                    if(iter.next() == (int)value){
-                        violatesEnumConstraint = false;
-                        break;
-                    }
+                try {
+                    return parseValue(value, format, options);
+                } catch (ConstraintsException ce) {
+                    throw ce;
+                } catch (Exception e) {
+                    throw new InvalidCastException(e);
                 }
-                
-            }else if(value instanceof DateTime){
-                List<DateTime> dateTimeList = (List<DateTime>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-                
-                Iterator<DateTime> iter = dateTimeList.iterator();
-                while(iter.hasNext()){
-                    if(iter.next().compareTo((DateTime)value) == 0){
-                        violatesEnumConstraint = false;
-                        break;
-                    }
-                }
-                
-            }else if(value instanceof Duration){
-                List<Duration> durationList = (List<Duration>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-                
-                Iterator<Duration> iter = durationList.iterator();
-                while(iter.hasNext()){
-                    if(iter.next().compareTo((Duration)value) == 0){
-                        violatesEnumConstraint = false;
-                        break;
-                    }
-                }
-                
             }
-            
-            if(violatesEnumConstraint){
-                violatedConstraints.put(CONSTRAINT_KEY_ENUM, this.constraints.get(CONSTRAINT_KEY_ENUM));
+
+            @Override
+            public CastResult<T> tryCast(String value) {
+                if (StringUtils.isEmpty(value)) {
+                    return CastResult.of(null);
+                }
+                return tryParseValue(value, format, options);
             }
-        }
-        
-        return violatedConstraints;
+        };
     }
 
-    public static Field forType(String type, String name) {
-        Field field = null;
-        Class<?> clazz = null;
+    /**
+     * Resolve the constraints of this Field into a checker for cast values, which throws
+     * the same exceptions as {@link #castValue(String, boolean, Map)} does.
+     * @return a checker, or null if this Field has no constraints
+     */
+    public ConstraintsChecker getConstraintsChecker() {
+        if ((null == this.constraints) || this.constraints.isEmpty()) {
+            return null;
+        }
+        CompiledConstraints compiled;
         try {
-            String className =
-                    "io.frictionlessdata.tableschema.field."
-                            + type.substring(0, 1).toUpperCase() + type.substring(1)
-                            + "Field";
-            clazz = Class.forName(className);
-            field = (Field)clazz.newInstance();
-            field.name = name;
-            field.type = type;
-        } catch (InstantiationException | IllegalAccessException ex) {
-            throw new RuntimeException(ex);
-            // didn't find a field definition, just return as
-            // AnyField
-        } catch (ClassNotFoundException ex) {
-            field = new AnyField(name);
+            compiled = getCompiledConstraints();
+        } catch (Exception e) {
+            return (value) -> {
+                throw new InvalidCastException(e);
+            };
         }
-        return field;
+        return compiled;
+    }
+
+    /**
+     * Returns a Map with all the constraints that have been violated.
+     * @param value either a JSONArray/JSONObject or a string containing JSON
+     * @return Map containing all the contraints violations
+     */
+    public Map<String, Object> checkConstraintViolations(Object value){
+        CompiledConstraints compiled = getCompiledConstraints();
+        if (null == compiled) {
+            return new HashMap<>();
+        }
+        return new HashMap<>(compiled.violations(value));
+    }
+
+    /**
+     * Returns the constraints of this Field compiled for checking values, compiled again if the
+     * constraints have been replaced or changed since
+     * @return the compiled constraints, or null if this Field has no constraints
+     */
+    CompiledConstraints getCompiledConstraints() {
+        CompiledConstraints compiled = this.compiledConstraints;
+        if ((null == compiled) || !compiled.source.equals(this.constraints)) {
+            compiled = CompiledConstraints.compile(this);
+            this.compiledConstraints = compiled;
+        }
+        return compiled;
+    }
+
+    /**
+     * Create a Field of a type registered in the {@link FieldTypeRegistry#getDefault() default registry}
+     * @param type the type name
+     * @param name the name of the Field
+     * @return the Field, an {@link AnyField} if the type is unknown
+     */
+    public static Field forType(String type, String name) {
+        return FieldTypeRegistry.getDefault().create(type, name);
     }
 
     /**
@@ -0,0 +1,38 @@
+package io.frictionlessdata.tableschema.field;
+
+import io.frictionlessdata.tableschema.exception.ConstraintsException;
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+/**
+ * Casts String values into the type of a {@link Field}, with format and options already resolved.
+ * Obtained via {@link Field#getCaster(java.util.Map)} once and then applied to many values.
+ *
+ * @param <T> the Java type of the Field's values
+ */
+@FunctionalInterface
+public interface FieldCaster<T> {
+
+    /**
+     * Cast a value. Empty values are cast to null.
+     * @param value the value string to cast
+     * @return result of the cast operation
+     * @throws InvalidCastException if the content of `value` cannot be cast to the destination type
+     * @throws ConstraintsException if parsing detected a constraint violation
+     */
+    T cast(String value) throws InvalidCastException, ConstraintsException;
+
+    /**
+     * Cast a value, reporting an invalid value in the result instead of throwing. The casters of the
+     * built-in Fields detect invalid values without creating exceptions; this default catches them.
+     * @param value the value string to cast
+     * @return the cast value, or the reason `value` can't be cast
+     */
+    default CastResult<T> tryCast(String value) {
+        try {
+            return CastResult.of(cast(value));
+        } catch (TableSchemaException ex) {
+            return CastResult.failure(ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.frictionlessdata.tableschema.field;
+
+/**
+ * Service provider interface for adding Field types to the {@link FieldTypeRegistry#getDefault() default
+ * registry}. Implementations are found with {@link java.util.ServiceLoader}: list the class name in
+ * `META-INF/services/io.frictionlessdata.tableschema.field.FieldTypeProvider` and give it a public
+ * no-argument constructor.
+ *
+ * Providers are applied after the built-in types are registered, so they can also replace built-in types.
+ */
+public interface FieldTypeProvider {
+
+    /**
+     * Register the Field types of this provider
+     * @param registry the registry to add the types to
+     */
+    void registerTypes(FieldTypeRegistry registry);
+}
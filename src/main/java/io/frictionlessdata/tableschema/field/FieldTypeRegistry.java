@@ -0,0 +1,113 @@
+package io.frictionlessdata.tableschema.field;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static io.frictionlessdata.tableschema.field.Field.*;
+
+/**
+ * Maps Field type names to factories creating Fields of that type, used by {@link Field#forType(String, String)}
+ * and thus when reading Schemas and inferring types. Creating a Field is a Map lookup and a constructor
+ * call, without reflection.
+ *
+ * A new registry knows the types of the Table Schema spec. The {@link #getDefault() default registry}
+ * additionally holds the types of all {@link FieldTypeProvider}s found by {@link ServiceLoader}, and
+ * types can be {@link #register(String, Function) registered} at runtime.
+ *
+ * Thread-safe.
+ */
+public final class FieldTypeRegistry {
+    private final Map<String, Function<String, ? extends Field>> factories = new ConcurrentHashMap<>();
+
+    /**
+     * Create a registry with the built-in Field types
+     */
+    public FieldTypeRegistry() {
+        register(FIELD_TYPE_STRING, StringField::new);
+        register(FIELD_TYPE_INTEGER, IntegerField::new);
+        register(FIELD_TYPE_NUMBER, NumberField::new);
+        register(FIELD_TYPE_BOOLEAN, BooleanField::new);
+        register(FIELD_TYPE_OBJECT, ObjectField::new);
+        register(FIELD_TYPE_ARRAY, ArrayField::new);
+        register(FIELD_TYPE_DATE, DateField::new);
+        register(FIELD_TYPE_TIME, TimeField::new);
+        register(FIELD_TYPE_DATETIME, DatetimeField::new);
+        register(FIELD_TYPE_YEAR, YearField::new);
+        register(FIELD_TYPE_YEARMONTH, YearmonthField::new);
+        register(FIELD_TYPE_DURATION, DurationField::new);
+        register(FIELD_TYPE_GEOPOINT, GeopointField::new);
+        register(FIELD_TYPE_GEOJSON, GeojsonField::new);
+        register(FIELD_TYPE_ANY, AnyField::new);
+    }
+
+    /**
+     * Returns the registry used by {@link Field#forType(String, String)}, holding the built-in types and
+     * those of the {@link FieldTypeProvider}s on the classpath
+     * @return the default registry
+     */
+    public static FieldTypeRegistry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Register a Field type, replacing an existing registration of the type name
+     * @param type the type name as used in Schemas
+     * @param factory creates a Field of the type from the Field name
+     * @return this registry
+     */
+    public FieldTypeRegistry register(String type, Function<String, ? extends Field> factory) {
+        if ((null == type) || type.isEmpty()) {
+            throw new IllegalArgumentException("Field type must not be empty");
+        }
+        if (null == factory) {
+            throw new IllegalArgumentException("Factory for Field type " + type + " must not be null");
+        }
+        factories.put(type, factory);
+        return this;
+    }
+
+    /**
+     * @param type a type name
+     * @return true if Fields of the type can be created
+     */
+    public boolean isRegistered(String type) {
+        return (null != type) && factories.containsKey(type);
+    }
+
+    /**
+     * @return the names of the registered types
+     */
+    public Set<String> getTypes() {
+        return Collections.unmodifiableSet(factories.keySet());
+    }
+
+    /**
+     * Create a Field of a type. Type names are looked up as given, then with a lower case first letter.
+     * @param type the type name
+     * @param name the name of the Field
+     * @return the Field, an {@link AnyField} if the type is not registered
+     */
+    public Field create(String type, String name) {
+        Function<String, ? extends Field> factory = (null != type) ? factories.get(type) : null;
+        if ((null == factory) && (null != type) && !type.isEmpty()) {
+            factory = factories.get(Character.toLowerCase(type.charAt(0)) + type.substring(1));
+        }
+        return (null != factory) ? factory.apply(name) : new AnyField(name);
+    }
+
+    private static final class DefaultHolder {
+        private static final FieldTypeRegistry INSTANCE = createDefault();
+
+        private static FieldTypeRegistry createDefault() {
+            FieldTypeRegistry registry = new FieldTypeRegistry();
+            for (FieldTypeProvider provider : ServiceLoader.load(FieldTypeProvider.class)) {
+                provider.registerTypes(registry);
+            }
+            return registry;
+        }
+    }
+}
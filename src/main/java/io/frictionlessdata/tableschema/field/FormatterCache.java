@@ -0,0 +1,58 @@
+package io.frictionlessdata.tableschema.field;
+
+import java.text.ParsePosition;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Holds the formatter compiled from the last non-default `format` a temporal Field was asked to parse or
+ * format with, so the pattern is compiled once per Field instead of once per value. The format of a Field
+ * can change, the formatter is compiled again then.
+ *
+ * Thread-safe: format and formatter are published together.
+ */
+final class FormatterCache {
+    private volatile Entry entry = null;
+
+    /**
+     * @param format a non-default format
+     * @return the formatter for `format`
+     * @throws IllegalArgumentException if the format can't be compiled
+     */
+    DateTimeFormatter get(String format) {
+        Entry current = entry;
+        if ((null != current) && ((current.format == format) || current.format.equals(format))) {
+            return current.formatter;
+        }
+        DateTimeFormatter formatter = TemporalParser.compileFormat(format);
+        entry = new Entry(format, formatter);
+        return formatter;
+    }
+
+    /**
+     * Check a value against a non-default format without the exception parsing throws for values
+     * that don't match. Matching values may still fail to resolve, like the 31st of a 30 day month.
+     * @param format a non-default format
+     * @param value the value to check
+     * @return false if `value` doesn't match the format, or the format can't be compiled
+     */
+    boolean matches(String format, String value) {
+        DateTimeFormatter formatter;
+        try {
+            formatter = get(format);
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+        ParsePosition position = new ParsePosition(0);
+        return (null != formatter.parseUnresolved(value, position)) && (position.getIndex() == value.length());
+    }
+
+    private static final class Entry {
+        private final String format;
+        private final DateTimeFormatter formatter;
+
+        Entry(String format, DateTimeFormatter formatter) {
+            this.format = format;
+            this.formatter = formatter;
+        }
+    }
+}
@@ -29,9 +29,27 @@ public class IntegerField extends Field<BigInteger> {
 
     @Override
     public BigInteger parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
+        long[] result = new long[2];
+        if (NumberScanner.PLAIN.scan(value, result) == NumberScanner.INTEGER) {
+            return BigInteger.valueOf(result[0]);
+        }
+        // too large for a long, or not an integer: let BigInteger decide
         return new BigInteger(value.trim());
     }
 
+    @Override
+    protected CastResult<BigInteger> tryParseValue(String value, String format, Map<String, Object> options) {
+        long[] result = new long[2];
+        switch (NumberScanner.PLAIN.scan(value, result)) {
+            case NumberScanner.INTEGER:
+                return CastResult.of(BigInteger.valueOf(result[0]));
+            case NumberScanner.ARBITRARY:
+                return super.tryParseValue(value, format, options);
+            default:
+                return invalidValue(value, format);
+        }
+    }
+
     @Override
     public String formatValueAsString(BigInteger value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
         return value.toString();
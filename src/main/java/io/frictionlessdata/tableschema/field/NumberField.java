@@ -3,14 +3,13 @@ package io.frictionlessdata.tableschema.field;
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
 import io.frictionlessdata.tableschema.exception.TypeInferringException;
+import org.apache.commons.lang3.StringUtils;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.text.NumberFormat;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 
 /**
@@ -19,14 +18,9 @@ import java.util.regex.Pattern;
  */
 
 public class NumberField extends Field<Number> {
-    private static final String NUMBER_OPTION_DECIMAL_CHAR = "decimalChar";
-    private static final String NUMBER_OPTION_GROUP_CHAR = "groupChar";
-    private static final String NUMBER_OPTION_BARE_NUMBER = "bareNumber";
-    private static final String NUMBER_DEFAULT_DECIMAL_CHAR = ".";
-    private static final String NUMBER_DEFAULT_GROUP_CHAR = "";
-
-    private static final String REGEX_INTEGER = "[+-]?\\d+";
-    private static final String REGEX_BARE_NUMBER = "((^\\D*)|(\\D*$))";
+    public static final String NUMBER_OPTION_DECIMAL_CHAR = "decimalChar";
+    public static final String NUMBER_OPTION_GROUP_CHAR = "groupChar";
+    public static final String NUMBER_OPTION_BARE_NUMBER = "bareNumber";
 
     private static final NumberFormat numberFormat = NumberFormat.getInstance();
     static {
@@ -49,47 +43,116 @@ public class NumberField extends Field<Number> {
 
     @Override
     public Number parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
-        String locValue = value.trim();
         try{
-            if (value.equalsIgnoreCase("null"))
-                return null;
-            if (value.length() == 0)
-                return null;
-            if(options != null){
-                if(options.containsKey(NUMBER_OPTION_DECIMAL_CHAR)){
-                    locValue = locValue.replace((String)options.get(NUMBER_OPTION_DECIMAL_CHAR), NUMBER_DEFAULT_DECIMAL_CHAR);
-                }
+            return parseNumber(NumberScanner.forOptions(options), value);
+        }catch(Exception e){
+            throw new TypeInferringException();
+        }
+    }
 
-                if(options.containsKey(NUMBER_OPTION_GROUP_CHAR)){
-                    locValue = locValue.replace((String)options.get(NUMBER_OPTION_GROUP_CHAR), NUMBER_DEFAULT_GROUP_CHAR);
+    @Override
+    protected CastResult<Number> tryParseValue(String value, String format, Map<String, Object> options) {
+        NumberScanner scanner;
+        try {
+            scanner = NumberScanner.forOptions(options);
+        } catch (RuntimeException ex) {
+            return invalidValue(value, format);
+        }
+        return tryParseNumber(scanner, value, format);
+    }
+
+    /**
+     * Resolves the number options once, instead of for every value like {@link #parseValue(String, String, Map)}
+     * @param options casting options
+     * @return a caster for values of this Field
+     */
+    @Override
+    public FieldCaster<Number> getCaster(Map<String, Object> options) {
+        if (this.type.isEmpty()) {
+            return super.getCaster(options);
+        }
+        final NumberScanner scanner;
+        try {
+            scanner = NumberScanner.forOptions(options);
+        } catch (RuntimeException ex) {
+            // invalid options fail on every value
+            return super.getCaster(options);
+        }
+        final String format = this.format;
+        return new FieldCaster<Number>() {
+            @Override
+            public Number cast(String value) {
+                if (StringUtils.isEmpty(value)) {
+                    return null;
+                }
+                try {
+                    return parseNumber(scanner, value);
+                } catch (Exception e) {
+                    throw new InvalidCastException(new TypeInferringException());
                 }
+            }
 
-                if(options.containsKey(NUMBER_OPTION_BARE_NUMBER) && !(boolean)options.get(NUMBER_OPTION_BARE_NUMBER)){
-                    locValue = locValue.replaceAll(REGEX_BARE_NUMBER, "");
+            @Override
+            public CastResult<Number> tryCast(String value) {
+                if (StringUtils.isEmpty(value)) {
+                    return CastResult.of(null);
                 }
+                return tryParseNumber(scanner, value, format);
             }
+        };
+    }
 
-            // Try to match integer pattern
-            Pattern intPattern = Pattern.compile(REGEX_INTEGER);
-            Matcher integerMatcher = intPattern.matcher(locValue);
+    private CastResult<Number> tryParseNumber(NumberScanner scanner, String value, String format) {
+        if (value.equalsIgnoreCase("null")) {
+            return CastResult.of(null);
+        }
+        try {
+            Number number = toNumber(scanner, value);
+            return (null != number) ? CastResult.of(number) : invalidValue(value, format);
+        } catch (RuntimeException ex) {
+            // arbitrary precision values BigInteger or BigDecimal reject
+            return invalidValue(value, format);
+        }
+    }
 
-            if(integerMatcher.matches()){
-                return new BigInteger(locValue);
-            }
+    private static Number parseNumber(NumberScanner scanner, String value) {
+        if (value.equalsIgnoreCase("null") || (value.length() == 0)) {
+            return null;
+        }
+        Number number = toNumber(scanner, value);
+        if (null == number) {
+            throw new TypeInferringException();
+        }
+        return number;
+    }
 
+    /**
+     * Integers are returned as BigInteger, decimals as BigDecimal, both built from a long without
+     * parsing the value again if the digits fit. NaN and infinity are returned as Double, invalid
+     * values as null
+     */
+    private static Number toNumber(NumberScanner scanner, String value) {
+        long[] result = new long[2];
+        switch (scanner.scan(value, result)) {
+            case NumberScanner.INTEGER:
+                return BigInteger.valueOf(result[0]);
+            case NumberScanner.DECIMAL:
+                return BigDecimal.valueOf(result[0], (int) result[1]);
             // BigDecimal doesn't have NAN, INF...
-            if (locValue.equalsIgnoreCase("NaN")) {
+            case NumberScanner.NAN:
                 return Double.NaN;
-            } else if (locValue.equalsIgnoreCase("INF")) {
+            case NumberScanner.POSITIVE_INFINITY:
                 return Double.POSITIVE_INFINITY;
-            } else if (locValue.equalsIgnoreCase("-INF")) {
+            case NumberScanner.NEGATIVE_INFINITY:
                 return Double.NEGATIVE_INFINITY;
-            }
-            return new BigDecimal(locValue);
-        }catch(Exception e){
-            throw new TypeInferringException();
+            case NumberScanner.ARBITRARY:
+                String locValue = scanner.normalize(value);
+                return NumberScanner.isInteger(locValue) ? new BigInteger(locValue) : new BigDecimal(locValue);
+            default:
+                return null;
         }
     }
+
     public Object formatValueForJson(Number value) throws InvalidCastException, ConstraintsException {
         return formatValueAsString(value, null, options);
     }
@@ -0,0 +1,265 @@
+package io.frictionlessdata.tableschema.field;
+
+import java.util.Map;
+
+/**
+ * Single-pass scanner for the lexical forms of {@link NumberField} and {@link IntegerField} values,
+ * handling the `decimalChar`, `groupChar` and `bareNumber` options inline instead of rewriting the value
+ * with regular expressions and String replacements first.
+ *
+ * Values whose digits fit into a long are returned as unscaled long and scale, from which the caller
+ * builds a `long`, `double`, `BigInteger` or `BigDecimal` without parsing again. Values needing arbitrary
+ * precision are reported as {@link #ARBITRARY}, the caller then parses the {@link #normalize(String)}d
+ * value with BigInteger or BigDecimal.
+ *
+ * Instances are immutable and can be shared between threads.
+ */
+public final class NumberScanner {
+    /** The value is not a number */
+    public static final int INVALID = 0;
+    /** An integer without decimal point or exponent, its value is in `result[0]` */
+    public static final int INTEGER = 1;
+    /** A decimal number, its unscaled value is in `result[0]`, the scale in `result[1]` */
+    public static final int DECIMAL = 2;
+    public static final int NAN = 3;
+    public static final int POSITIVE_INFINITY = 4;
+    public static final int NEGATIVE_INFINITY = 5;
+    /** The value needs arbitrary precision or contains non-ASCII characters, see {@link #normalize(String)} */
+    public static final int ARBITRARY = 6;
+
+    /** Scanner without options: '.' as decimal point, no group character, bare numbers only */
+    public static final NumberScanner PLAIN = new NumberScanner(".", null, true);
+
+    // accumulating another digit can't overflow below this
+    private static final long MAX_BEFORE_DIGIT = (Long.MAX_VALUE - 9) / 10;
+    private static final int MAX_EXPONENT = 999_999_999;
+
+    private final String decimalChar;
+    private final String groupChar;
+    private final boolean bareNumber;
+
+    /**
+     * @param decimalChar the decimal separator, '.' is accepted as well unless it is the group character
+     * @param groupChar the group separator, skipped wherever it appears. Null or empty for none
+     * @param bareNumber false to ignore non-digit characters before the first and after the last digit
+     */
+    public NumberScanner(String decimalChar, String groupChar, boolean bareNumber) {
+        if ((null == decimalChar) || decimalChar.isEmpty()) {
+            throw new IllegalArgumentException("Decimal character must not be empty");
+        }
+        this.decimalChar = decimalChar;
+        this.groupChar = ((null == groupChar) || groupChar.isEmpty()) ? null : groupChar;
+        this.bareNumber = bareNumber;
+    }
+
+    /**
+     * Returns the scanner for the number options in a casting options Map
+     * @param options casting options, may be null
+     * @return the scanner, {@link #PLAIN} if no number options are set
+     */
+    public static NumberScanner forOptions(Map<String, Object> options) {
+        if (null == options) {
+            return PLAIN;
+        }
+        Object decimalChar = options.get(NumberField.NUMBER_OPTION_DECIMAL_CHAR);
+        Object groupChar = options.get(NumberField.NUMBER_OPTION_GROUP_CHAR);
+        Object bareNumber = options.get(NumberField.NUMBER_OPTION_BARE_NUMBER);
+        if ((null == decimalChar) && (null == groupChar) && (null == bareNumber)) {
+            return PLAIN;
+        }
+        return new NumberScanner(
+                (null != decimalChar) ? (String) decimalChar : ".",
+                (String) groupChar,
+                (null == bareNumber) || (Boolean) bareNumber);
+    }
+
+    /**
+     * Scan a value, trimmed like String.trim() does
+     * @param value the value to scan
+     * @param result receives the unscaled value in `result[0]` and the scale in `result[1]`
+     * @return the kind of value, one of the constants of this class
+     */
+    public int scan(String value, long[] result) {
+        int end = value.length();
+        int start = 0;
+        while ((start < end) && (value.charAt(start) <= ' ')) {
+            start++;
+        }
+        while ((end > start) && (value.charAt(end - 1) <= ' ')) {
+            end--;
+        }
+        if (!bareNumber) {
+            while ((start < end) && !isDigit(value.charAt(start))) {
+                start++;
+            }
+            while ((end > start) && !isDigit(value.charAt(end - 1))) {
+                end--;
+            }
+        }
+        if (start == end) {
+            return INVALID;
+        }
+        int special = scanSpecial(value, start, end);
+        if (special != INVALID) {
+            return special;
+        }
+
+        int i = start;
+        char c = value.charAt(i);
+        boolean negative = (c == '-');
+        if (negative || (c == '+')) {
+            i++;
+        }
+        long unscaled = 0;
+        boolean overflow = false;
+        boolean anyDigit = false;
+        boolean point = false;
+        long fractionDigits = 0;
+        while (i < end) {
+            c = value.charAt(i);
+            if (isDigit(c)) {
+                anyDigit = true;
+                if (unscaled > MAX_BEFORE_DIGIT) {
+                    overflow = true;
+                } else {
+                    unscaled = unscaled * 10 + (c - '0');
+                }
+                if (point) {
+                    fractionDigits++;
+                }
+                i++;
+            } else if ((null != groupChar) && value.startsWith(groupChar, i)) {
+                i += groupChar.length();
+            } else if (!point && value.startsWith(decimalChar, i)) {
+                point = true;
+                i += decimalChar.length();
+            } else if (!point && (c == '.')) {
+                point = true;
+                i++;
+            } else if (c >= 0x80) {
+                return ARBITRARY;
+            } else {
+                break;
+            }
+        }
+        if (!anyDigit) {
+            return INVALID;
+        }
+
+        boolean hasExponent = false;
+        long exponent = 0;
+        if ((i < end) && ((value.charAt(i) == 'e') || (value.charAt(i) == 'E'))) {
+            hasExponent = true;
+            i++;
+            boolean negativeExponent = false;
+            if ((i < end) && ((value.charAt(i) == '-') || (value.charAt(i) == '+'))) {
+                negativeExponent = (value.charAt(i) == '-');
+                i++;
+            }
+            boolean anyExponentDigit = false;
+            while (i < end) {
+                c = value.charAt(i);
+                if (isDigit(c)) {
+                    anyExponentDigit = true;
+                    exponent = exponent * 10 + (c - '0');
+                    if (exponent > MAX_EXPONENT) {
+                        return ARBITRARY;
+                    }
+                    i++;
+                } else if ((null != groupChar) && value.startsWith(groupChar, i)) {
+                    i += groupChar.length();
+                } else if (c >= 0x80) {
+                    return ARBITRARY;
+                } else {
+                    return INVALID;
+                }
+            }
+            if (!anyExponentDigit) {
+                return INVALID;
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        if (i != end) {
+            return (value.charAt(i) >= 0x80) ? ARBITRARY : INVALID;
+        }
+        long scale = fractionDigits - exponent;
+        if (overflow || (scale > Integer.MAX_VALUE) || (scale < Integer.MIN_VALUE)) {
+            return ARBITRARY;
+        }
+        result[0] = negative ? -unscaled : unscaled;
+        if (!point && !hasExponent) {
+            return INTEGER;
+        }
+        result[1] = scale;
+        return DECIMAL;
+    }
+
+    /**
+     * Rewrite a value into the form BigInteger and BigDecimal parse: trimmed, non-digits around the number
+     * removed if numbers aren't bare, group characters removed and '.' as decimal point
+     * @param value the value to rewrite
+     * @return the rewritten value
+     */
+    public String normalize(String value) {
+        String locValue = value.trim();
+        int start = 0;
+        int end = locValue.length();
+        if (!bareNumber) {
+            while ((start < end) && !isDigit(locValue.charAt(start))) {
+                start++;
+            }
+            while ((end > start) && !isDigit(locValue.charAt(end - 1))) {
+                end--;
+            }
+        }
+        StringBuilder sb = new StringBuilder(end - start);
+        int i = start;
+        while (i < end) {
+            if ((null != groupChar) && locValue.startsWith(groupChar, i)) {
+                i += groupChar.length();
+            } else if (locValue.startsWith(decimalChar, i)) {
+                sb.append('.');
+                i += decimalChar.length();
+            } else {
+                sb.append(locValue.charAt(i));
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param value a normalized value
+     * @return true if the value is an optionally signed run of ASCII digits
+     */
+    static boolean isInteger(String value) {
+        int start = ((value.length() > 0) && ((value.charAt(0) == '-') || (value.charAt(0) == '+'))) ? 1 : 0;
+        if (start == value.length()) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int scanSpecial(String value, int start, int end) {
+        int length = end - start;
+        if ((length == 3) && value.regionMatches(true, start, "NaN", 0, 3)) {
+            return NAN;
+        } else if ((length == 3) && value.regionMatches(true, start, "INF", 0, 3)) {
+            return POSITIVE_INFINITY;
+        } else if ((length == 4) && value.regionMatches(true, start, "-INF", 0, 4)) {
+            return NEGATIVE_INFINITY;
+        }
+        return INVALID;
+    }
+
+    private static boolean isDigit(char c) {
+        return (c >= '0') && (c <= '9');
+    }
+}
@@ -0,0 +1,336 @@
+package io.frictionlessdata.tableschema.field;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Character-level parsers for the default formats of the temporal Field types, which avoid compiling
+ * regular expressions and DateTimeFormatters or going through a TemporalAccessor for every value:
+ *
+ * - date: `yyyy-MM-dd`
+ * - time: `HH:mm:ss` or `HH:mm`
+ * - datetime: `yyyy-MM-dd'T'HH:mm:ss`, optionally with fractional seconds, followed by `Z` or an offset
+ *   like `+01:00`
+ * - year: `yyyy`
+ * - yearmonth: `yyyy-MM`
+ *
+ * A day of month beyond the end of the month is moved to the last day of the month, as the
+ * DateTimeFormatters previously used did. The parsers return null for values not in the default format,
+ * so the Field can raise its usual exception.
+ *
+ * Non-default formats are handled by {@link #compileFormat(String)}.
+ */
+public final class TemporalParser {
+    private static final int DAYS_PER_CYCLE = 146097;
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    private TemporalParser() {}
+
+    /**
+     * @param format the `format` property of a Field, may be null
+     * @return true if the Field's values are in the default format of its type
+     */
+    public static boolean isDefaultFormat(String format) {
+        return (null == format) || format.isEmpty()
+                || format.equalsIgnoreCase(Field.FIELD_FORMAT_DEFAULT)
+                || format.equalsIgnoreCase("any");
+    }
+
+    /**
+     * Parse a date in `yyyy-MM-dd` format
+     * @param value the value to parse
+     * @return the date, or null if the value isn't in the default format
+     */
+    public static LocalDate parseDate(String value) {
+        int date = scanDate(value, 0, value.length());
+        return (date < 0) ? null : LocalDate.of(date / 10000, (date / 100) % 100, date % 100);
+    }
+
+    /**
+     * Parse a date in `yyyy-MM-dd` format into the number of days since 1970-01-01, without creating
+     * a LocalDate
+     * @param value the value to parse
+     * @param target receives the epoch day
+     * @param index the index in `target` to write to
+     * @return false if the value isn't in the default format, leaving `target` untouched
+     */
+    public static boolean parseEpochDay(String value, long[] target, int index) {
+        int date = scanDate(value, 0, value.length());
+        if (date < 0) {
+            return false;
+        }
+        target[index] = epochDay(date / 10000, (date / 100) % 100, date % 100);
+        return true;
+    }
+
+    /**
+     * Parse a time in `HH:mm:ss` or `HH:mm` format
+     * @param value the value to parse
+     * @return the time, or null if the value isn't in the default format
+     */
+    public static LocalTime parseTime(String value) {
+        int length = value.length();
+        if ((length != 5) && (length != 8)) {
+            return null;
+        }
+        int hour = twoDigits(value, 0, 23);
+        int minute = twoDigits(value, 3, 59);
+        if ((hour < 0) || (value.charAt(2) != ':') || (minute < 0)) {
+            return null;
+        }
+        if (length == 5) {
+            return LocalTime.of(hour, minute);
+        }
+        int second = twoDigits(value, 6, 59);
+        if ((value.charAt(5) != ':') || (second < 0)) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second);
+    }
+
+    /**
+     * Parse a datetime in `yyyy-MM-dd'T'HH:mm:ss[.fraction](Z|+HH:mm|-HH:mm)` format
+     * @param value the value to parse
+     * @return the datetime, or null if the value isn't in the default format
+     */
+    public static ZonedDateTime parseDatetime(String value) {
+        int length = value.length();
+        // yyyy-MM-ddTHH:mm:ss plus at least the zone designator
+        if ((length < 20) || (value.charAt(10) != 'T')) {
+            return null;
+        }
+        int date = scanDate(value, 0, 10);
+        int hour = twoDigits(value, 11, 23);
+        int minute = twoDigits(value, 14, 59);
+        int second = twoDigits(value, 17, 59);
+        if ((date < 0) || (hour < 0) || (value.charAt(13) != ':') || (minute < 0)
+                || (value.charAt(16) != ':') || (second < 0)) {
+            return null;
+        }
+        int i = 19;
+        int nanos = 0;
+        if (value.charAt(i) == '.') {
+            int digits = 0;
+            i++;
+            while ((i < length) && isDigit(value.charAt(i))) {
+                if (++digits > 9) {
+                    return null;
+                }
+                nanos = nanos * 10 + (value.charAt(i) - '0');
+                i++;
+            }
+            if (digits == 0) {
+                return null;
+            }
+            for (int d = digits; d < 9; d++) {
+                nanos *= 10;
+            }
+        }
+        ZoneOffset offset = scanOffset(value, i);
+        if (null == offset) {
+            return null;
+        }
+        LocalDateTime dateTime = LocalDateTime.of(
+                date / 10000, (date / 100) % 100, date % 100, hour, minute, second, nanos);
+        return ZonedDateTime.of(dateTime, offset);
+    }
+
+    /**
+     * Parse a year in `yyyy` format
+     * @param value the value to parse
+     * @return the year, or null if the value isn't in the default format
+     */
+    public static Year parseYear(String value) {
+        if (value.length() != 4) {
+            return null;
+        }
+        int year = fourDigits(value, 0);
+        return (year < 0) ? null : Year.of(year);
+    }
+
+    /**
+     * Parse a year and month in `yyyy-MM` format
+     * @param value the value to parse
+     * @return the year and month, or null if the value isn't in the default format
+     */
+    public static YearMonth parseYearMonth(String value) {
+        if ((value.length() != 7) || (value.charAt(4) != '-')) {
+            return null;
+        }
+        int year = fourDigits(value, 0);
+        int month = twoDigits(value, 5, 12);
+        if ((year <= 0) || (month <= 0)) {
+            return null;
+        }
+        return YearMonth.of(year, month);
+    }
+
+    /**
+     * Compile a non-default `format` property into a formatter. Patterns of the Table Schema spec,
+     * which use strptime directives like `%d/%m/%Y`, optionally prefixed by `fmt:`, are translated;
+     * formats without directives are taken as DateTimeFormatter patterns. Compiling is expensive, Fields
+     * keep the result.
+     * @param format the format to compile
+     * @return the formatter
+     * @throws IllegalArgumentException if the format contains an unknown directive or is not a
+     *          valid pattern
+     */
+    public static DateTimeFormatter compileFormat(String format) {
+        String pattern = format.startsWith("fmt:") ? format.substring(4) : format;
+        if (pattern.indexOf('%') >= 0) {
+            pattern = translateStrptime(pattern);
+        }
+        return DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH);
+    }
+
+    private static String translateStrptime(String format) {
+        StringBuilder pattern = new StringBuilder(format.length() * 2);
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < format.length(); i++) {
+            char c = format.charAt(i);
+            if ((c != '%') || (i == format.length() - 1) || (format.charAt(i + 1) == '%')) {
+                literal.append(c);
+                if (c == '%') {
+                    i++;
+                }
+                continue;
+            }
+            appendLiteral(pattern, literal);
+            char directive = format.charAt(++i);
+            switch (directive) {
+                case 'Y': pattern.append("yyyy"); break;
+                case 'y': pattern.append("yy"); break;
+                case 'm': pattern.append("MM"); break;
+                case 'd': pattern.append("dd"); break;
+                case 'H': pattern.append("HH"); break;
+                case 'I': pattern.append("hh"); break;
+                case 'M': pattern.append("mm"); break;
+                case 'S': pattern.append("ss"); break;
+                case 'f': pattern.append("SSSSSS"); break;
+                case 'p': pattern.append("a"); break;
+                case 'b': pattern.append("MMM"); break;
+                case 'B': pattern.append("MMMM"); break;
+                case 'a': pattern.append("EEE"); break;
+                case 'A': pattern.append("EEEE"); break;
+                case 'j': pattern.append("DDD"); break;
+                case 'z': pattern.append("Z"); break;
+                case 'Z': pattern.append("z"); break;
+                default:
+                    throw new IllegalArgumentException("Unsupported directive %" + directive + " in format " + format);
+            }
+        }
+        appendLiteral(pattern, literal);
+        return pattern.toString();
+    }
+
+    private static void appendLiteral(StringBuilder pattern, StringBuilder literal) {
+        if (literal.length() > 0) {
+            pattern.append('\'').append(literal.toString().replace("'", "''")).append('\'');
+            literal.setLength(0);
+        }
+    }
+
+    /**
+     * @return the date packed as yyyyMMdd, or -1 if the characters aren't a `yyyy-MM-dd` date
+     */
+    private static int scanDate(String value, int start, int end) {
+        if ((end - start != 10) || (value.charAt(start + 4) != '-') || (value.charAt(start + 7) != '-')) {
+            return -1;
+        }
+        int year = fourDigits(value, start);
+        int month = twoDigits(value, start + 5, 12);
+        int day = twoDigits(value, start + 8, 31);
+        if ((year <= 0) || (month <= 0) || (day <= 0)) {
+            return -1;
+        }
+        int monthLength = monthLength(year, month);
+        if (day > monthLength) {
+            day = monthLength;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    private static ZoneOffset scanOffset(String value, int i) {
+        int length = value.length();
+        if ((i == length - 1) && (value.charAt(i) == 'Z')) {
+            return ZoneOffset.UTC;
+        }
+        if ((i != length - 6) || (value.charAt(i + 3) != ':')) {
+            return null;
+        }
+        char sign = value.charAt(i);
+        int hours = twoDigits(value, i + 1, 18);
+        int minutes = twoDigits(value, i + 4, 59);
+        if (((sign != '+') && (sign != '-')) || (hours < 0) || (minutes < 0) || ((hours == 18) && (minutes > 0))) {
+            return null;
+        }
+        return (sign == '+')
+                ? ZoneOffset.ofHoursMinutes(hours, minutes)
+                : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+    }
+
+    private static int fourDigits(String value, int start) {
+        int result = 0;
+        for (int i = start; i < start + 4; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static int twoDigits(String value, int start, int max) {
+        char tens = value.charAt(start);
+        char ones = value.charAt(start + 1);
+        if (!isDigit(tens) || !isDigit(ones)) {
+            return -1;
+        }
+        int result = (tens - '0') * 10 + (ones - '0');
+        return (result > max) ? -1 : result;
+    }
+
+    private static int monthLength(int year, int month) {
+        switch (month) {
+            case 2:
+                return Year.isLeap(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Same computation as LocalDate.toEpochDay()
+     */
+    private static long epochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y;
+        total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        total += ((367 * month - 362) / 12);
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!Year.isLeap(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static boolean isDigit(char c) {
+        return (c >= '0') && (c <= '9');
+    }
+}
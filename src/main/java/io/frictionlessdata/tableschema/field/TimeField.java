@@ -8,12 +8,9 @@ import java.net.URI;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class TimeField extends Field<LocalTime> {
-    // An ISO8601 time string e.g. HH:mm:ss
-    private static final String REGEX_TIME = "(2[0-3]|[01]?[0-9]):?([0-5]?[0-9]):?([0-5]?[0-9])";
+    private final FormatterCache formatterCache = new FormatterCache();
 
     TimeField() {
         super();
@@ -30,23 +27,32 @@ public class TimeField extends Field<LocalTime> {
 
     @Override
     public LocalTime parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
-        Pattern pattern = Pattern.compile(REGEX_TIME);
-        Matcher matcher = pattern.matcher(value);
-
-        if(matcher.matches()){
-            LocalTime lt = LocalTime.parse(value);
-            //DateTimeFormatter formatter = DateTimeFormat.forPattern("HH:mm:ss");
-            //DateTime dt = formatter.parseDateTime(value);
-
-            return lt;
-
-        }else{
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return LocalTime.parse(value, formatterCache.get(format));
+        }
+        LocalTime lt = TemporalParser.parseTime(value);
+        if (null == lt) {
             throw new TypeInferringException();
         }
+        return lt;
+    }
+
+    @Override
+    protected CastResult<LocalTime> tryParseValue(String value, String format, Map<String, Object> options) {
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return formatterCache.matches(format, value)
+                    ? super.tryParseValue(value, format, options)
+                    : invalidValue(value, format);
+        }
+        LocalTime time = TemporalParser.parseTime(value);
+        return (null != time) ? CastResult.of(time) : invalidValue(value, format);
     }
 
     @Override
     public String formatValueAsString(LocalTime value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return value.format(formatterCache.get(format));
+        }
         return value.format(DateTimeFormatter.ISO_LOCAL_TIME);
         //return value.toString(DateTimeFormat.forPattern("HH:mm:ss"));
     }
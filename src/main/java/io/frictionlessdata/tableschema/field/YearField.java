@@ -8,12 +8,9 @@ import org.json.JSONObject;
 import java.net.URI;
 import java.time.Year;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class YearField extends Field<Year> {
-    // yyyy
-    private static final String REGEX_YEAR = "([0-9]{4})";
+    private final FormatterCache formatterCache = new FormatterCache();
 
     YearField() {
         super();
@@ -30,15 +27,25 @@ public class YearField extends Field<Year> {
 
     @Override
     public Year parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
-        Pattern pattern = Pattern.compile(REGEX_YEAR);
-        Matcher matcher = pattern.matcher(value);
-
-        if(matcher.matches()){
-            return Year.parse(value);
-
-        }else{
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return Year.parse(value, formatterCache.get(format));
+        }
+        Year year = TemporalParser.parseYear(value);
+        if (null == year) {
             throw new TypeInferringException();
         }
+        return year;
+    }
+
+    @Override
+    protected CastResult<Year> tryParseValue(String value, String format, Map<String, Object> options) {
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return formatterCache.matches(format, value)
+                    ? super.tryParseValue(value, format, options)
+                    : invalidValue(value, format);
+        }
+        Year year = TemporalParser.parseYear(value);
+        return (null != year) ? CastResult.of(year) : invalidValue(value, format);
     }
 
     @Override
@@ -49,6 +56,9 @@ public class YearField extends Field<Year> {
     @Override
     public String formatValueAsString(Year value, String format, Map<String, Object> options)
             throws InvalidCastException, ConstraintsException {
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return value.format(formatterCache.get(format));
+        }
         return value.toString();
     }
 
@@ -6,15 +6,10 @@ import io.frictionlessdata.tableschema.exception.TypeInferringException;
 
 import java.net.URI;
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.TemporalAccessor;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class YearmonthField extends Field<YearMonth> {
-    // yyyy-MM
-    private static final String REGEX_YEARMONTH = "([0-9]{4})-(1[0-2]|0[1-9])";
+    private final FormatterCache formatterCache = new FormatterCache();
 
     YearmonthField() {
         super();
@@ -32,22 +27,33 @@ public class YearmonthField extends Field<YearMonth> {
     @Override
     public YearMonth parseValue(String value, String format, Map<String, Object> options)
             throws InvalidCastException, ConstraintsException {
-        Pattern pattern = Pattern.compile(REGEX_YEARMONTH);
-        Matcher matcher = pattern.matcher(value);
-
-        if(matcher.matches()){
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-            TemporalAccessor dt = formatter.parse(value);
-
-            return YearMonth.from(dt);
-        }else{
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return YearMonth.parse(value, formatterCache.get(format));
+        }
+        YearMonth yearMonth = TemporalParser.parseYearMonth(value);
+        if (null == yearMonth) {
             throw new TypeInferringException();
         }
+        return yearMonth;
+    }
+
+    @Override
+    protected CastResult<YearMonth> tryParseValue(String value, String format, Map<String, Object> options) {
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return formatterCache.matches(format, value)
+                    ? super.tryParseValue(value, format, options)
+                    : invalidValue(value, format);
+        }
+        YearMonth yearMonth = TemporalParser.parseYearMonth(value);
+        return (null != yearMonth) ? CastResult.of(yearMonth) : invalidValue(value, format);
     }
 
     @Override
     public String formatValueAsString(YearMonth value, String format, Map<String, Object> options)
             throws InvalidCastException, ConstraintsException {
+        if (!TemporalParser.isDefaultFormat(format)) {
+            return value.format(formatterCache.get(format));
+        }
         return value.toString();
     }
 
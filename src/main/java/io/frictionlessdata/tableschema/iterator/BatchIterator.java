@@ -0,0 +1,88 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.BooleanField;
+import io.frictionlessdata.tableschema.field.DateField;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.IntegerField;
+import io.frictionlessdata.tableschema.field.NumberField;
+import io.frictionlessdata.tableschema.field.StringField;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link TableIterator} returning the data in {@link ColumnBatch}es of up to `batchSize` rows, casting
+ * one column at a time. Requires a Schema. The vector type of a column depends on the Field type:
+ *
+ * - integer: {@link LongVector}
+ * - number: {@link DoubleVector}
+ * - boolean: {@link BooleanVector}
+ * - date: {@link DateVector}
+ * - string: {@link StringVector}
+ * - all others: {@link ObjectVector}
+ */
+public class BatchIterator extends TableIterator<ColumnBatch> {
+    private final String[][] rows;
+    private String[] fieldNames;
+    private List<Field> fields;
+
+    /**
+     * Create an Iterator over the batches of a Table
+     * @param table the Table to iterate over
+     * @param batchSize the maximum number of rows per batch
+     * @throws Exception if opening the data source or validating the Table fails
+     */
+    public BatchIterator(Table table, int batchSize) throws Exception {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (null == table.getSchema()) {
+            throw new TableSchemaException("Cannot cast without a schema");
+        }
+        this.rows = new String[batchSize][];
+        init(table);
+        this.fields = schema.getFields();
+        this.fieldNames = new String[fields.size()];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = fields.get(i).getName();
+        }
+    }
+
+    @Override
+    public ColumnBatch next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int size = 0;
+        while ((size < rows.length) && wrappedIterator.hasNext()) {
+            String[] row = wrappedIterator.next();
+            castPlan.checkRowLength(row);
+            rows[size++] = row;
+        }
+        ColumnVector[] columns = new ColumnVector[fieldNames.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = createVector(fields.get(i), size);
+            columns[i].fill(castPlan, rows, i);
+        }
+        Arrays.fill(rows, 0, size, null);
+        return new ColumnBatch(fieldNames, columns, size);
+    }
+
+    static ColumnVector createVector(Field field, int size) {
+        if (field instanceof IntegerField) {
+            return new LongVector(size);
+        } else if (field instanceof NumberField) {
+            return new DoubleVector(size);
+        } else if (field instanceof BooleanField) {
+            return new BooleanVector(size);
+        } else if (field instanceof DateField) {
+            return new DateVector(size);
+        } else if (field instanceof StringField) {
+            return new StringVector(size);
+        }
+        return new ObjectVector(size);
+    }
+}
@@ -0,0 +1,38 @@
+package io.frictionlessdata.tableschema.iterator;
+
+/**
+ * {@link ColumnVector} for boolean Fields.
+ */
+public final class BooleanVector extends ColumnVector {
+    private final boolean[] values;
+
+    BooleanVector(int size) {
+        super(size);
+        values = new boolean[size];
+    }
+
+    /**
+     * @return the values, false for null values. The array is not copied
+     */
+    public boolean[] getValues() {
+        return values;
+    }
+
+    /**
+     * @param index the row index in the batch
+     * @return the value
+     */
+    public boolean getBoolean(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Object get(int index) {
+        return isNull(index) ? null : values[index];
+    }
+
+    @Override
+    void set(int index, Object value) {
+        values[index] = (Boolean) value;
+    }
+}
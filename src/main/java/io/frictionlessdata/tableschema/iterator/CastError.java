@@ -0,0 +1,55 @@
+package io.frictionlessdata.tableschema.iterator;
+
+/**
+ * A value that could not be cast to the type of its Schema Field, or violated the Field's constraints,
+ * as recorded by a {@link CastErrorCollector}.
+ */
+public final class CastError {
+    private final long rowNumber;
+    private final String column;
+    private final String value;
+    private final String reason;
+
+    /**
+     * @param rowNumber the number of the row among the rows read, starting at 1
+     * @param column the name of the column, null for errors concerning the whole row
+     * @param value the raw value, null for errors concerning the whole row
+     * @param reason why the value is invalid
+     */
+    public CastError(long rowNumber, String column, String value, String reason) {
+        this.rowNumber = rowNumber;
+        this.column = column;
+        this.value = value;
+        this.reason = reason;
+    }
+
+    /**
+     * @return the number of the row among the rows read from the data source (after filtering), starting at 1
+     */
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * @return the name of the column, null for errors concerning the whole row
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * @return the raw value, null for errors concerning the whole row
+     */
+    public String getValue() {
+        return value;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "Row " + rowNumber + ((null != column) ? ", column " + column : "") + ": " + reason;
+    }
+}
@@ -0,0 +1,118 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the cast errors of an Iterator reading in error collecting mode, see
+ * {@link io.frictionlessdata.tableschema.Table#iterator(CastErrorCollector)}. Instead of throwing on the
+ * first invalid value, the Iterator records every invalid value with row, column and reason here, skips
+ * the row and goes on with the next one.
+ *
+ * Optionally, the raw values of skipped rows are written as CSV to a quarantine Writer, preceded by the
+ * headers of the data, for fixing and reloading them later. An error budget stops reading once that
+ * many errors have been recorded, by throwing a {@link TableSchemaException} from the Iterator; the
+ * errors recorded up to then stay available.
+ *
+ * Not thread-safe, use one collector per Iterator.
+ */
+public class CastErrorCollector {
+    /** Error budget for reading to the end regardless of the number of errors */
+    public static final int UNLIMITED = -1;
+
+    private final int maxErrors;
+    private final Writer quarantine;
+    private final List<CastError> errors = new ArrayList<>();
+    private int invalidRows = 0;
+    private String[] headers = null;
+    private CSVPrinter quarantinePrinter = null;
+
+    /**
+     * Collect all errors, without quarantine
+     */
+    public CastErrorCollector() {
+        this(UNLIMITED, null);
+    }
+
+    /**
+     * @param maxErrors the number of errors after which reading stops, {@link #UNLIMITED} for no limit
+     * @param quarantine receives the raw values of invalid rows as CSV, null to drop them
+     */
+    public CastErrorCollector(int maxErrors, Writer quarantine) {
+        if ((maxErrors != UNLIMITED) && (maxErrors < 1)) {
+            throw new IllegalArgumentException("Error budget must be positive or UNLIMITED, was " + maxErrors);
+        }
+        this.maxErrors = maxErrors;
+        this.quarantine = quarantine;
+    }
+
+    /**
+     * @return the errors recorded so far, in the order they occurred
+     */
+    public List<CastError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public int getErrorCount() {
+        return errors.size();
+    }
+
+    /**
+     * @return the number of rows skipped because of errors
+     */
+    public int getInvalidRowCount() {
+        return invalidRows;
+    }
+
+    /**
+     * @return true if the error budget has been used up
+     */
+    public boolean isBudgetExhausted() {
+        return (maxErrors != UNLIMITED) && (errors.size() >= maxErrors);
+    }
+
+    /**
+     * @param headers the names of the raw values, written before the first quarantined row
+     */
+    void setHeaders(String[] headers) {
+        this.headers = headers;
+    }
+
+    void add(CastError error) {
+        errors.add(error);
+    }
+
+    /**
+     * Skip a row after its errors have been added: write it to the quarantine, and stop reading if the
+     * error budget is used up
+     * @param row the raw values of the row
+     * @throws TableSchemaException if the error budget is used up, or writing to the quarantine fails
+     */
+    void rejectRow(String[] row) throws TableSchemaException {
+        invalidRows++;
+        if (null != quarantine) {
+            try {
+                if (null == quarantinePrinter) {
+                    quarantinePrinter = new CSVPrinter(quarantine, CSVFormat.DEFAULT);
+                    if (null != headers) {
+                        quarantinePrinter.printRecord((Object[]) headers);
+                    }
+                }
+                quarantinePrinter.printRecord((Object[]) row);
+            } catch (IOException ex) {
+                throw new TableSchemaException(ex);
+            }
+        }
+        if (isBudgetExhausted()) {
+            throw new TableSchemaException("Stopped reading after " + errors.size()
+                    + " cast errors, first error: " + errors.get(0));
+        }
+    }
+}
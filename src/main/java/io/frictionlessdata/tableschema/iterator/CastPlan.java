@@ -0,0 +1,245 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.CastResult;
+import io.frictionlessdata.tableschema.field.ConstraintsChecker;
+import io.frictionlessdata.tableschema.field.DateField;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.FieldCaster;
+import io.frictionlessdata.tableschema.field.IntegerField;
+import io.frictionlessdata.tableschema.field.NumberField;
+import io.frictionlessdata.tableschema.field.TemporalParser;
+import io.frictionlessdata.tableschema.schema.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable plan for casting raw rows into the order and types of a {@link Schema}, built once per
+ * iterator so that casting a row involves neither Map lookups nor repeated resolution of the
+ * Field definitions.
+ *
+ * For every Schema column, the plan holds the index of the column in the raw data (-1 if the data
+ * doesn't have the column), a caster and a constraints checker (null if the Field has no constraints).
+ * Integer, number and default format date columns without constraints are additionally marked for parsing
+ * straight into primitives when casting into a {@link PrimitiveRow}.
+ */
+final class CastPlan {
+    private static final byte PARSE_OBJECT = 0;
+    private static final byte PARSE_INTEGER = 1;
+    private static final byte PARSE_NUMBER = 2;
+    private static final byte PARSE_DATE = 3;
+
+    private final int[] sourceIndex;
+    private final String[] names;
+    private final FieldCaster<?>[] casters;
+    private final ConstraintsChecker[] checkers;
+    private final byte[] primitiveParsing;
+    private final int maxRowLength;
+
+    /**
+     * @param schema the Schema to cast to
+     * @param mapping mapping of Schema column index to data column index, as created by
+     *                {@link io.frictionlessdata.tableschema.util.TableSchemaUtil#createSchemaHeaderMapping}
+     * @param options casting options
+     */
+    CastPlan(Schema schema, Map<Integer, Integer> mapping, Map<String, Object> options) {
+        this(schema.getFields(), mapping, options, schema.getFields().size());
+    }
+
+    /**
+     * @param fields the Fields to cast to, in output order
+     * @param mapping mapping of output column index to data column index
+     * @param options casting options
+     * @param maxRowLength the number of values a raw row may have
+     */
+    CastPlan(List<Field> fields, Map<Integer, Integer> mapping, Map<String, Object> options, int maxRowLength) {
+        int width = fields.size();
+        this.maxRowLength = maxRowLength;
+        sourceIndex = new int[width];
+        names = new String[width];
+        casters = new FieldCaster<?>[width];
+        checkers = new ConstraintsChecker[width];
+        primitiveParsing = new byte[width];
+        boolean plainNumbers = (null == options)
+                || !(options.containsKey(NumberField.NUMBER_OPTION_DECIMAL_CHAR)
+                    || options.containsKey(NumberField.NUMBER_OPTION_GROUP_CHAR)
+                    || options.containsKey(NumberField.NUMBER_OPTION_BARE_NUMBER));
+        for (int i = 0; i < width; i++) {
+            Integer key = (null != mapping) ? mapping.get(i) : null;
+            // null keys can happen for JSON arrays of JSON objects because
+            // null values will lead to missing entries
+            sourceIndex[i] = (null != key) ? key : -1;
+            names[i] = fields.get(i).getName();
+            casters[i] = fields.get(i).getCaster(options);
+            checkers[i] = fields.get(i).getConstraintsChecker();
+            if (null == checkers[i]) {
+                if (fields.get(i) instanceof IntegerField) {
+                    primitiveParsing[i] = PARSE_INTEGER;
+                } else if ((fields.get(i) instanceof NumberField) && plainNumbers) {
+                    primitiveParsing[i] = PARSE_NUMBER;
+                } else if ((fields.get(i) instanceof DateField)
+                        && TemporalParser.isDefaultFormat(fields.get(i).getFormat())) {
+                    primitiveParsing[i] = PARSE_DATE;
+                }
+            }
+        }
+    }
+
+    int getWidth() {
+        return sourceIndex.length;
+    }
+
+    /**
+     * @param column the index of the column in the Schema
+     * @return true if values of the column may be parsed by {@link PrimitiveParser} or
+     * {@link TemporalParser} instead of the Field caster
+     */
+    boolean canParsePrimitive(int column) {
+        return primitiveParsing[column] != PARSE_OBJECT;
+    }
+
+    /**
+     * Cast a raw row into a new array in Schema order
+     * @param row the raw row
+     * @return the cast values
+     */
+    Object[] cast(String[] row) {
+        checkRowLength(row);
+        Object[] castRow = new Object[sourceIndex.length];
+        for (int i = 0; i < sourceIndex.length; i++) {
+            castRow[i] = castColumn(row, i);
+        }
+        return castRow;
+    }
+
+    /**
+     * Cast a raw row into a new array in Schema order without throwing on invalid values or constraint
+     * violations. All columns are cast, every error is added to `errors`.
+     * @param row the raw row
+     * @param rowNumber the number of the row, for the errors
+     * @param errors receives the errors
+     * @return the cast values, or null if the row has errors
+     */
+    Object[] tryCast(String[] row, long rowNumber, CastErrorCollector errors) {
+        if (row.length > maxRowLength) {
+            errors.add(new CastError(rowNumber, null, null, "Row has " + row.length
+                    + " values, but the Schema only " + maxRowLength + " fields"));
+            return null;
+        }
+        Object[] castRow = new Object[sourceIndex.length];
+        boolean valid = true;
+        for (int i = 0; i < sourceIndex.length; i++) {
+            String rawVal = rawColumn(row, i);
+            if ((null == rawVal) || rawVal.isEmpty()) {
+                continue;
+            }
+            CastResult<?> result = casters[i].tryCast(rawVal);
+            String reason = result.getReason();
+            if ((null == reason) && (null != checkers[i])) {
+                reason = checkers[i].findViolation(result.getValue());
+            }
+            if (null != reason) {
+                errors.add(new CastError(rowNumber, names[i], rawVal, reason));
+                valid = false;
+            } else {
+                castRow[i] = result.getValue();
+            }
+        }
+        return valid ? castRow : null;
+    }
+
+    /**
+     * Cast a raw row into an existing array in Schema order
+     * @param row the raw row
+     * @param target the array to fill, at least as long as the Schema has fields
+     */
+    void castInto(String[] row, Object[] target) {
+        checkRowLength(row);
+        for (int i = 0; i < sourceIndex.length; i++) {
+            target[i] = castColumn(row, i);
+        }
+    }
+
+    /**
+     * Cast a raw row into a {@link PrimitiveRow} in Schema order. Integers and numbers that fit are parsed
+     * without creating BigInteger or BigDecimal instances, dates without creating LocalDate instances,
+     * everything else goes through the Field casters
+     * @param row the raw row
+     * @param target the row to fill, as wide as the Schema
+     */
+    void castInto(String[] row, PrimitiveRow target) {
+        checkRowLength(row);
+        for (int i = 0; i < sourceIndex.length; i++) {
+            castColumnInto(row, i, target);
+        }
+    }
+
+    /**
+     * Cast the value of one Schema column from a raw row into a {@link PrimitiveRow}
+     * @param row the raw row
+     * @param column the index of the column in the Schema
+     * @param target the row to fill, as wide as the Schema
+     */
+    void castColumnInto(String[] row, int column, PrimitiveRow target) {
+        String rawVal = rawColumn(row, column);
+        if ((null == rawVal) || rawVal.isEmpty()) {
+            target.setNull(column);
+        } else if (!parsePrimitive(rawVal, target, column)) {
+            target.setValue(column, castColumn(row, column));
+        }
+    }
+
+    private boolean parsePrimitive(String rawVal, PrimitiveRow target, int column) {
+        switch (primitiveParsing[column]) {
+            case PARSE_INTEGER:
+                return target.parseLong(column, rawVal);
+            case PARSE_NUMBER:
+                return target.parseLong(column, rawVal) || target.parseDouble(column, rawVal);
+            case PARSE_DATE:
+                return target.parseEpochDay(column, rawVal);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the uncast value of one Schema column from a raw row
+     * @param row the raw row
+     * @param column the index of the column in the Schema
+     * @return the raw value, or null if the data doesn't have the column
+     */
+    String rawColumn(String[] row, int column) {
+        int src = sourceIndex[column];
+        return (src < 0) ? null : row[src];
+    }
+
+    /**
+     * Cast the value of one Schema column from a raw row
+     * @param row the raw row
+     * @param column the index of the column in the Schema
+     * @return the cast value
+     */
+    Object castColumn(String[] row, int column) {
+        int src = sourceIndex[column];
+        if (src < 0) {
+            return null;
+        }
+        String rawVal = row[src];
+        if ((null == rawVal) || rawVal.isEmpty()) {
+            return null;
+        }
+        Object val = casters[column].cast(rawVal);
+        if (null != checkers[column]) {
+            checkers[column].check(val);
+        }
+        return val;
+    }
+
+    void checkRowLength(String[] row) {
+        if (row.length > maxRowLength) {
+            throw new TableSchemaException("Row has " + row.length + " values, but the Schema only "
+                    + maxRowLength + " fields");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.frictionlessdata.tableschema.iterator;
+
+/**
+ * A batch of consecutive rows of a Table in columnar layout: one typed {@link ColumnVector} per
+ * Schema Field, all of the same length.
+ */
+public final class ColumnBatch {
+    private final String[] headers;
+    private final ColumnVector[] columns;
+    private final int size;
+
+    ColumnBatch(String[] headers, ColumnVector[] columns, int size) {
+        this.headers = headers;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    /**
+     * @return the number of rows in the batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of columns, which is the number of Schema Fields
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * @return the Field names in Schema order
+     */
+    public String[] getHeaders() {
+        return headers.clone();
+    }
+
+    /**
+     * @param index the column index in Schema order
+     * @return the column
+     */
+    public ColumnVector getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * @param name the Field name
+     * @return the column, or null if there's no Field of that name
+     */
+    public ColumnVector getColumn(String name) {
+        for (int i = 0; i < headers.length; i++) {
+            if (headers[i].equals(name)) {
+                return columns[i];
+            }
+        }
+        return null;
+    }
+}
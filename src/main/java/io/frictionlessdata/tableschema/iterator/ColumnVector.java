@@ -0,0 +1,73 @@
+package io.frictionlessdata.tableschema.iterator;
+
+/**
+ * One column of a {@link ColumnBatch}: the cast values of a Field for all rows of the batch, held in a
+ * typed array, plus a validity bitmap marking the non-null values. Subclasses expose their backing
+ * arrays for vectorized processing; slots of null values hold a default and must be skipped by
+ * checking {@link #isNull(int)} or the bitmap.
+ */
+public abstract class ColumnVector {
+    private final int size;
+    private final long[] validity;
+
+    ColumnVector(int size) {
+        this.size = size;
+        this.validity = new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * @return the number of values, which is the number of rows in the batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the row index in the batch
+     * @return true if the value is null
+     */
+    public boolean isNull(int index) {
+        return (validity[index >>> 6] & (1L << index)) == 0;
+    }
+
+    /**
+     * @return the validity bitmap, one bit per row in little-endian order, set for non-null values.
+     * The array is not copied
+     */
+    public long[] getValidity() {
+        return validity;
+    }
+
+    /**
+     * @param index the row index in the batch
+     * @return the value as Object, null for null values
+     */
+    public abstract Object get(int index);
+
+    /**
+     * Store a value as cast by the Field
+     * @param index the row index in the batch
+     * @param value the non-null value
+     */
+    abstract void set(int index, Object value);
+
+    void setValid(int index) {
+        validity[index >>> 6] |= (1L << index);
+    }
+
+    /**
+     * Cast one Schema column of the raw rows into this vector
+     * @param plan the CastPlan for the rows
+     * @param rows the raw rows, at least as many as the vector is long
+     * @param column the index of the column in the Schema
+     */
+    void fill(CastPlan plan, String[][] rows, int column) {
+        for (int r = 0; r < size; r++) {
+            Object value = plan.castColumn(rows[r], column);
+            if (null != value) {
+                set(r, value);
+                setValid(r);
+            }
+        }
+    }
+}
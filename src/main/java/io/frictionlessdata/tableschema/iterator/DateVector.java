@@ -0,0 +1,67 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.field.TemporalParser;
+
+import java.time.LocalDate;
+
+/**
+ * {@link ColumnVector} for date Fields, holding values as days since 1970-01-01.
+ */
+public final class DateVector extends ColumnVector {
+    private final int[] epochDays;
+
+    DateVector(int size) {
+        super(size);
+        epochDays = new int[size];
+    }
+
+    /**
+     * @return the values as days since 1970-01-01, 0 for null values. The array is not copied
+     */
+    public int[] getValues() {
+        return epochDays;
+    }
+
+    /**
+     * @param index the row index in the batch
+     * @return the value as days since 1970-01-01
+     */
+    public int getEpochDay(int index) {
+        return epochDays[index];
+    }
+
+    @Override
+    public Object get(int index) {
+        return isNull(index) ? null : LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    @Override
+    void set(int index, Object value) {
+        epochDays[index] = Math.toIntExact(((LocalDate) value).toEpochDay());
+    }
+
+    @Override
+    void fill(CastPlan plan, String[][] rows, int column) {
+        if (!plan.canParsePrimitive(column)) {
+            super.fill(plan, rows, column);
+            return;
+        }
+        long[] epochDay = new long[1];
+        for (int r = 0; r < size(); r++) {
+            String rawVal = plan.rawColumn(rows[r], column);
+            if ((null == rawVal) || rawVal.isEmpty()) {
+                continue;
+            }
+            if (TemporalParser.parseEpochDay(rawVal, epochDay, 0)) {
+                epochDays[r] = Math.toIntExact(epochDay[0]);
+            } else {
+                Object value = plan.castColumn(rows[r], column);
+                if (null == value) {
+                    continue;
+                }
+                set(r, value);
+            }
+            setValid(r);
+        }
+    }
+}
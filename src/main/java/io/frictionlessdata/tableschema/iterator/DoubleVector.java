@@ -0,0 +1,87 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import java.math.BigDecimal;
+
+/**
+ * {@link ColumnVector} for number Fields, holding values as `double`. Values outside the range
+ * of double are kept as BigDecimal in a separate overflow array, which is only allocated if needed.
+ */
+public final class DoubleVector extends ColumnVector {
+    private final double[] values;
+    private BigDecimal[] overflow;
+
+    DoubleVector(int size) {
+        super(size);
+        values = new double[size];
+    }
+
+    /**
+     * @return the values, 0 for null values and infinity for overflowing values. The array is not copied
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    /**
+     * @return true if any value is outside the range of double
+     */
+    public boolean hasOverflow() {
+        return null != overflow;
+    }
+
+    /**
+     * @param index the row index in the batch
+     * @return the value
+     */
+    public double getDouble(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Object get(int index) {
+        if (isNull(index)) {
+            return null;
+        }
+        if ((null != overflow) && (null != overflow[index])) {
+            return overflow[index];
+        }
+        return values[index];
+    }
+
+    @Override
+    void set(int index, Object value) {
+        double d = ((Number) value).doubleValue();
+        values[index] = d;
+        if ((value instanceof BigDecimal) && Double.isInfinite(d)) {
+            if (null == overflow) {
+                overflow = new BigDecimal[size()];
+            }
+            overflow[index] = (BigDecimal) value;
+        }
+    }
+
+    @Override
+    void fill(CastPlan plan, String[][] rows, int column) {
+        if (!plan.canParsePrimitive(column)) {
+            super.fill(plan, rows, column);
+            return;
+        }
+        long[] integer = new long[1];
+        for (int r = 0; r < size(); r++) {
+            String rawVal = plan.rawColumn(rows[r], column);
+            if ((null == rawVal) || rawVal.isEmpty()) {
+                continue;
+            }
+            if (PrimitiveParser.parseLong(rawVal, integer, 0)) {
+                values[r] = integer[0];
+            } else if (!PrimitiveParser.parseDouble(rawVal, values, r)) {
+                Object value = plan.castColumn(rows[r], column);
+                if (null == value) {
+                    continue;
+                }
+                set(r, value);
+            }
+            setValid(r);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import java.util.Arrays;
+
+/**
+ * {@link Row} holding the raw values of a record and casting a column only when it is first accessed.
+ * Constraints are checked at the same point, so an invalid value in a column that is never read doesn't
+ * fail the row. The cast value is kept, later accesses to the column don't cast again.
+ *
+ * Not thread-safe: casting happens in the getters and changes the state of the row.
+ */
+final class LazyRow implements Row {
+    private final CastPlan castPlan;
+    private final PrimitiveRow values;
+    // bitmap of the columns already cast
+    private final long[] castColumns;
+    private String[] rawRow = null;
+
+    LazyRow(CastPlan castPlan) {
+        int width = castPlan.getWidth();
+        this.castPlan = castPlan;
+        this.values = new PrimitiveRow(width);
+        this.castColumns = new long[(width + 63) >>> 6];
+    }
+
+    /**
+     * Point the row to the next record, dropping the values cast from the previous one
+     * @param rawRow the raw record
+     */
+    void reset(String[] rawRow) {
+        castPlan.checkRowLength(rawRow);
+        this.rawRow = rawRow;
+        Arrays.fill(castColumns, 0L);
+    }
+
+    @Override
+    public int size() {
+        return castPlan.getWidth();
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        if (index >= castPlan.getWidth()) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        String rawVal = castPlan.rawColumn(rawRow, index);
+        return (null == rawVal) || rawVal.isEmpty();
+    }
+
+    @Override
+    public long getLong(int index) {
+        return cast(index).getLong(index);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return cast(index).getDouble(index);
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return cast(index).getBoolean(index);
+    }
+
+    @Override
+    public long getEpochDay(int index) {
+        return cast(index).getEpochDay(index);
+    }
+
+    @Override
+    public long getEpochMillis(int index) {
+        return cast(index).getEpochMillis(index);
+    }
+
+    @Override
+    public Object get(int index) {
+        return cast(index).get(index);
+    }
+
+    private PrimitiveRow cast(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        if ((castColumns[word] & bit) == 0) {
+            castPlan.castColumnInto(rawRow, index, values);
+            castColumns[word] |= bit;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,91 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import java.math.BigInteger;
+
+/**
+ * {@link ColumnVector} for integer Fields, holding values as `long`. Values that don't fit are kept
+ * as BigInteger in a separate overflow array, which is only allocated if needed.
+ */
+public final class LongVector extends ColumnVector {
+    private final long[] values;
+    private BigInteger[] overflow;
+
+    LongVector(int size) {
+        super(size);
+        values = new long[size];
+    }
+
+    /**
+     * @return the values, 0 for null values and overflowing values. The array is not copied
+     */
+    public long[] getValues() {
+        return values;
+    }
+
+    /**
+     * @return true if any value doesn't fit into a long
+     */
+    public boolean hasOverflow() {
+        return null != overflow;
+    }
+
+    /**
+     * @param index the row index in the batch
+     * @return the value
+     * @throws ArithmeticException if the value doesn't fit into a long
+     */
+    public long getLong(int index) {
+        if ((null != overflow) && (null != overflow[index])) {
+            return overflow[index].longValueExact();
+        }
+        return values[index];
+    }
+
+    @Override
+    public Object get(int index) {
+        if (isNull(index)) {
+            return null;
+        }
+        if ((null != overflow) && (null != overflow[index])) {
+            return overflow[index];
+        }
+        return values[index];
+    }
+
+    @Override
+    void set(int index, Object value) {
+        BigInteger bi = (value instanceof BigInteger)
+                ? (BigInteger) value
+                : BigInteger.valueOf(((Number) value).longValue());
+        if (bi.bitLength() < 64) {
+            values[index] = bi.longValue();
+        } else {
+            if (null == overflow) {
+                overflow = new BigInteger[size()];
+            }
+            overflow[index] = bi;
+        }
+    }
+
+    @Override
+    void fill(CastPlan plan, String[][] rows, int column) {
+        if (!plan.canParsePrimitive(column)) {
+            super.fill(plan, rows, column);
+            return;
+        }
+        for (int r = 0; r < size(); r++) {
+            String rawVal = plan.rawColumn(rows[r], column);
+            if ((null == rawVal) || rawVal.isEmpty()) {
+                continue;
+            }
+            if (!PrimitiveParser.parseLong(rawVal, values, r)) {
+                Object value = plan.castColumn(rows[r], column);
+                if (null == value) {
+                    continue;
+                }
+                set(r, value);
+            }
+            setValid(r);
+        }
+    }
+}
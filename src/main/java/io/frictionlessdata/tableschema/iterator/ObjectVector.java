@@ -0,0 +1,31 @@
+package io.frictionlessdata.tableschema.iterator;
+
+/**
+ * {@link ColumnVector} for all Field types without a specialized vector, holding the values as
+ * cast by the Field.
+ */
+public final class ObjectVector extends ColumnVector {
+    private final Object[] values;
+
+    ObjectVector(int size) {
+        super(size);
+        values = new Object[size];
+    }
+
+    /**
+     * @return the values. The array is not copied
+     */
+    public Object[] getValues() {
+        return values;
+    }
+
+    @Override
+    public Object get(int index) {
+        return values[index];
+    }
+
+    @Override
+    void set(int index, Object value) {
+        values[index] = value;
+    }
+}
@@ -0,0 +1,216 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * {@link TableIterator} that reads and casts as a pipeline, for data sources that can't be split:
+ *
+ * - a reader thread takes the raw rows from the data source and groups them into batches,
+ * - a pool of worker threads casts the batches and checks constraints,
+ * - the consumer receives the rows in their original order.
+ *
+ * The number of batches in flight is bounded, so a slow consumer stops the reader instead of
+ * buffering the whole data. Exceptions while reading or casting are thrown from `next()` at the row
+ * where they happened, after all rows before it were returned.
+ *
+ * The threads are stopped once all rows were read, after an exception, or by calling {@link #close()},
+ * which must be done if the Iterator is abandoned before the end of the data.
+ *
+ * @param <T> the type of the rows, as for {@link TableIterator}
+ */
+public class PipelinedTableIterator<T> extends TableIterator<T> {
+    static final int BATCH_SIZE = 256;
+    private static final int BATCHES_PER_WORKER = 2;
+
+    private final ExecutorService workers;
+    private final BlockingQueue<Future<Batch>> batches;
+    private final Thread reader;
+    private volatile boolean closed = false;
+    private Batch current = null;
+    private int position = 0;
+
+    /**
+     * Create a pipelined Iterator over a Table, returning rows in the same form as the
+     * {@link TableIterator} with the same flags
+     * @param table the Table to iterate over
+     * @param keyed whether to return rows as Map keyed by header name
+     * @param extended whether to return rows in extended form
+     * @param cast whether to cast the values
+     * @param relations whether to follow relations
+     * @param numWorkers the number of threads casting rows
+     * @throws Exception if opening the data source or validating the Table fails
+     */
+    public PipelinedTableIterator(
+            Table table,
+            boolean keyed,
+            boolean extended,
+            boolean cast,
+            boolean relations,
+            int numWorkers) throws Exception {
+        if (numWorkers < 1) {
+            throw new IllegalArgumentException("Number of workers must be positive");
+        }
+        this.keyed = keyed;
+        this.extended = extended;
+        this.cast = cast;
+        this.relations = relations;
+        init(table);
+        this.batches = new ArrayBlockingQueue<>(numWorkers * BATCHES_PER_WORKER);
+        this.workers = Executors.newFixedThreadPool(numWorkers, new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("tableschema-cast-%d")
+                .build());
+        this.reader = new Thread(this::read, "tableschema-read");
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return advance();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!advance()) {
+            throw new NoSuchElementException();
+        }
+        if (position < current.count) {
+            return (T) current.rows[position++];
+        }
+        RuntimeException error = current.error;
+        close();
+        throw error;
+    }
+
+    /**
+     * Stop reading and casting, and release the data source once the reader thread has stopped. Rows
+     * not yet returned are discarded, and `hasNext()` returns false
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        current = Batch.END;
+        reader.interrupt();
+        workers.shutdownNow();
+        Future<Batch> pending;
+        while (null != (pending = batches.poll())) {
+            pending.cancel(true);
+        }
+        // the reader may be inside the data source, which must not be closed under its feet
+        Uninterruptibles.joinUninterruptibly(reader);
+        super.close();
+    }
+
+    /**
+     * Move to the next batch if the current one is used up
+     * @return true if there's a row or an exception to hand out
+     */
+    private boolean advance() {
+        while ((null == current) || ((position >= current.count) && (null == current.error))) {
+            if ((null != current) && current.last) {
+                close();
+                return false;
+            }
+            current = take();
+            position = 0;
+        }
+        return true;
+    }
+
+    private Batch take() {
+        try {
+            return batches.take().get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new TableSchemaException(ex);
+        } catch (ExecutionException ex) {
+            close();
+            throw new TableSchemaException(ex.getCause());
+        }
+    }
+
+    /**
+     * Reader thread: group raw rows into batches and hand them to the workers in order
+     */
+    private void read() {
+        int rowIndex = 0;
+        try {
+            while (!closed && wrappedIterator.hasNext()) {
+                String[][] rows = new String[BATCH_SIZE][];
+                int count = 0;
+                while ((count < BATCH_SIZE) && wrappedIterator.hasNext()) {
+                    rows[count++] = wrappedIterator.next();
+                }
+                final int size = count;
+                final int firstIndex = rowIndex;
+                rowIndex += count;
+                batches.put(CompletableFuture.supplyAsync(() -> castBatch(rows, size, firstIndex), workers));
+            }
+            batches.put(CompletableFuture.completedFuture(Batch.END));
+        } catch (InterruptedException ex) {
+            // closed by the consumer
+        } catch (RuntimeException ex) {
+            try {
+                batches.put(CompletableFuture.completedFuture(new Batch(new Object[0], 0, ex)));
+            } catch (InterruptedException iex) {
+                // closed by the consumer
+            }
+        }
+    }
+
+    /**
+     * Worker task: convert a batch of raw rows, stopping at the first row that fails
+     */
+    private Batch castBatch(String[][] rows, int count, int firstIndex) {
+        Object[] converted = new Object[count];
+        for (int i = 0; i < count; i++) {
+            try {
+                converted[i] = convert(rows[i], firstIndex + i);
+            } catch (RuntimeException ex) {
+                return new Batch(converted, i, ex);
+            }
+        }
+        return new Batch(converted, count, null);
+    }
+
+    /**
+     * Converted rows of one batch. A batch with an error is the last one handed out
+     */
+    private static final class Batch {
+        static final Batch END = new Batch(new Object[0], 0, null, true);
+
+        final Object[] rows;
+        final int count;
+        final RuntimeException error;
+        final boolean last;
+
+        Batch(Object[] rows, int count, RuntimeException error) {
+            this(rows, count, error, false);
+        }
+
+        private Batch(Object[] rows, int count, RuntimeException error, boolean last) {
+            this.rows = rows;
+            this.count = count;
+            this.error = error;
+            this.last = last;
+        }
+    }
+}
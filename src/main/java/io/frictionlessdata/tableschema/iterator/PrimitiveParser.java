@@ -0,0 +1,94 @@
+package io.frictionlessdata.tableschema.iterator;
+
+/**
+ * Allocation-free parsers for the common, plain forms of integer and number values. They accept a
+ * subset of what {@link io.frictionlessdata.tableschema.field.IntegerField} and
+ * {@link io.frictionlessdata.tableschema.field.NumberField} accept and yield the same values, decimals as the
+ * nearest double. Anything else is rejected so the caller can fall back to the Field caster, which also
+ * produces the error messages.
+ */
+final class PrimitiveParser {
+    // up to 18 digits always fit into a long
+    private static final int MAX_SAFE_DIGITS = 18;
+    // decimals with up to 15 significant digits survive the round trip through a double
+    private static final int MAX_EXACT_DECIMAL_DIGITS = 15;
+
+    private PrimitiveParser() {}
+
+    /**
+     * Parse an optionally signed run of digits, trimmed like String.trim() does. Values with
+     * more digits than surely fit into a long are left to the Field caster.
+     * @return false if the value wasn't parsed, leaving `target` untouched
+     */
+    static boolean parseLong(String value, long[] target, int index) {
+        int start = 0;
+        int end = value.length();
+        while ((start < end) && (value.charAt(start) <= ' ')) {
+            start++;
+        }
+        while ((end > start) && (value.charAt(end - 1) <= ' ')) {
+            end--;
+        }
+        boolean negative = false;
+        if ((start < end) && ((value.charAt(start) == '-') || (value.charAt(start) == '+'))) {
+            negative = (value.charAt(start) == '-');
+            start++;
+        }
+        if ((start == end) || (end - start > MAX_SAFE_DIGITS)) {
+            return false;
+        }
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if ((c < '0') || (c > '9')) {
+                return false;
+            }
+            result = result * 10 + (c - '0');
+        }
+        target[index] = negative ? -result : result;
+        return true;
+    }
+
+    /**
+     * Parse a decimal number. Only decimal and exponent notation is accepted, so special values
+     * like NaN and anything the Field rejects are left to the Field caster, as are values a double
+     * can't hold exactly enough: too large, too small or with more than 15 significant digits.
+     * @return false if the value wasn't parsed, leaving `target` untouched
+     */
+    static boolean parseDouble(String value, double[] target, int index) {
+        boolean hasDigit = false;
+        boolean hasFraction = false;
+        boolean inExponent = false;
+        int significantDigits = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c >= '0') && (c <= '9')) {
+                hasDigit = true;
+                if (!inExponent && ((significantDigits > 0) || (c != '0'))) {
+                    significantDigits++;
+                }
+            } else if (c == '.') {
+                hasFraction = true;
+            } else if ((c == 'e') || (c == 'E')) {
+                hasFraction = true;
+                inExponent = true;
+            } else if ((c != '-') && (c != '+') && (c > ' ')) {
+                return false;
+            }
+        }
+        // long integers stay exact via the Field caster
+        if (!hasDigit || !hasFraction || (significantDigits > MAX_EXACT_DECIMAL_DIGITS)) {
+            return false;
+        }
+        try {
+            double d = Double.parseDouble(value);
+            if (Double.isInfinite(d) || ((d == 0) ? (significantDigits > 0) : (Math.abs(d) < Double.MIN_NORMAL))) {
+                return false;
+            }
+            target[index] = d;
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.field.TemporalParser;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+/**
+ * {@link Row} backed by primitive arrays. Each column has a kind tag telling which array
+ * holds its value.
+ */
+final class PrimitiveRow implements Row {
+    private static final byte KIND_NULL = 0;
+    private static final byte KIND_LONG = 1;
+    private static final byte KIND_DOUBLE = 2;
+    private static final byte KIND_BOOLEAN = 3;
+    private static final byte KIND_EPOCH_DAY = 4;
+    private static final byte KIND_OBJECT = 5;
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    private final byte[] kinds;
+    private final long[] longs;
+    private final double[] doubles;
+    private final Object[] objects;
+
+    PrimitiveRow(int width) {
+        kinds = new byte[width];
+        longs = new long[width];
+        doubles = new double[width];
+        objects = new Object[width];
+    }
+
+    void setNull(int index) {
+        kinds[index] = KIND_NULL;
+        objects[index] = null;
+    }
+
+    void setLong(int index, long value) {
+        kinds[index] = KIND_LONG;
+        longs[index] = value;
+        objects[index] = null;
+    }
+
+    void setDouble(int index, double value) {
+        kinds[index] = KIND_DOUBLE;
+        doubles[index] = value;
+        objects[index] = null;
+    }
+
+    boolean parseLong(int index, String value) {
+        if (!PrimitiveParser.parseLong(value, longs, index)) {
+            return false;
+        }
+        kinds[index] = KIND_LONG;
+        objects[index] = null;
+        return true;
+    }
+
+    boolean parseDouble(int index, String value) {
+        if (!PrimitiveParser.parseDouble(value, doubles, index)) {
+            return false;
+        }
+        kinds[index] = KIND_DOUBLE;
+        objects[index] = null;
+        return true;
+    }
+
+    boolean parseEpochDay(int index, String value) {
+        if (!TemporalParser.parseEpochDay(value, longs, index)) {
+            return false;
+        }
+        kinds[index] = KIND_EPOCH_DAY;
+        objects[index] = null;
+        return true;
+    }
+
+    /**
+     * Store a cast value, unboxing it where possible
+     */
+    void setValue(int index, Object value) {
+        if (null == value) {
+            setNull(index);
+        } else if (value instanceof BigInteger) {
+            BigInteger bi = (BigInteger) value;
+            if (bi.bitLength() < 64) {
+                setLong(index, bi.longValue());
+            } else {
+                setObject(index, value);
+            }
+        } else if (value instanceof BigDecimal) {
+            double d = ((BigDecimal) value).doubleValue();
+            // keep values a double can't represent exactly, like 0.1 + 1e-20
+            if (Double.isInfinite(d) || (BigDecimal.valueOf(d).compareTo((BigDecimal) value) != 0)) {
+                setObject(index, value);
+            } else {
+                setDouble(index, d);
+            }
+        } else if ((value instanceof Double) || (value instanceof Float)) {
+            setDouble(index, ((Number) value).doubleValue());
+        } else if ((value instanceof Long) || (value instanceof Integer)
+                || (value instanceof Short) || (value instanceof Byte)) {
+            setLong(index, ((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            kinds[index] = KIND_BOOLEAN;
+            longs[index] = ((Boolean) value) ? 1 : 0;
+            objects[index] = null;
+        } else if (value instanceof LocalDate) {
+            kinds[index] = KIND_EPOCH_DAY;
+            longs[index] = ((LocalDate) value).toEpochDay();
+            objects[index] = null;
+        } else {
+            setObject(index, value);
+        }
+    }
+
+    private void setObject(int index, Object value) {
+        kinds[index] = KIND_OBJECT;
+        objects[index] = value;
+    }
+
+    @Override
+    public int size() {
+        return kinds.length;
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        return kinds[index] == KIND_NULL;
+    }
+
+    @Override
+    public long getLong(int index) {
+        switch (kinds[index]) {
+            case KIND_LONG:
+                return longs[index];
+            case KIND_OBJECT:
+                if (objects[index] instanceof BigInteger) {
+                    return ((BigInteger) objects[index]).longValueExact();
+                }
+                break;
+            case KIND_NULL:
+                throw nullValue(index);
+        }
+        throw wrongKind(index, "an integer");
+    }
+
+    @Override
+    public double getDouble(int index) {
+        switch (kinds[index]) {
+            case KIND_DOUBLE:
+                return doubles[index];
+            case KIND_LONG:
+                return longs[index];
+            case KIND_OBJECT:
+                if (objects[index] instanceof Number) {
+                    return ((Number) objects[index]).doubleValue();
+                }
+                break;
+            case KIND_NULL:
+                throw nullValue(index);
+        }
+        throw wrongKind(index, "a number");
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        switch (kinds[index]) {
+            case KIND_BOOLEAN:
+                return longs[index] != 0;
+            case KIND_NULL:
+                throw nullValue(index);
+        }
+        throw wrongKind(index, "a boolean");
+    }
+
+    @Override
+    public long getEpochDay(int index) {
+        switch (kinds[index]) {
+            case KIND_EPOCH_DAY:
+                return longs[index];
+            case KIND_OBJECT:
+                if (objects[index] instanceof ZonedDateTime) {
+                    return ((ZonedDateTime) objects[index]).toLocalDate().toEpochDay();
+                }
+                break;
+            case KIND_NULL:
+                throw nullValue(index);
+        }
+        throw wrongKind(index, "a date");
+    }
+
+    @Override
+    public long getEpochMillis(int index) {
+        switch (kinds[index]) {
+            case KIND_EPOCH_DAY:
+                return longs[index] * MILLIS_PER_DAY;
+            case KIND_OBJECT:
+                if (objects[index] instanceof ZonedDateTime) {
+                    return ((ZonedDateTime) objects[index]).toInstant().toEpochMilli();
+                }
+                break;
+            case KIND_NULL:
+                throw nullValue(index);
+        }
+        throw wrongKind(index, "a date or datetime");
+    }
+
+    @Override
+    public Object get(int index) {
+        switch (kinds[index]) {
+            case KIND_LONG:
+                return longs[index];
+            case KIND_DOUBLE:
+                return doubles[index];
+            case KIND_BOOLEAN:
+                return longs[index] != 0;
+            case KIND_EPOCH_DAY:
+                return LocalDate.ofEpochDay(longs[index]);
+            default:
+                return objects[index];
+        }
+    }
+
+    @Override
+    public String toString() {
+        Object[] values = new Object[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = get(i);
+        }
+        return Arrays.toString(values);
+    }
+
+    private static NullPointerException nullValue(int index) {
+        return new NullPointerException("Value at index " + index + " is null");
+    }
+
+    private ClassCastException wrongKind(int index, String expected) {
+        Object value = get(index);
+        return new ClassCastException("Value at index " + index + " is not " + expected
+                + " but " + value.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,131 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * {@link TableIterator} that refills one caller-owned row buffer in place instead of allocating a
+ * new row per record, for streaming workloads that don't keep rows after processing them. Arrays are
+ * refilled with the raw values, in Schema order if a Schema is set, or with the cast values, Maps with
+ * the values keyed by header name. Whether values are cast is set by the caller, not by the kind of
+ * buffer. Without a Schema, the raw values are returned either way.
+ *
+ * `next()` always returns the buffer, so a row is only valid until the next call to `next()`.
+ * Copy values that must outlive that. The data source is read through
+ * {@link DataSourceFormat#reusingIterator(String[])}, so the raw rows are not allocated either.
+ *
+ * @param <T> the type of the buffer
+ */
+public class ReusingTableIterator<T> extends TableIterator<T> {
+    private final T buffer;
+    private String[] sourceRow;
+
+    /**
+     * Create an Iterator refilling `buffer` with every row
+     * @param table the Table to iterate over
+     * @param buffer an `Object[]` (or any subtype when reading raw values) or a `Map` to refill. Arrays
+     *               must be at least as long as the Table has columns
+     * @param cast whether to cast the values
+     * @param relations whether to follow relations
+     * @throws Exception if opening the data source or validating the Table fails
+     */
+    public ReusingTableIterator(Table table, T buffer, boolean cast, boolean relations) throws Exception {
+        if (!((buffer instanceof Object[]) || (buffer instanceof Map))) {
+            throw new IllegalArgumentException("Buffer must be an array or a Map");
+        }
+        this.buffer = buffer;
+        this.keyed = (buffer instanceof Map);
+        this.cast = cast;
+        this.relations = relations;
+        init(table);
+        if (buffer instanceof Object[]) {
+            Class<?> componentType = buffer.getClass().getComponentType();
+            if (cast && (null != castPlan) && (componentType != Object.class)) {
+                throw new IllegalArgumentException("Buffer of " + componentType.getSimpleName()
+                        + " can't hold cast values, use an Object array");
+            }
+            int width = (null != castPlan) ? castPlan.getWidth() : sourceRow.length;
+            if (((Object[]) buffer).length < width) {
+                throw new IllegalArgumentException("Buffer must hold at least " + width + " values");
+            }
+        }
+    }
+
+    @Override
+    Iterator<String[]> openDataIterator(Table table) throws Exception {
+        DataSourceFormat dataSourceFormat = table.getDataSourceFormat();
+        String[] sourceHeaders = dataSourceFormat.getHeaders();
+        if (null == sourceHeaders) {
+            // unknown width, rows can't be read into a buffer
+            sourceRow = new String[0];
+            Iterator<String[]> rows = dataSourceFormat.iterator();
+            return new Iterator<String[]>() {
+                @Override
+                public boolean hasNext() {
+                    return rows.hasNext();
+                }
+
+                @Override
+                public String[] next() {
+                    sourceRow = rows.next();
+                    return sourceRow;
+                }
+            };
+        }
+        sourceRow = ((null == schema) && (buffer instanceof String[]))
+                ? (String[]) buffer
+                : new String[sourceHeaders.length];
+        return dataSourceFormat.reusingIterator(sourceRow);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        String[] row = this.wrappedIterator.next();
+        if (buffer instanceof Map) {
+            Map<String, Object> keyedRow = (Map<String, Object>) buffer;
+            if (null != castPlan) {
+                castPlan.checkRowLength(row);
+                for (int i = 0; i < castPlan.getWidth(); i++) {
+                    keyedRow.put(headers[i], cast ? castPlan.castColumn(row, i) : castPlan.rawColumn(row, i));
+                }
+            } else {
+                for (int i = 0; i < row.length; i++) {
+                    keyedRow.put(headers[i], row[i]);
+                }
+            }
+        } else if (!cast) {
+            Object[] rawRow = (Object[]) buffer;
+            if (null != castPlan) {
+                castPlan.checkRowLength(row);
+                for (int i = 0; i < castPlan.getWidth(); i++) {
+                    rawRow[i] = castPlan.rawColumn(row, i);
+                }
+            } else if (row != rawRow) {
+                copyRow(row, rawRow);
+            }
+        } else {
+            Object[] objectRow = (Object[]) buffer;
+            if (null != castPlan) {
+                castPlan.castInto(row, objectRow);
+            } else {
+                copyRow(row, objectRow);
+            }
+        }
+        return buffer;
+    }
+
+    private static void copyRow(String[] row, Object[] target) {
+        if (row.length > target.length) {
+            throw new TableSchemaException("Row has " + row.length + " values, but the buffer only holds "
+                    + target.length);
+        }
+        System.arraycopy(row, 0, target, 0, row.length);
+        Arrays.fill(target, row.length, target.length, null);
+    }
+}
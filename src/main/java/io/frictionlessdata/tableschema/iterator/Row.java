@@ -0,0 +1,63 @@
+package io.frictionlessdata.tableschema.iterator;
+
+/**
+ * One row of cast values with accessors for primitive values, so that numeric, boolean and
+ * date columns can be read without boxing. Columns are in Schema order.
+ *
+ * Integer and number values are held as `long` or `double`, `BigInteger` and `BigDecimal` are only used
+ * for values that don't fit, or that would lose precision as a `double`. Accessing a null value with a
+ * primitive getter throws a NullPointerException, accessing a value of a different kind a ClassCastException.
+ */
+public interface Row {
+
+    /**
+     * @return the number of columns
+     */
+    int size();
+
+    /**
+     * @param index the column index
+     * @return true if the value is null
+     */
+    boolean isNull(int index);
+
+    /**
+     * @param index the column index
+     * @return the value of an integer column
+     * @throws ArithmeticException if the value doesn't fit into a long
+     */
+    long getLong(int index);
+
+    /**
+     * @param index the column index
+     * @return the value of an integer or number column as double
+     */
+    double getDouble(int index);
+
+    /**
+     * @param index the column index
+     * @return the value of a boolean column
+     */
+    boolean getBoolean(int index);
+
+    /**
+     * @param index the column index
+     * @return the value of a date column, or the local date of a datetime column, as days
+     *          since 1970-01-01
+     */
+    long getEpochDay(int index);
+
+    /**
+     * @param index the column index
+     * @return the value of a datetime column as milliseconds since 1970-01-01T00:00:00Z, or the
+     *          start of the day in UTC for date columns
+     */
+    long getEpochMillis(int index);
+
+    /**
+     * @param index the column index
+     * @return the value as Object: Long, Double or Boolean for primitive values, LocalDate for dates,
+     *          otherwise the value as cast by the Field
+     */
+    Object get(int index);
+}
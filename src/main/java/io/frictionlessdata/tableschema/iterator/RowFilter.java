@@ -0,0 +1,260 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.FieldCaster;
+import io.frictionlessdata.tableschema.schema.Schema;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Filter on the rows of a Table, applied to the raw values before the rows are cast. Rows not
+ * matching are dropped without casting any of their other columns.
+ *
+ * A filter consists of one or more conditions on single columns, all of which must hold:
+ *
+ * - raw conditions test the uncast value string, for example `RowFilter.equalTo("country", "DE")`,
+ * - value conditions cast only the tested column with the caster of its Schema Field,
+ * - comparisons cast a literal once with the Field's caster and compare the cast values of the column
+ *   to it, for example `RowFilter.atLeast("year", "2020")`.
+ *
+ * Conditions are checked in the order they were added, so cheap and selective conditions should come
+ * first. Null and empty values are passed to raw and value conditions as null and never match
+ * comparisons. Filter columns don't need to be among the columns returned by a projection.
+ */
+public final class RowFilter {
+    private final List<Condition> conditions;
+
+    private RowFilter(List<Condition> conditions) {
+        this.conditions = conditions;
+    }
+
+    /**
+     * Match rows whose raw value of `column` satisfies `predicate`
+     * @param column the column name
+     * @param predicate the test on the raw value, null for null or empty values
+     * @return the filter
+     */
+    public static RowFilter raw(String column, Predicate<String> predicate) {
+        return new RowFilter(Collections.singletonList(new Condition(column, (field, options) -> predicate)));
+    }
+
+    /**
+     * Match rows whose raw value of `column` equals `value`
+     * @param column the column name
+     * @param value the value to match
+     * @return the filter
+     */
+    public static RowFilter equalTo(String column, String value) {
+        return raw(column, value::equals);
+    }
+
+    /**
+     * Match rows whose value of `column`, cast by its Schema Field, satisfies `predicate`
+     * @param column the column name
+     * @param predicate the test on the cast value, null for null or empty values
+     * @return the filter
+     */
+    public static RowFilter value(String column, Predicate<Object> predicate) {
+        return new RowFilter(Collections.singletonList(new Condition(column, (field, options) -> {
+            FieldCaster<?> caster = requireField(field, column).getCaster(options);
+            return (rawVal) -> predicate.test(castOrNull(caster, rawVal));
+        })));
+    }
+
+    /**
+     * Match rows whose value of `column` is greater than `literal`, both cast by the Schema Field
+     * @param column the column name
+     * @param literal the value to compare to, as it would appear in the data
+     * @return the filter
+     */
+    public static RowFilter greaterThan(String column, String literal) {
+        return compared(column, literal, (c) -> c > 0);
+    }
+
+    /**
+     * Match rows whose value of `column` is greater than or equal to `literal`, both cast by the Schema Field
+     * @param column the column name
+     * @param literal the value to compare to, as it would appear in the data
+     * @return the filter
+     */
+    public static RowFilter atLeast(String column, String literal) {
+        return compared(column, literal, (c) -> c >= 0);
+    }
+
+    /**
+     * Match rows whose value of `column` is less than `literal`, both cast by the Schema Field
+     * @param column the column name
+     * @param literal the value to compare to, as it would appear in the data
+     * @return the filter
+     */
+    public static RowFilter lessThan(String column, String literal) {
+        return compared(column, literal, (c) -> c < 0);
+    }
+
+    /**
+     * Match rows whose value of `column` is less than or equal to `literal`, both cast by the Schema Field
+     * @param column the column name
+     * @param literal the value to compare to, as it would appear in the data
+     * @return the filter
+     */
+    public static RowFilter atMost(String column, String literal) {
+        return compared(column, literal, (c) -> c <= 0);
+    }
+
+    /**
+     * Combine this filter with another one, matching rows that satisfy both. The conditions of this
+     * filter are checked first
+     * @param other the other filter
+     * @return the combined filter
+     */
+    public RowFilter and(RowFilter other) {
+        List<Condition> combined = new ArrayList<>(conditions);
+        combined.addAll(other.conditions);
+        return new RowFilter(combined);
+    }
+
+    /**
+     * @return the names of the columns the filter tests, in the order they are first tested
+     */
+    public Set<String> getColumns() {
+        Set<String> columns = new LinkedHashSet<>();
+        for (Condition condition : conditions) {
+            columns.add(condition.column);
+        }
+        return columns;
+    }
+
+    /**
+     * Resolve the filter against the layout of the raw rows
+     * @param rawIndex the index of each column in the raw rows
+     * @param schema the Schema providing the Fields for casting, may be null if there are only raw conditions
+     * @param options casting options
+     * @return a test on raw rows
+     * @throws TableSchemaException if a column is not found in the raw rows or, for conditions that cast,
+     *          in the Schema
+     */
+    Predicate<String[]> bind(Map<String, Integer> rawIndex, Schema schema, Map<String, Object> options) {
+        int size = conditions.size();
+        int[] indices = new int[size];
+        List<Predicate<String>> predicates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Condition condition = conditions.get(i);
+            Integer index = rawIndex.get(condition.column);
+            if (null == index) {
+                throw new TableSchemaException("Column " + condition.column + " not found in data");
+            }
+            indices[i] = index;
+            Field<?> field = (null != schema) ? schema.getField(condition.column) : null;
+            predicates.add(condition.binder.bind(field, options));
+        }
+        return (row) -> {
+            for (int i = 0; i < size; i++) {
+                int index = indices[i];
+                String rawVal = (index < row.length) ? row[index] : null;
+                if ((null != rawVal) && rawVal.isEmpty()) {
+                    rawVal = null;
+                }
+                if (!predicates.get(i).test(rawVal)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static RowFilter compared(String column, String literal, IntPredicate comparison) {
+        return new RowFilter(Collections.singletonList(new Condition(column, (field, options) -> {
+            FieldCaster<?> caster = requireField(field, column).getCaster(options);
+            Object bound = caster.cast(literal);
+            if (!(bound instanceof Comparable)) {
+                throw new TableSchemaException("Values of column " + column + " can't be compared");
+            }
+            if (bound instanceof Number) {
+                Number number = (Number) bound;
+                return (rawVal) -> {
+                    Object value = castOrNull(caster, rawVal);
+                    return (value instanceof Number) && compareNumbers((Number) value, number, comparison);
+                };
+            }
+            Comparable comparable = (Comparable) bound;
+            return (rawVal) -> {
+                Object value = castOrNull(caster, rawVal);
+                return (null != value) && comparison.test(((Comparable) value).compareTo(comparable));
+            };
+        })));
+    }
+
+    /**
+     * Compare numbers of mixed types, as number Fields return BigInteger, BigDecimal or Double values
+     * for the same column. NaN never matches
+     */
+    static boolean compareNumbers(Number value, Number bound, IntPredicate comparison) {
+        if (isSpecial(value) || isSpecial(bound)) {
+            double v = value.doubleValue();
+            double b = bound.doubleValue();
+            return !Double.isNaN(v) && !Double.isNaN(b) && comparison.test(Double.compare(v, b));
+        }
+        return comparison.test(toBigDecimal(value).compareTo(toBigDecimal(bound)));
+    }
+
+    private static boolean isSpecial(Number number) {
+        if ((number instanceof Double) || (number instanceof Float)) {
+            double d = number.doubleValue();
+            return Double.isNaN(d) || Double.isInfinite(d);
+        }
+        return false;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if ((number instanceof Double) || (number instanceof Float)) {
+            return BigDecimal.valueOf(number.doubleValue());
+        }
+        return BigDecimal.valueOf(number.longValue());
+    }
+
+    private static Field<?> requireField(Field<?> field, String column) {
+        if (null == field) {
+            throw new TableSchemaException("Column " + column + " not found in Schema, cannot cast for filtering");
+        }
+        return field;
+    }
+
+    private static Object castOrNull(FieldCaster<?> caster, String rawVal) {
+        return (null == rawVal) ? null : caster.cast(rawVal);
+    }
+
+    /**
+     * Creates the test on the raw value of one column once the Field of the column is known
+     */
+    @FunctionalInterface
+    private interface Binder {
+        Predicate<String> bind(Field<?> field, Map<String, Object> options);
+    }
+
+    private static final class Condition {
+        private final String column;
+        private final Binder binder;
+
+        Condition(String column, Binder binder) {
+            this.column = column;
+            this.binder = binder;
+        }
+    }
+}
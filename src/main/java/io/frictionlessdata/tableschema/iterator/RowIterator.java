@@ -0,0 +1,80 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+import java.util.Iterator;
+
+/**
+ * {@link TableIterator} returning the cast values of every row as {@link Row}, with integer, number,
+ * boolean and date values held as primitives. Requires a Schema.
+ *
+ * If `reuseRow` is set, one Row instance is refilled for every record, so a Row is only valid until
+ * the next call to `next()`, and the data source is read through
+ * {@link DataSourceFormat#reusingIterator(String[])}.
+ *
+ * If `lazy` is set, the Rows hold the raw values and cast a column, and check its constraints, only when
+ * it is first accessed. This saves casting columns that are never read, but defers cast and constraint
+ * errors to the access.
+ */
+public class RowIterator extends TableIterator<Row> {
+    private final boolean reuseRow;
+    private final boolean lazy;
+    private PrimitiveRow row;
+    private LazyRow lazyRow;
+
+    /**
+     * Create an Iterator over the Rows of a Table
+     * @param table the Table to iterate over
+     * @param reuseRow whether to refill one Row instead of creating a new Row per record
+     * @throws Exception if opening the data source or validating the Table fails
+     */
+    public RowIterator(Table table, boolean reuseRow) throws Exception {
+        this(table, reuseRow, false);
+    }
+
+    /**
+     * Create an Iterator over the Rows of a Table, optionally casting columns only when they are accessed
+     * @param table the Table to iterate over
+     * @param reuseRow whether to refill one Row instead of creating a new Row per record
+     * @param lazy whether to cast a column on first access instead of casting the whole record
+     * @throws Exception if opening the data source or validating the Table fails
+     */
+    public RowIterator(Table table, boolean reuseRow, boolean lazy) throws Exception {
+        if (null == table.getSchema()) {
+            throw new TableSchemaException("Cannot cast without a schema");
+        }
+        this.reuseRow = reuseRow;
+        this.lazy = lazy;
+        init(table);
+        if (reuseRow && lazy) {
+            lazyRow = new LazyRow(castPlan);
+        } else if (reuseRow) {
+            row = new PrimitiveRow(castPlan.getWidth());
+        }
+    }
+
+    @Override
+    Iterator<String[]> openDataIterator(Table table) throws Exception {
+        DataSourceFormat dataSourceFormat = table.getDataSourceFormat();
+        String[] sourceHeaders = dataSourceFormat.getHeaders();
+        if (!reuseRow || (null == sourceHeaders)) {
+            return dataSourceFormat.iterator();
+        }
+        return dataSourceFormat.reusingIterator(new String[sourceHeaders.length]);
+    }
+
+    @Override
+    public Row next() {
+        String[] rawRow = this.wrappedIterator.next();
+        if (lazy) {
+            LazyRow target = reuseRow ? lazyRow : new LazyRow(castPlan);
+            target.reset(rawRow);
+            return target;
+        }
+        PrimitiveRow target = reuseRow ? row : new PrimitiveRow(castPlan.getWidth());
+        castPlan.castInto(rawRow, target);
+        return target;
+    }
+}
@@ -0,0 +1,61 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary-encoded {@link ColumnVector} for string Fields: each distinct value of the batch is
+ * stored once in the dictionary, and rows hold the index of their value in the dictionary.
+ */
+public final class StringVector extends ColumnVector {
+    private final int[] codes;
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> lookup = new HashMap<>();
+
+    StringVector(int size) {
+        super(size);
+        codes = new int[size];
+    }
+
+    /**
+     * @return the dictionary codes of the values, 0 for null values. The array is not copied
+     */
+    public int[] getCodes() {
+        return codes;
+    }
+
+    /**
+     * @return the distinct values of the batch in order of first occurrence
+     */
+    public List<String> getDictionary() {
+        return Collections.unmodifiableList(dictionary);
+    }
+
+    /**
+     * @param index the row index in the batch
+     * @return the value
+     */
+    public String getString(int index) {
+        return isNull(index) ? null : dictionary.get(codes[index]);
+    }
+
+    @Override
+    public Object get(int index) {
+        return getString(index);
+    }
+
+    @Override
+    void set(int index, Object value) {
+        String str = value.toString();
+        Integer code = lookup.get(str);
+        if (null == code) {
+            code = dictionary.size();
+            dictionary.add(str);
+            lookup.put(str, code);
+        }
+        codes[index] = code;
+    }
+}
@@ -1,18 +1,27 @@
 package io.frictionlessdata.tableschema.iterator;
 
+import com.google.common.collect.AbstractIterator;
 import io.frictionlessdata.tableschema.schema.Schema;
 import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import io.frictionlessdata.tableschema.field.Field;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  *
  *
  */
-public class TableIterator<T> implements Iterator<T> {
+public class TableIterator<T> implements Iterator<T>, AutoCloseable {
     String[] headers = null;
     Schema schema = null;
     Iterator<String[]> wrappedIterator = null;
@@ -21,8 +30,17 @@ public class TableIterator<T> implements Iterator<T> {
     boolean cast = true;
     boolean relations = false;
     Map<String, Object> fieldOptions;
+    String[] columns = null;
+    RowFilter filter = null;
+    // the columns read from the data source, the projected columns followed by further filter columns
+    private String[] dataColumns = null;
     Map<Integer, Integer> mapping = null;
+    CastPlan castPlan = null;
     int index = 0;
+    // error collecting mode: invalid rows are recorded and skipped, which needs one row of lookahead
+    CastErrorCollector errors = null;
+    private Object[] nextCastRow = null;
+    private long rowsRead = 0;
 
 
     TableIterator() {}
@@ -45,79 +63,288 @@ public class TableIterator<T> implements Iterator<T> {
         this.relations = relations;
     }
 
+    /**
+     * Create an Iterator over some of the columns of a Table. The data source only hands out the values
+     * of `columns`, in that order, and only these are cast.
+     * @param table the Table to iterate over
+     * @param columns the names of the columns to return
+     * @param keyed whether to return rows as Map keyed by column name
+     * @param extended whether to return rows in extended form
+     * @param cast whether to cast the values
+     * @param relations whether to follow relations
+     * @throws Exception if opening the data source or validating the Table fails
+     * @throws TableSchemaException if a column is not in the Schema, or in the data if there's no Schema
+     */
+    public TableIterator(
+            Table table,
+            String[] columns,
+            boolean keyed,
+            boolean extended,
+            boolean cast,
+            boolean relations) throws Exception{
+        this(table, columns, null, keyed, extended, cast, relations);
+    }
+
+    /**
+     * Create an Iterator over the rows of a Table matching `filter`, optionally only over some of the
+     * columns. The filter is applied to the raw values, rows not matching are dropped before they are cast.
+     * Filter columns need not be among `columns`.
+     * @param table the Table to iterate over
+     * @param columns the names of the columns to return, null for all columns
+     * @param filter the filter on the rows, null for all rows
+     * @param keyed whether to return rows as Map keyed by column name
+     * @param extended whether to return rows in extended form
+     * @param cast whether to cast the values
+     * @param relations whether to follow relations
+     * @throws Exception if opening the data source or validating the Table fails
+     * @throws TableSchemaException if a column is not in the Schema, or in the data if there's no Schema
+     */
+    public TableIterator(
+            Table table,
+            String[] columns,
+            RowFilter filter,
+            boolean keyed,
+            boolean extended,
+            boolean cast,
+            boolean relations) throws Exception{
+
+        this.columns = (null != columns) ? columns.clone() : null;
+        this.filter = filter;
+        this.init(table);
+        this.keyed = keyed;
+        this.extended = extended;
+        this.cast = cast;
+        this.relations = relations;
+    }
+
+    /**
+     * Create an Iterator that doesn't stop at invalid values. Rows with values that can't be cast or violate
+     * constraints are recorded in `errors` and skipped, the Iterator returns the valid rows only. Reading stops
+     * with a TableSchemaException once the error budget of `errors` is used up. Without a Schema, nothing is cast
+     * and all rows are returned.
+     * @param table the Table to iterate over
+     * @param columns the names of the columns to return, null for all columns
+     * @param filter the filter on the rows, null for all rows
+     * @param keyed whether to return rows as Map keyed by column name
+     * @param extended whether to return rows in extended form
+     * @param errors receives the errors, and optionally the invalid rows
+     * @throws Exception if opening the data source or validating the Table fails
+     * @throws TableSchemaException if a column is not in the Schema, or in the data if there's no Schema
+     */
+    public TableIterator(
+            Table table,
+            String[] columns,
+            RowFilter filter,
+            boolean keyed,
+            boolean extended,
+            CastErrorCollector errors) throws Exception{
+
+        this.columns = (null != columns) ? columns.clone() : null;
+        this.filter = filter;
+        this.errors = errors;
+        this.init(table);
+        this.keyed = keyed;
+        this.extended = extended;
+    }
+
     void init(Table table) throws Exception{
         this.fieldOptions = table.getFieldOptions();
-        this.mapping = table.getSchemaHeaderMapping();
-        this.headers = table.getHeaders();
         this.schema = table.getSchema();
         table.validate();
-        this.wrappedIterator = table.getDataSourceFormat().iterator();
+        String[] rawHeaders;
+        if (null == columns) {
+            this.mapping = table.getSchemaHeaderMapping();
+            this.headers = table.getHeaders();
+            if (null != this.schema) {
+                this.castPlan = new CastPlan(this.schema, this.mapping, this.fieldOptions);
+            }
+            rawHeaders = (null != filter) ? table.getDataSourceFormat().getHeaders() : null;
+        } else {
+            // the data source returns the values in the order of the columns, followed
+            // by the values of filter columns that are not projected
+            Set<String> fetched = new LinkedHashSet<>(Arrays.asList(columns));
+            if (null != filter) {
+                fetched.addAll(filter.getColumns());
+            }
+            this.dataColumns = fetched.toArray(new String[0]);
+            this.headers = columns;
+            this.mapping = new HashMap<>();
+            for (int i = 0; i < columns.length; i++) {
+                mapping.put(i, i);
+            }
+            rawHeaders = dataColumns;
+            if (null != this.schema) {
+                this.castPlan = new CastPlan(projectFields(), this.mapping, this.fieldOptions, dataColumns.length);
+            } else if (table.getDataSourceFormat().hasReliableHeaders()) {
+                List<String> found = Arrays.asList(table.getHeaders());
+                for (String column : columns) {
+                    if (!found.contains(column)) {
+                        throw new TableSchemaException("Column " + column + " not found in data");
+                    }
+                }
+            }
+        }
+        if (null != errors) {
+            errors.setHeaders((null != dataColumns) ? dataColumns : table.getDataSourceFormat().getHeaders());
+        }
+        this.wrappedIterator = openDataIterator(table);
+        if (null != filter) {
+            Map<String, Integer> rawIndex = new HashMap<>();
+            for (int i = 0; i < rawHeaders.length; i++) {
+                rawIndex.putIfAbsent(rawHeaders[i], i);
+            }
+            this.wrappedIterator = new FilteringIterator(wrappedIterator,
+                    filter.bind(rawIndex, schema, fieldOptions));
+        }
+    }
+
+    private List<Field> projectFields() {
+        List<Field> fields = new ArrayList<>(columns.length);
+        for (String column : columns) {
+            Field field = schema.getField(column);
+            if (null == field) {
+                throw new TableSchemaException("Column " + column + " not found in Schema");
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    /**
+     * Open the Iterator over the raw rows of the Table's data source
+     * @param table the Table to iterate over
+     * @return Iterator over the raw data
+     * @throws Exception if opening the data source fails
+     */
+    Iterator<String[]> openDataIterator(Table table) throws Exception {
+        if (null != dataColumns) {
+            return table.getDataSourceFormat().iterator(dataColumns);
+        }
+        return table.getDataSourceFormat().iterator();
     }
 
 
     @Override
     public boolean hasNext() {
+        if ((null != errors) && (null != castPlan)) {
+            return advance();
+        }
         return this.wrappedIterator.hasNext();
     }
 
+    /**
+     * Read ahead to the next row without errors, recording and rejecting invalid rows on the way
+     * @return false at the end of the data
+     */
+    private boolean advance() {
+        while ((null == nextCastRow) && wrappedIterator.hasNext()) {
+            String[] row = wrappedIterator.next();
+            // errors carry the row number in the data, counting the rows a filter dropped
+            long rowNumber = (wrappedIterator instanceof FilteringIterator)
+                    ? ((FilteringIterator) wrappedIterator).rowsRead
+                    : ++rowsRead;
+            nextCastRow = castPlan.tryCast(row, rowNumber, errors);
+            if (null == nextCastRow) {
+                try {
+                    errors.rejectRow(row);
+                } catch (RuntimeException ex) {
+                    close();
+                    throw ex;
+                }
+            }
+        }
+        return null != nextCastRow;
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Stop iterating before the end of the data and release the parser and the file or stream
+     * it reads from. Iterating to the end releases them without calling this method.
+     */
+    @Override
+    public void close() {
+        if (wrappedIterator instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) wrappedIterator).close();
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new TableSchemaException(ex);
+            }
+        }
+    }
+
     @Override
     public T next() {
+        if ((null != errors) && (null != castPlan)) {
+            if (!advance()) {
+                throw new NoSuchElementException();
+            }
+            Object[] castRow = nextCastRow;
+            nextCastRow = null;
+            return wrapCastRow(castRow, index++);
+        }
         String[] row = this.wrappedIterator.next();
-        int rowLength = row.length;
-        if (null != this.schema) {
-            rowLength = Math.max(row.length, this.schema.getFields().size());
+        return convert(row, index++);
+    }
+
+    /**
+     * Return a row cast by {@link CastPlan#tryCast} in the form of this Iterator
+     */
+    private T wrapCastRow(Object[] castRow, int rowIndex) {
+        if (extended) {
+            return (T) new Object[]{rowIndex, this.headers, castRow};
+        } else if (keyed) {
+            Map<String, Object> keyedRow = new HashMap<>((int)(castRow.length / 0.75f) + 1);
+            for (int i = 0; i < castRow.length; i++) {
+                keyedRow.put(this.headers[i], castRow[i]);
+            }
+            return (T) keyedRow;
         }
-        Map<String, Object> keyedRow = new HashMap<>();
-        Object[] extendedRow;
-        Object[] castRow = new Object[rowLength];
-        Object[] plainRow = new Object[rowLength];
+        return (T) castRow;
+    }
 
+    /**
+     * Convert a raw row into what this Iterator returns. Doesn't change the state of the Iterator, so it
+     * can be called from several threads at once.
+     * @param row the raw row
+     * @param rowIndex the index of the row in the data, for extended rows
+     * @return the converted row
+     */
+    T convert(String[] row, int rowIndex) {
         // If there's a schema, attempt to cast the row.
-        if(this.schema != null){
-            for(int i = 0; i < rowLength; i++){
-                Field field = this.schema.getFields().get(i);
-                Integer key = mapping.get(i);
-                Object val = null;
-                // null keys can happen for JSON arrays of JSON objects because
-                // null values will lead to missing entries
-                if (null != key) {
-                    String rawVal = row[mapping.get(i)];
-                    val = field.castValue(rawVal, true, fieldOptions);
-                }
-                if (!extended && keyed) {
-                    keyedRow.put(this.headers[i], val);
-                } else if (cast || extended){
-                    castRow[i] = val;
-                } else {
-                    plainRow[i] = val;
+        if(this.castPlan != null){
+            if (!extended && keyed) {
+                castPlan.checkRowLength(row);
+                int width = castPlan.getWidth();
+                Map<String, Object> keyedRow = new HashMap<>((int)(width / 0.75f) + 1);
+                for(int i = 0; i < width; i++){
+                    keyedRow.put(this.headers[i], castPlan.castColumn(row, i));
                 }
+                return (T)keyedRow;
             }
-
+            Object[] castRow = castPlan.cast(row);
             if (extended){
-                extendedRow = new Object[]{index, this.headers, castRow};
-                index++;
+                Object[] extendedRow = new Object[]{rowIndex, this.headers, castRow};
                 return (T)extendedRow;
-            } else if(keyed){
-                return (T)keyedRow;
-            } else if(cast){
-                return (T)castRow;
-            } else{
-                return (T)plainRow;
             }
+            return (T)castRow;
         }else{
             // Enter here if no Schema has been defined.
+            if ((null != columns) && (row.length > columns.length)) {
+                // drop the values of filter columns that are not projected
+                row = Arrays.copyOf(row, columns.length);
+            }
             if(extended){
-                extendedRow = new Object[]{index, this.headers, row};
-                index++;
+                Object[] extendedRow = new Object[]{rowIndex, this.headers, row};
                 return (T)extendedRow;
 
             }else if(keyed){
-                keyedRow = new HashMap();
+                Map<String, Object> keyedRow = new HashMap<>();
                 for(int i=0; i<row.length; i++){
                     keyedRow.put(this.headers[i], row[i]);
                 }
@@ -128,4 +355,38 @@ public class TableIterator<T> implements Iterator<T> {
             }
         }
     }
+
+    /**
+     * Skips the raw rows not matching a filter, and passes on closing
+     */
+    private static final class FilteringIterator extends AbstractIterator<String[]> implements AutoCloseable {
+        private final Iterator<String[]> rows;
+        private final Predicate<String[]> filter;
+        // raw rows read so far, including the ones skipped
+        private long rowsRead = 0;
+
+        FilteringIterator(Iterator<String[]> rows, Predicate<String[]> filter) {
+            this.rows = rows;
+            this.filter = filter;
+        }
+
+        @Override
+        protected String[] computeNext() {
+            while (rows.hasNext()) {
+                String[] row = rows.next();
+                rowsRead++;
+                if (filter.test(row)) {
+                    return row;
+                }
+            }
+            return endOfData();
+        }
+
+        @Override
+        public void close() throws Exception {
+            if (rows instanceof AutoCloseable) {
+                ((AutoCloseable) rows).close();
+            }
+        }
+    }
 }
@@ -0,0 +1,232 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reactive Streams {@link Publisher} of the rows of a Table. Every Subscriber reads the data through an
+ * Iterator of its own, created by an {@link TableSpliterator.IteratorFactory} on the first request, for
+ * example `Table::iterator`.
+ *
+ * Rows are only read when the Subscriber has requested them, so a slow Subscriber slows down reading
+ * instead of rows being buffered. Rows are emitted on the thread calling `request(n)`, or on the
+ * Executor given at construction, which keeps blocking reads off the Subscriber's threads.
+ *
+ * Cancelling the Subscription closes the Iterator, and with it the parser and the file or stream it
+ * reads from. Exceptions while opening the data, reading or casting are signalled with `onError()`.
+ * Exceptions thrown by the Subscriber cancel the Subscription.
+ *
+ * @param <T> the type of the rows
+ */
+public class TablePublisher<T> implements Publisher<T> {
+    private final Table table;
+    private final TableSpliterator.IteratorFactory<T> factory;
+    private final Executor executor;
+
+    /**
+     * Create a Publisher emitting rows on the threads requesting them
+     * @param table the Table to read
+     * @param factory creates the Iterator reading the rows of the Table
+     */
+    public TablePublisher(Table table, TableSpliterator.IteratorFactory<T> factory) {
+        this(table, factory, Runnable::run);
+    }
+
+    /**
+     * Create a Publisher emitting rows on `executor`
+     * @param table the Table to read
+     * @param factory creates the Iterator reading the rows of the Table
+     * @param executor runs reading and emitting the rows
+     */
+    public TablePublisher(Table table, TableSpliterator.IteratorFactory<T> factory, Executor executor) {
+        this.table = Objects.requireNonNull(table, "table");
+        this.factory = Objects.requireNonNull(factory, "factory");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        RowSubscription<T> subscription = new RowSubscription<>(subscriber, this);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Subscription reading one row per requested element. `drain()` runs on one thread at a time, guarded
+     * by the `wip` counter; calls to `request()` or `cancel()` while it runs make it loop again.
+     */
+    private static final class RowSubscription<T> implements Subscription, Runnable {
+        private final Subscriber<? super T> subscriber;
+        private final TablePublisher<T> publisher;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile Throwable invalidRequest = null;
+        // only accessed from drain()
+        private Iterator<T> rows = null;
+        private boolean done = false;
+
+        RowSubscription(Subscriber<? super T> subscriber, TablePublisher<T> publisher) {
+            this.subscriber = subscriber;
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " rows, must be positive");
+            } else {
+                long current;
+                long next;
+                do {
+                    current = requested.get();
+                    if (current == Long.MAX_VALUE) {
+                        break;
+                    }
+                    next = current + n;
+                    if (next < 0) {
+                        next = Long.MAX_VALUE;
+                    }
+                } while (!requested.compareAndSet(current, next));
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    publisher.executor.execute(this);
+                } catch (RuntimeException ex) {
+                    wip.set(0);
+                    cancelled = true;
+                    subscriber.onError(ex);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                stop();
+                return;
+            }
+            if (null != invalidRequest) {
+                fail(invalidRequest);
+                return;
+            }
+            try {
+                if (null == rows) {
+                    rows = publisher.factory.open(publisher.table);
+                }
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            long emitted = 0;
+            long demand = requested.get();
+            while (!cancelled) {
+                if (emitted == demand) {
+                    demand = (demand == Long.MAX_VALUE) ? demand : requested.addAndGet(-emitted);
+                    emitted = 0;
+                    if (demand == 0) {
+                        return;
+                    }
+                }
+                boolean hasNext;
+                T row = null;
+                try {
+                    // only read the next row once it has been requested
+                    hasNext = rows.hasNext();
+                    if (hasNext) {
+                        row = rows.next();
+                    } else {
+                        finish();
+                    }
+                } catch (Throwable ex) {
+                    fail(ex);
+                    return;
+                }
+                try {
+                    if (!hasNext) {
+                        subscriber.onComplete();
+                        return;
+                    }
+                    subscriber.onNext(row);
+                } catch (Throwable ex) {
+                    // a throwing Subscriber counts as cancelled (rule 2.13), it gets no further signals
+                    cancelled = true;
+                    stop();
+                    return;
+                }
+                emitted++;
+            }
+            stop();
+        }
+
+        private void fail(Throwable error) {
+            cancelled = true;
+            try {
+                finish();
+            } catch (RuntimeException ex) {
+                error.addSuppressed(ex);
+            }
+            subscriber.onError(error);
+        }
+
+        /**
+         * Stop emitting after cancellation and close the Iterator, without signalling errors
+         * in closing to the Subscriber that is gone
+         */
+        private void stop() {
+            try {
+                finish();
+            } catch (RuntimeException ignored) {
+                // nobody left to report to
+            }
+        }
+
+        /**
+         * Stop emitting and close the Iterator if it was opened
+         */
+        private void finish() {
+            done = true;
+            Iterator<T> opened = rows;
+            rows = null;
+            if (opened instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) opened).close();
+                } catch (RuntimeException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    throw new TableSchemaException(ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the rows of a Table, backing the Streams returned by the Table. Rows are read
+ * through an Iterator created by an {@link IteratorFactory}, for example `Table::keyedIterator`.
+ *
+ * If the data source of the Table is splittable (local CSV and NDJSON files, see
+ * {@link DataSourceFormat#isSplittable()}), the first call to {@link #trySplit()} splits the data at record
+ * boundaries into a few parts per thread of the common ForkJoin pool, and further calls hand off half of the
+ * remaining parts. Every part is read through a Table of its own sharing the Schema and field options,
+ * so parsing and casting run in parallel in parallel streams.
+ *
+ * The Spliterator is ORDERED and NONNULL, and SIZED if the data source knows its row count and the
+ * Iterators return every row.
+ *
+ * The Iterator of every part is closed once the part is read. Closing the Spliterator, for example from
+ * {@link java.util.stream.Stream#onClose(Runnable)}, closes the Iterators of all parts not read completely,
+ * including those of the Spliterators split off.
+ *
+ * @param <T> the type of the rows
+ */
+public class TableSpliterator<T> implements Spliterator<T>, AutoCloseable {
+    // more parts than threads to even out parts of different cost
+    private static final int SPLITS_PER_THREAD = 4;
+
+    /**
+     * Creates the Iterator reading the rows of a Table
+     * @param <T> the type of the rows
+     */
+    @FunctionalInterface
+    public interface IteratorFactory<T> {
+        Iterator<T> open(Table table) throws Exception;
+    }
+
+    private final Table table;
+    private final IteratorFactory<T> factory;
+    // Iterators not closed yet, shared with the Spliterators split off
+    private final Set<Iterator<T>> opened;
+    private List<? extends DataSourceFormat> parts;
+    private boolean dataSplit;
+    private int partIndex = 0;
+    private Iterator<T> current = null;
+    private long rowCount;
+
+    /**
+     * Create a Spliterator over the rows of a Table
+     * @param table the Table to read
+     * @param factory creates the Iterator reading the rows of the Table or of a part of it
+     */
+    public TableSpliterator(Table table, IteratorFactory<T> factory) {
+        this(table, factory, true);
+    }
+
+    /**
+     * Create a Spliterator over the rows of a Table
+     * @param table the Table to read
+     * @param factory creates the Iterator reading the rows of the Table or of a part of it
+     * @param sized false if the Iterators may skip rows, for example filtering ones, so the row count
+     *              of the data source isn't the size of the Spliterator
+     */
+    public TableSpliterator(Table table, IteratorFactory<T> factory, boolean sized) {
+        this(table, factory, Collections.singletonList(table.getDataSourceFormat()), false,
+                Collections.newSetFromMap(new ConcurrentHashMap<>()));
+        this.rowCount = sized ? table.getDataSourceFormat().getRowCount() : -1;
+    }
+
+    private TableSpliterator(Table table, IteratorFactory<T> factory,
+                             List<? extends DataSourceFormat> parts, boolean dataSplit, Set<Iterator<T>> opened) {
+        this.table = table;
+        this.factory = factory;
+        this.opened = opened;
+        this.parts = parts;
+        this.dataSplit = dataSplit;
+        this.rowCount = -1;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while ((null == current) || !current.hasNext()) {
+            closeCurrent();
+            if (partIndex >= parts.size()) {
+                return false;
+            }
+            current = open(parts.get(partIndex++));
+        }
+        action.accept(current.next());
+        if (rowCount > 0) {
+            rowCount--;
+        }
+        return true;
+    }
+
+    /**
+     * Hand off the first half of the parts. Splitting is only possible before iterating started
+     * @return a Spliterator over the first half of the parts, or null if splitting isn't possible
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        if ((null != current) || (partIndex > 0)) {
+            return null;
+        }
+        if (!dataSplit) {
+            dataSplit = true;
+            DataSourceFormat dataSource = parts.get(0);
+            if (!dataSource.isSplittable()) {
+                return null;
+            }
+            try {
+                parts = dataSource.split(SPLITS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism());
+                rowCount = -1;
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new TableSchemaException(ex);
+            }
+        }
+        if (parts.size() < 2) {
+            return null;
+        }
+        int mid = parts.size() / 2;
+        TableSpliterator<T> prefix = new TableSpliterator<>(table, factory, parts.subList(0, mid), true, opened);
+        parts = parts.subList(mid, parts.size());
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return (rowCount >= 0) ? rowCount : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = ORDERED | NONNULL;
+        if (rowCount >= 0) {
+            characteristics |= SIZED | SUBSIZED;
+        }
+        return characteristics;
+    }
+
+    /**
+     * Close the Iterators of all parts not read completely, of this Spliterator and of those split off
+     * from it
+     * @throws TableSchemaException if closing an Iterator fails, after trying to close all of them
+     */
+    @Override
+    public void close() {
+        current = null;
+        partIndex = parts.size();
+        RuntimeException failure = null;
+        for (Iterator<T> iter : new ArrayList<>(opened)) {
+            try {
+                close(iter);
+            } catch (RuntimeException ex) {
+                if (null == failure) {
+                    failure = ex;
+                }
+            }
+        }
+        if (null != failure) {
+            throw failure;
+        }
+    }
+
+    private void closeCurrent() {
+        if (null != current) {
+            Iterator<T> iter = current;
+            current = null;
+            close(iter);
+        }
+    }
+
+    private void close(Iterator<T> iter) {
+        if (!opened.remove(iter) || !(iter instanceof AutoCloseable)) {
+            return;
+        }
+        try {
+            ((AutoCloseable) iter).close();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new TableSchemaException(ex);
+        }
+    }
+
+    private Iterator<T> open(DataSourceFormat dataSource) {
+        try {
+            Iterator<T> iter;
+            if (dataSource == table.getDataSourceFormat()) {
+                iter = factory.open(table);
+            } else {
+                Table part = new Table();
+                part.setFieldOptions(table.getFieldOptions());
+                part.setDataSourceFormat(dataSource);
+                part.setSchema(table.getSchema());
+                iter = factory.open(part);
+            }
+            opened.add(iter);
+            return iter;
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new TableSchemaException(ex);
+        }
+    }
+}
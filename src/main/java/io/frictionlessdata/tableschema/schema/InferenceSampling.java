@@ -0,0 +1,101 @@
+package io.frictionlessdata.tableschema.schema;
+
+/**
+ * Selects the rows a Schema is inferred from, see
+ * {@link io.frictionlessdata.tableschema.Table#inferSchema(InferenceSampling)}. Instead of the first rows,
+ * which are slow to get past on large files and may not be representative, a sample spread over the whole
+ * data is used:
+ *
+ * - strided: rows taken at even distances. Local CSV and NDJSON files are split at record boundaries into
+ *   byte ranges, and the first rows of every range are read, so the rest of the file is skipped. Data sources
+ *   that can't be split are read row by row, keeping every n-th row if their row count is known, and
+ *   are sampled with a reservoir otherwise.
+ * - reservoir: a uniform random sample of the rows, which reads all rows but only infers from the sample.
+ *
+ * Inferral stops early once the type of every column is settled: a type is settled when it has the majority
+ * of the values of its column with the configured confidence, judging from the values scored so far.
+ *
+ * Instances are immutable.
+ */
+public final class InferenceSampling {
+
+    /**
+     * How the sampled rows are picked
+     */
+    public enum Method {
+        STRIDED,
+        RESERVOIR
+    }
+
+    /** Confidence for settling column types if none is configured */
+    public static final double DEFAULT_CONFIDENCE = 0.99;
+
+    private final Method method;
+    private final int sampleSize;
+    private final long seed;
+    private final double confidence;
+
+    private InferenceSampling(Method method, int sampleSize, long seed, double confidence) {
+        if (sampleSize < 1) {
+            throw new IllegalArgumentException("Sample size must be positive, was " + sampleSize);
+        }
+        if (!(confidence > 0) || (confidence > 1)) {
+            throw new IllegalArgumentException("Confidence must be above 0 and at most 1, was " + confidence);
+        }
+        this.method = method;
+        this.sampleSize = sampleSize;
+        this.seed = seed;
+        this.confidence = confidence;
+    }
+
+    /**
+     * Sample rows at even distances
+     * @param sampleSize the maximum number of rows to infer from
+     * @return the sampling
+     */
+    public static InferenceSampling strided(int sampleSize) {
+        return new InferenceSampling(Method.STRIDED, sampleSize, 0, DEFAULT_CONFIDENCE);
+    }
+
+    /**
+     * Sample rows uniformly at random
+     * @param sampleSize the maximum number of rows to infer from
+     * @param seed seed of the random numbers, the same seed picks the same rows
+     * @return the sampling
+     */
+    public static InferenceSampling reservoir(int sampleSize, long seed) {
+        return new InferenceSampling(Method.RESERVOIR, sampleSize, seed, DEFAULT_CONFIDENCE);
+    }
+
+    /**
+     * @param confidence the confidence with which a column's type must have the majority of its values
+     *                   to settle it. 1 to never stop early and infer from the whole sample
+     * @return a copy of this sampling with the given confidence
+     */
+    public InferenceSampling withConfidence(double confidence) {
+        return new InferenceSampling(method, sampleSize, seed, confidence);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getConfidence() {
+        return confidence;
+    }
+
+    @Override
+    public String toString() {
+        return "InferenceSampling{" + method + ", sampleSize=" + sampleSize
+                + ((method == Method.RESERVOIR) ? ", seed=" + seed : "")
+                + ", confidence=" + confidence + "}";
+    }
+}
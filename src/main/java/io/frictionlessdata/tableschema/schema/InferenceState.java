@@ -0,0 +1,266 @@
+package io.frictionlessdata.tableschema.schema;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * The type and format votes of Schema inferral, for inferring a Schema from data split into shards,
+ * like partition files. Every shard is inferred on its own, for example with
+ * {@link io.frictionlessdata.tableschema.Table#inferState()} in parallel or on separate machines - instances
+ * are {@link Serializable} - and the states are merged with {@link #merge(InferenceState)} before building the
+ * Schema with {@link #toSchema()}.
+ *
+ * Merging adds up the votes of columns with the same name, so it is associative and commutative; columns
+ * are kept in the order they are first seen.
+ *
+ * The type of a column is the narrowest type accepting all the values that were scored, found by
+ * widening the voted types from year to integer to number to string, and from geojson to object to string.
+ * All other types widen to string, and string to any. This differs from the plurality vote of
+ * {@link io.frictionlessdata.tableschema.Table#inferSchema()}, as shards inferred as integer and as number
+ * have to result in number, whichever has more values. The format is the one voted the most for the
+ * resulting type, "default" if the type has no votes of its own.
+ *
+ * Instances are immutable.
+ */
+public final class InferenceState implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // The next wider type of the types that don't widen to string directly
+    private static final Map<String, String> WIDER_TYPES = new HashMap<>();
+
+    static {
+        WIDER_TYPES.put(Field.FIELD_TYPE_YEAR, Field.FIELD_TYPE_INTEGER);
+        WIDER_TYPES.put(Field.FIELD_TYPE_INTEGER, Field.FIELD_TYPE_NUMBER);
+        WIDER_TYPES.put(Field.FIELD_TYPE_GEOJSON, Field.FIELD_TYPE_OBJECT);
+        WIDER_TYPES.put(Field.FIELD_TYPE_STRING, Field.FIELD_TYPE_ANY);
+    }
+
+    private final LinkedHashMap<String, ColumnState> columns;
+
+    /**
+     * Create the state from the scores of an inferral
+     * @param headers the column names
+     * @param inferrers the scores of the columns, in the order of `headers`
+     */
+    InferenceState(String[] headers, TypeInferrer.ColumnInferrer[] inferrers) {
+        this.columns = new LinkedHashMap<>();
+        for (int j = 0; j < headers.length; j++) {
+            columns.merge(headers[j], new ColumnState(inferrers[j]), ColumnState::merge);
+        }
+    }
+
+    private InferenceState(LinkedHashMap<String, ColumnState> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Infer the types of streamed rows
+     * @param data the rows, their values are converted with `toString()`
+     * @param headers the column names
+     * @return the votes of the columns
+     */
+    public static InferenceState infer(Iterator<? extends Object[]> data, String[] headers) {
+        return TypeInferrer.getInstance().inferState(data, headers, -1);
+    }
+
+    /**
+     * Combine the votes of this and another state, neither of which is changed
+     * @param other the state to merge with this one
+     * @return the combined state
+     */
+    public InferenceState merge(InferenceState other) {
+        LinkedHashMap<String, ColumnState> merged = new LinkedHashMap<>(columns);
+        other.columns.forEach((name, column) -> merged.merge(name, column, ColumnState::merge));
+        return new InferenceState(merged);
+    }
+
+    /**
+     * @return the column names, in the order they were first seen
+     */
+    public List<String> getColumnNames() {
+        return new ArrayList<>(columns.keySet());
+    }
+
+    /**
+     * @param column the column name
+     * @return how many values of the column were inferred as each type, sorted by type
+     */
+    public Map<String, Long> getTypeCounts(String column) {
+        return Collections.unmodifiableMap(getColumn(column).typeCounts);
+    }
+
+    /**
+     * @param column the column name
+     * @param type the type
+     * @return how many values of the column were inferred as `type` in each format, sorted by format
+     */
+    public Map<String, Long> getFormatCounts(String column, String type) {
+        Map<String, Long> formats = getColumn(column).formatCounts.get(type);
+        return (null != formats) ? Collections.unmodifiableMap(formats) : Collections.emptyMap();
+    }
+
+    /**
+     * @param column the column name
+     * @return the narrowest type accepting the values of the column, null if no value was scored
+     */
+    public String getType(String column) {
+        return getColumn(column).getType();
+    }
+
+    /**
+     * @param column the column name
+     * @return the format voted the most for the type of the column, null if no value was scored
+     */
+    public String getFormat(String column) {
+        return getColumn(column).getFormat();
+    }
+
+    /**
+     * Build the Schema from the combined votes
+     * @return the Schema with a Field per column
+     * @throws IOException if building the Schema fails
+     */
+    public Schema toSchema() throws IOException {
+        String[] headers = columns.keySet().toArray(new String[0]);
+        String[] types = new String[headers.length];
+        String[] formats = new String[headers.length];
+        for (int j = 0; j < headers.length; j++) {
+            ColumnState column = columns.get(headers[j]);
+            types[j] = column.getType();
+            formats[j] = column.getFormat();
+        }
+        return Schema.fromJson(TypeInferrer.toSchemaJson(headers, types, formats), true);
+    }
+
+    private ColumnState getColumn(String column) {
+        ColumnState state = columns.get(column);
+        if (null == state) {
+            throw new IllegalArgumentException("No column " + column);
+        }
+        return state;
+    }
+
+    /**
+     * @return the narrowest type both types widen to
+     */
+    static String widen(String type, String other) {
+        List<String> widerTypes = new ArrayList<>();
+        for (String t = type; null != t; t = widerType(t)) {
+            widerTypes.add(t);
+        }
+        for (String t = other; null != t; t = widerType(t)) {
+            if (widerTypes.contains(t)) {
+                return t;
+            }
+        }
+        return Field.FIELD_TYPE_ANY;
+    }
+
+    private static String widerType(String type) {
+        if (type.equals(Field.FIELD_TYPE_ANY)) {
+            return null;
+        }
+        return WIDER_TYPES.getOrDefault(type, Field.FIELD_TYPE_STRING);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return columns.equals(((InferenceState) o).columns);
+    }
+
+    @Override
+    public int hashCode() {
+        return columns.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "InferenceState{" + columns + "}";
+    }
+
+    /**
+     * The votes of one column
+     */
+    private static final class ColumnState implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final TreeMap<String, Long> typeCounts = new TreeMap<>();
+        private final TreeMap<String, TreeMap<String, Long>> formatCounts = new TreeMap<>();
+
+        private ColumnState() {
+        }
+
+        ColumnState(TypeInferrer.ColumnInferrer inferrer) {
+            inferrer.getTypeCounts().forEach((type, count) -> typeCounts.put(type, count.longValue()));
+            inferrer.getFormatCounts().forEach((type, formats) -> {
+                TreeMap<String, Long> counts = new TreeMap<>();
+                formats.forEach((format, count) -> counts.put(format, count.longValue()));
+                formatCounts.put(type, counts);
+            });
+        }
+
+        ColumnState merge(ColumnState other) {
+            ColumnState merged = new ColumnState();
+            for (ColumnState state : Arrays.asList(this, other)) {
+                state.typeCounts.forEach((type, count) -> merged.typeCounts.merge(type, count, Long::sum));
+                state.formatCounts.forEach((type, formats) -> {
+                    TreeMap<String, Long> counts = merged.formatCounts.computeIfAbsent(type, (t) -> new TreeMap<>());
+                    formats.forEach((format, count) -> counts.merge(format, count, Long::sum));
+                });
+            }
+            return merged;
+        }
+
+        String getType() {
+            String type = null;
+            for (String votedType : typeCounts.keySet()) {
+                type = (null == type) ? votedType : widen(type, votedType);
+            }
+            return type;
+        }
+
+        String getFormat() {
+            String type = getType();
+            if (null == type) {
+                return null;
+            }
+            Map<String, Long> formats = formatCounts.get(type);
+            if (null == formats) {
+                return Field.FIELD_FORMAT_DEFAULT;
+            }
+            // the first of the most voted formats in alphabetical order
+            String format = null;
+            long maxCount = 0;
+            for (Map.Entry<String, Long> entry : formats.entrySet()) {
+                if (entry.getValue() > maxCount) {
+                    format = entry.getKey();
+                    maxCount = entry.getValue();
+                }
+            }
+            return format;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ColumnState that = (ColumnState) o;
+            return typeCounts.equals(that.typeCounts) && formatCounts.equals(that.formatCounts);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(typeCounts, formatCounts);
+        }
+
+        @Override
+        public String toString() {
+            return "{types=" + typeCounts + ", formats=" + formatCounts + "}";
+        }
+    }
+}
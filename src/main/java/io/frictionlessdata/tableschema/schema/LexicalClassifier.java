@@ -0,0 +1,154 @@
+package io.frictionlessdata.tableschema.schema;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+/**
+ * Rules out Field types for a value by looking at its characters once, so type inferral only
+ * parses a value with the types that can accept it. A plain text value is thereby handed straight to
+ * the string type instead of failing a dozen parsers first.
+ *
+ * The classification is conservative: a type is only ruled out if its parser cannot accept the
+ * value, so the inferred types are the same as without classification. Temporal types in a
+ * non-default format can't be ruled out lexically and are always candidates.
+ */
+final class LexicalClassifier {
+    static final int GEOPOINT = 1;
+    static final int DURATION = 1 << 1;
+    static final int YEAR = 1 << 2;
+    static final int YEARMONTH = 1 << 3;
+    static final int DATE = 1 << 4;
+    static final int TIME = 1 << 5;
+    static final int DATETIME = 1 << 6;
+    static final int INTEGER = 1 << 7;
+    static final int NUMBER = 1 << 8;
+    static final int BOOLEAN = 1 << 9;
+    static final int GEOJSON = 1 << 10;
+    static final int OBJECT = 1 << 11;
+    static final int ARRAY = 1 << 12;
+    // string and any accept every value, as do types the classifier doesn't know
+    static final int ALWAYS = 1 << 13;
+
+    static final int TEMPORAL = YEAR | YEARMONTH | DATE | TIME | DATETIME;
+
+    // the longest of the default true and false values of BooleanField
+    private static final int MAX_BOOLEAN_LENGTH = 5;
+    // yyyy-MM-ddTHH:mm:ssZ
+    private static final int MIN_DATETIME_LENGTH = 20;
+
+    private LexicalClassifier() {}
+
+    /**
+     * @param type a Field type
+     * @return the bit of the type in the masks returned by {@link #classify(String, boolean)}
+     */
+    static int bitFor(String type) {
+        switch (type) {
+            case Field.FIELD_TYPE_GEOPOINT: return GEOPOINT;
+            case Field.FIELD_TYPE_DURATION: return DURATION;
+            case Field.FIELD_TYPE_YEAR: return YEAR;
+            case Field.FIELD_TYPE_YEARMONTH: return YEARMONTH;
+            case Field.FIELD_TYPE_DATE: return DATE;
+            case Field.FIELD_TYPE_TIME: return TIME;
+            case Field.FIELD_TYPE_DATETIME: return DATETIME;
+            case Field.FIELD_TYPE_INTEGER: return INTEGER;
+            case Field.FIELD_TYPE_NUMBER: return NUMBER;
+            case Field.FIELD_TYPE_BOOLEAN: return BOOLEAN;
+            case Field.FIELD_TYPE_GEOJSON: return GEOJSON;
+            case Field.FIELD_TYPE_OBJECT: return OBJECT;
+            case Field.FIELD_TYPE_ARRAY: return ARRAY;
+            default: return ALWAYS;
+        }
+    }
+
+    /**
+     * Find the types that may accept a value
+     * @param value the value to classify
+     * @param defaultTemporalFormat false if temporal values are parsed in a non-default format
+     * @return a mask of the type bits of the candidate types
+     */
+    static int classify(String value, boolean defaultTemporalFormat) {
+        int length = value.length();
+        boolean hasDigit = false;
+        boolean allDigits = (length > 0);
+        boolean hasDash = false;
+        boolean hasColon = false;
+        boolean hasComma = false;
+        boolean hasT = false;
+        boolean hasP = false;
+        boolean hasBrace = false;
+        boolean hasBracket = false;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if ((c >= '0') && (c <= '9')) {
+                hasDigit = true;
+                continue;
+            }
+            allDigits = false;
+            switch (c) {
+                case '-': hasDash = true; break;
+                case ':': hasColon = true; break;
+                case ',': hasComma = true; break;
+                case 'T': hasT = true; break;
+                case 'P':
+                case 'p': hasP = true; break;
+                case '{': hasBrace = true; break;
+                case '[': hasBracket = true; break;
+                default:
+                    // BigInteger and BigDecimal accept non-ASCII digits
+                    if ((c > 127) && Character.isDigit(c)) {
+                        hasDigit = true;
+                    }
+            }
+        }
+
+        int mask = ALWAYS;
+        // "lon, lat" or the JSON array and object formats
+        if (hasComma || hasBracket || hasBrace) {
+            mask |= GEOPOINT;
+        }
+        if (hasP) {
+            mask |= DURATION;
+        }
+        if (!defaultTemporalFormat) {
+            mask |= TEMPORAL;
+        } else {
+            if ((length == 4) && allDigits) {
+                mask |= YEAR;
+            }
+            if ((length == 7) && hasDash) {
+                mask |= YEARMONTH;
+            }
+            if ((length == 10) && hasDash) {
+                mask |= DATE;
+            }
+            if (((length == 5) || (length == 8)) && hasColon) {
+                mask |= TIME;
+            }
+            if ((length >= MIN_DATETIME_LENGTH) && hasT && hasColon) {
+                mask |= DATETIME;
+            }
+        }
+        if (hasDigit) {
+            mask |= INTEGER | NUMBER;
+        } else if (length == 0) {
+            // parsed as null
+            mask |= NUMBER;
+        } else {
+            // null, NaN, INF and -INF, numbers are trimmed before scanning
+            int trimmedLength = value.trim().length();
+            if ((trimmedLength == 3) || (trimmedLength == 4)) {
+                mask |= NUMBER;
+            }
+        }
+        if (length <= MAX_BOOLEAN_LENGTH) {
+            mask |= BOOLEAN;
+        }
+        if (hasBrace) {
+            mask |= GEOJSON | OBJECT;
+        }
+        if (hasBracket) {
+            mask |= ARRAY;
+        }
+        return mask;
+    }
+}
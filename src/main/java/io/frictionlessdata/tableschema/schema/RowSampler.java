@@ -0,0 +1,176 @@
+package io.frictionlessdata.tableschema.schema;
+
+import com.google.common.collect.AbstractIterator;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reads the sample of raw rows an {@link InferenceSampling} selects from a data source. The returned
+ * Iterators are {@link AutoCloseable} and close the data source Iterators they read from.
+ */
+final class RowSampler {
+    // number of byte ranges a splittable data source is sampled from
+    static final int MAX_PARTS = 32;
+
+    private RowSampler() {}
+
+    /**
+     * @param source the data source to sample
+     * @param sampling selects the rows
+     * @return Iterator over the sampled rows, in the column order of the data source
+     * @throws Exception if reading the data fails
+     */
+    static Iterator<String[]> sample(DataSourceFormat source, InferenceSampling sampling) throws Exception {
+        int sampleSize = sampling.getSampleSize();
+        if (sampling.getMethod() == InferenceSampling.Method.STRIDED) {
+            if (source.isSplittable()) {
+                List<? extends DataSourceFormat> parts = source.split(Math.min(sampleSize, MAX_PARTS));
+                return new PartsIterator(parts, sampleSize);
+            }
+            long rowCount = source.getRowCount();
+            if (rowCount >= 0) {
+                return new StridedIterator(source.iterator(), Math.max(1, rowCount / sampleSize), sampleSize);
+            }
+        }
+        return reservoir(source.iterator(), sampleSize, new Random(sampling.getSeed()));
+    }
+
+    /**
+     * Algorithm R: every row replaces a random row of the reservoir with probability sampleSize / rows read
+     */
+    private static Iterator<String[]> reservoir(Iterator<String[]> rows, int sampleSize, Random random)
+            throws Exception {
+        List<String[]> reservoir = new ArrayList<>(Math.min(sampleSize, 1024));
+        try {
+            long read = 0;
+            while (rows.hasNext()) {
+                String[] row = rows.next();
+                read++;
+                if (reservoir.size() < sampleSize) {
+                    reservoir.add(row);
+                } else {
+                    long slot = (long) (random.nextDouble() * read);
+                    if (slot < sampleSize) {
+                        reservoir.set((int) slot, row);
+                    }
+                }
+            }
+        } finally {
+            close(rows);
+        }
+        return reservoir.iterator();
+    }
+
+    /**
+     * Close an Iterator returned by {@link #sample(DataSourceFormat, InferenceSampling)}
+     * @param rows the Iterator to close
+     * @throws Exception if closing the data source fails
+     */
+    static void close(Iterator<String[]> rows) throws Exception {
+        if (rows instanceof AutoCloseable) {
+            ((AutoCloseable) rows).close();
+        }
+    }
+
+    /**
+     * Every n-th row of a data source, up to the sample size
+     */
+    private static final class StridedIterator extends AbstractIterator<String[]> implements AutoCloseable {
+        private final Iterator<String[]> rows;
+        private final long stride;
+        private int remaining;
+
+        StridedIterator(Iterator<String[]> rows, long stride, int sampleSize) {
+            this.rows = rows;
+            this.stride = stride;
+            this.remaining = sampleSize;
+        }
+
+        @Override
+        protected String[] computeNext() {
+            if (remaining > 0) {
+                for (long skip = 1; (skip < stride) && rows.hasNext(); skip++) {
+                    rows.next();
+                }
+                if (rows.hasNext()) {
+                    remaining--;
+                    return rows.next();
+                }
+            }
+            return endOfData();
+        }
+
+        @Override
+        public void close() throws Exception {
+            RowSampler.close(rows);
+        }
+    }
+
+    /**
+     * The first rows of every part of a split data source, taken from the parts in turn so that any
+     * prefix of the sample is spread over the whole data. Parts are opened on first use.
+     */
+    private static final class PartsIterator extends AbstractIterator<String[]> implements AutoCloseable {
+        private final List<? extends DataSourceFormat> parts;
+        private final List<Iterator<String[]>> open = new ArrayList<>();
+        private final int rowsPerPart;
+        private int remaining;
+        private int partIndex = 0;
+        private int round = 0;
+        private boolean rowFound = false;
+
+        PartsIterator(List<? extends DataSourceFormat> parts, int sampleSize) {
+            this.parts = parts;
+            this.rowsPerPart = (sampleSize + parts.size() - 1) / parts.size();
+            this.remaining = sampleSize;
+        }
+
+        @Override
+        protected String[] computeNext() {
+            while ((remaining > 0) && (round < rowsPerPart)) {
+                if (partIndex == parts.size()) {
+                    // stop when a whole round found no more rows
+                    if (!rowFound) {
+                        break;
+                    }
+                    partIndex = 0;
+                    round++;
+                    rowFound = false;
+                    continue;
+                }
+                Iterator<String[]> rows = part(partIndex++);
+                if (rows.hasNext()) {
+                    rowFound = true;
+                    remaining--;
+                    return rows.next();
+                }
+            }
+            return endOfData();
+        }
+
+        private Iterator<String[]> part(int index) {
+            if (index == open.size()) {
+                try {
+                    open.add(parts.get(index).iterator());
+                } catch (RuntimeException ex) {
+                    throw ex;
+                } catch (Exception ex) {
+                    throw new TableSchemaException(ex);
+                }
+            }
+            return open.get(index);
+        }
+
+        @Override
+        public void close() throws Exception {
+            for (Iterator<String[]> rows : open) {
+                RowSampler.close(rows);
+            }
+        }
+    }
+}
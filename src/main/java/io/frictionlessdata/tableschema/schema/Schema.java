@@ -1,5 +1,6 @@
 package io.frictionlessdata.tableschema.schema;
 
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
 import io.frictionlessdata.tableschema.exception.*;
 import io.frictionlessdata.tableschema.field.*;
 import io.frictionlessdata.tableschema.fk.ForeignKey;
@@ -161,6 +162,37 @@ public class Schema {
     public static Schema infer(List<Object[]> data, String[] headers, int rowLimit) throws TypeInferringException, IOException {
         return fromJson(TypeInferrer.getInstance().infer(data, headers, rowLimit), true);
     }
+
+    /**
+     * Infer the data types from streamed rows and return the generated schema. Only the scores per
+     * column are kept, not the rows.
+     * @param data the rows, their values are converted with `toString()`
+     * @param headers the column names
+     * @param rowLimit the index of the last row to use, -1 for all rows
+     * @return Schema generated from the inferred input
+     * @throws TypeInferringException
+     */
+    public static Schema infer(Iterator<? extends Object[]> data, String[] headers, int rowLimit) throws TypeInferringException, IOException {
+        return fromJson(TypeInferrer.getInstance().infer(data, headers, rowLimit), true);
+    }
+
+    /**
+     * Infer the data types from a sample of the rows of a data source and return the generated schema.
+     * Reading stops once the type of every column is settled, see {@link InferenceSampling}.
+     * @param data the data source to sample
+     * @param headers the column names, in the column order of the data source
+     * @param sampling selects the rows to infer from
+     * @return Schema generated from the inferred input
+     * @throws Exception if reading the data or inferring fails
+     */
+    public static Schema infer(DataSourceFormat data, String[] headers, InferenceSampling sampling) throws Exception {
+        Iterator<String[]> rows = RowSampler.sample(data, sampling);
+        try {
+            return fromJson(TypeInferrer.getInstance().infer(rows, headers, -1, sampling.getConfidence()), true);
+        } finally {
+            RowSampler.close(rows);
+        }
+    }
     
     /**
      * Initializes the schema from given stream.
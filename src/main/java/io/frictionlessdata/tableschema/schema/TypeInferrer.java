@@ -4,10 +4,13 @@ import io.frictionlessdata.tableschema.exception.TypeInferringException;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.TemporalParser;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -19,19 +22,22 @@ import java.util.TreeMap;
 /**
  * The type inferral algorithm tries to cast to available types and each successful
  * type casting increments a popularity score for the successful type cast in question.
- * At the end, the best score so far is returned.
+ * At the end, the best score so far is returned. A {@link LexicalClassifier} rules out the
+ * types that can't accept a value before any parsing is tried.
+ *
+ * Rows are streamed from the data in batches, only the current batch and the scores per
+ * column are kept in memory. The columns of a batch are scored in parallel. All state lives
+ * in the inferral call, so concurrent inferrals don't block each other.
  */
 public class TypeInferrer {
     
     /**
-     * We are using reflection to go through the cast methods
-     * so we want to make this a Singleton to avoid instanciating
-     * a new class for every cast method call attempt.
+     * The TypeInferrer holds no state, one instance serves all inferrals
      */
-    private static TypeInferrer instance = null;
+    private static final TypeInferrer instance = new TypeInferrer();
 
-    private Map<String, Map<String, Integer>> typeInferralMap = new HashMap<>();
-    private Map<String, String> formatMap = new HashMap<>();
+    // number of rows read before their columns are scored
+    static final int BATCH_SIZE = 1024;
     
     // The order in which the types will be attempted to be inferred.
     // Once a type is successfully inferred, we do not bother with the remaining types.
@@ -61,11 +67,8 @@ public class TypeInferrer {
     }
     
     static TypeInferrer getInstance() {
-      if(instance == null) {
-         instance = new TypeInferrer();
-      }
-      return instance;
-   }
+        return instance;
+    }
     
     /**
      * Infer the data types and return the generated schema.
@@ -74,8 +77,8 @@ public class TypeInferrer {
      * @return
      * @throws TypeInferringException 
      */
-    synchronized String infer(List<Object[]> data, String[] headers) throws TypeInferringException{
-        return this.infer(data, headers, -1);
+    String infer(List<Object[]> data, String[] headers) throws TypeInferringException{
+        return this.infer(data.iterator(), headers, -1);
     }
     
     /**
@@ -86,118 +89,261 @@ public class TypeInferrer {
      * @return
      * @throws TypeInferringException 
      */
-    synchronized String infer(List<Object[]> data, String[] headers, int rowLimit) throws TypeInferringException{
-        
-        // If the given row limit is bigger than the length of the data
-        // then just use the length of the data.
-        if(rowLimit > data.size()-1){
-            rowLimit = data.size()-1;
-            //If `rowLimit ` is '-1', no row limiting will be enforced
-        } else if(rowLimit == -1){
-            rowLimit = data.size()-1;
+    String infer(List<Object[]> data, String[] headers, int rowLimit) throws TypeInferringException{
+        return this.infer(data.iterator(), headers, rowLimit);
+    }
+
+    /**
+     * Infer the data types from rows streamed from `data` and return the generated schema.
+     * @param data the rows, their values are converted with `toString()`
+     * @param headers the column names
+     * @param rowLimit the index of the last row to use, -1 for all rows
+     * @return the Schema JSON
+     * @throws TypeInferringException 
+     */
+    String infer(Iterator<? extends Object[]> data, String[] headers, int rowLimit) throws TypeInferringException{
+        return this.infer(data, headers, rowLimit, 1);
+    }
+
+    /**
+     * Infer the data types from rows streamed from `data` and return the generated schema. Reading stops
+     * early once the type of every column is settled with the given confidence.
+     * @param data the rows, their values are converted with `toString()`
+     * @param headers the column names
+     * @param rowLimit the index of the last row to use, -1 for all rows
+     * @param confidence the confidence for settling column types, 1 to read all rows
+     * @return the Schema JSON
+     * @throws TypeInferringException 
+     */
+    String infer(Iterator<? extends Object[]> data, String[] headers, int rowLimit, double confidence)
+            throws TypeInferringException{
+        ColumnInferrer[] columns = inferColumns(data, headers, rowLimit, confidence);
+        String[] types = new String[headers.length];
+        String[] formats = new String[headers.length];
+        for (int j = 0; j < headers.length; j++) {
+            // Settle for the type that was inferred the most for the field.
+            types[j] = columns[j].getType();
+            formats[j] = columns[j].getFormat();
         }
+        return toSchemaJson(headers, types, formats);
+    }
 
+    /**
+     * Infer the data types from rows streamed from `data` and return the scores as mergeable state.
+     * @param data the rows, their values are converted with `toString()`
+     * @param headers the column names
+     * @param rowLimit the index of the last row to use, -1 for all rows
+     * @return the type and format scores of the columns
+     */
+    InferenceState inferState(Iterator<? extends Object[]> data, String[] headers, int rowLimit) {
+        return new InferenceState(headers, inferColumns(data, headers, rowLimit));
+    }
 
+    /**
+     * Build the Schema JSON for inferred column types
+     * @param headers the column names
+     * @param types the inferred types, null for columns without values
+     * @param formats the inferred formats
+     * @return the Schema JSON
+     */
+    static String toSchemaJson(String[] headers, String[] types, String[] formats) {
         // The JSON Array that will define the fields in the schema JSON Object.
         JSONArray fieldArray = new JSONArray();
-        
-        // Init the type inferral map and init the schema objects
-        for (String header : headers) {
-            // Init the type inferral map to track our inferences for each row.
-            this.getTypeInferralMap().put(header, new HashMap());
-            
-            // Init the schema objects
+        for (int j = 0; j < headers.length; j++) {
             JSONObject fieldObj = new JSONObject();
-            fieldObj.put(Field.JSON_KEY_NAME, header);
+            fieldObj.put(Field.JSON_KEY_NAME, headers[j]);
             fieldObj.put(Field.JSON_KEY_TITLE, ""); // This will stay blank.
             fieldObj.put(Field.JSON_KEY_DESCRIPTION, ""); // This will stay blank.
             fieldObj.put(Field.JSON_KEY_CONSTRAINTS, new JSONObject()); // This will stay blank.
-            fieldObj.put(Field.JSON_KEY_FORMAT, ""); // This will bet set post inferral.
-            fieldObj.put(Field.JSON_KEY_TYPE, ""); // This will bet set post inferral.
-            
-            // Wrap it all in an array.
+            fieldObj.put(Field.JSON_KEY_FORMAT, (null != types[j]) ? formats[j] : "");
+            fieldObj.put(Field.JSON_KEY_TYPE, (null != types[j]) ? types[j] : "");
             fieldArray.put(fieldObj);
         }
 
-        // Find the type for each column data for each row.
-        // This uses method invokation via reflection in a foor loop that iterates
-        // for each possible type/format combo. Insprect the findType method for implementation.
-        for(int i = 0; i <= rowLimit; i++){
-            Object[] row = data.get(i);
-            
-            for(int j = 0; j < row.length; j++){
-                this.findType(headers[j], row[j].toString());
-            }
-        }
-        
-        // We are done inferring types.
-        // Now for each field we figure out which type was the most inferred and settle for that type
-        // as the final type for the field.
-        for(int j=0; j < fieldArray.length(); j++){
-            String fieldName = fieldArray.getJSONObject(j).getString(Field.JSON_KEY_NAME);
-            HashMap<String, Integer> typeInferralCountMap = (HashMap<String, Integer>)this.getTypeInferralMap().get(fieldName);
-            TreeMap<String, Integer> typeInferralCountMapSortedByCount = sortMapByValue(typeInferralCountMap); 
-           
-            if(!typeInferralCountMapSortedByCount.isEmpty()){
-                String inferredType = typeInferralCountMapSortedByCount.firstEntry().getKey();
-                fieldArray.getJSONObject(j).put(Field.JSON_KEY_TYPE, inferredType);
-                fieldArray.getJSONObject(j).put(Field.JSON_KEY_FORMAT, formatMap.get(headers[j]));
-            }
-        }
-        
-        // Need to clear the inferral map for the next inferral call:
-        this.getTypeInferralMap().clear();
-        this.formatMap.clear();
-
         // Now that the types have been inferred and set, we build and return the schema object.
         JSONObject schemaJsonObject = new JSONObject();
         schemaJsonObject.put(Schema.JSON_KEY_FIELDS, fieldArray);
         
         return schemaJsonObject.toString();
     }
-    
-    private void findType(String header, String datum){
-        // Go through all the field types and call their parsing method to find
-        // the first that won't throw
-        for(String[] typeInferralDefinition: TYPE_INFERRAL_ORDER_LIST){
-            try{
-                // Keep invoking the type casting methods until one doesn't throw an exception
-                String dataType = typeInferralDefinition[0];
-
-                Field field = Field.forType(dataType, dataType);
-                String format = formatMap.get(header);
-                if (null == format) {
-                    format = field.parseFormat(datum, null);
+
+    /**
+     * Score the values of every column of the rows streamed from `data`
+     * @param data the rows, their values are converted with `toString()`
+     * @param headers the column names
+     * @param rowLimit the index of the last row to use, -1 for all rows
+     * @return the scores of the columns, in the order of `headers`
+     */
+    ColumnInferrer[] inferColumns(Iterator<? extends Object[]> data, String[] headers, int rowLimit) {
+        return inferColumns(data, headers, rowLimit, 1);
+    }
+
+    /**
+     * Score the values of every column of the rows streamed from `data`, until all column types are
+     * settled with the given confidence. Settling is checked after every batch.
+     * @param data the rows, their values are converted with `toString()`
+     * @param headers the column names
+     * @param rowLimit the index of the last row to use, -1 for all rows
+     * @param confidence the confidence for settling column types, 1 to read all rows
+     * @return the scores of the columns, in the order of `headers`
+     */
+    ColumnInferrer[] inferColumns(Iterator<? extends Object[]> data, String[] headers, int rowLimit, double confidence) {
+        ColumnInferrer[] columns = new ColumnInferrer[headers.length];
+        for (int j = 0; j < headers.length; j++) {
+            columns[j] = new ColumnInferrer();
+        }
+        long maxRows = (rowLimit < 0) ? Long.MAX_VALUE : rowLimit + 1L;
+        long rowCount = 0;
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        while ((rowCount < maxRows) && data.hasNext()) {
+            batch.add(data.next());
+            rowCount++;
+            if (batch.size() == BATCH_SIZE) {
+                scoreBatch(columns, batch);
+                batch.clear();
+                if (isSettled(columns, confidence)) {
+                    return columns;
                 }
-                field.parseValue(datum, format, null);
-                this.formatMap.put(header, format);
-                // If no exception is thrown, in means that a type has been inferred.
-                // Let's keep track of it in the inferral map.
-                this.updateInferralScoreMap(header, field.getType());
-                
-                // We no longer need to try to infer other types. 
-                // Let's break out of the loop.
-                break;
-
-            } catch (Exception e) {
-                // Do nothing.
-                // An exception here means that we failed to infer with the current type.
-                // Move on to attempt with the next type in the following iteration.
             }
         }
+        scoreBatch(columns, batch);
+        return columns;
     }
-    
+
+    private static boolean isSettled(ColumnInferrer[] columns, double confidence) {
+        if (confidence >= 1) {
+            return false;
+        }
+        for (ColumnInferrer column : columns) {
+            if (!column.isSettled(confidence)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void scoreBatch(ColumnInferrer[] columns, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (columns.length < 2) {
+            for (int j = 0; j < columns.length; j++) {
+                columns[j].score(batch, j);
+            }
+            return;
+        }
+        // every column is scored by one task, so the column state needs no synchronization
+        IntStream.range(0, columns.length).parallel().forEach((j) -> columns[j].score(batch, j));
+    }
+
     /**
-     * The type inferral map is where we keep track of the types inferred for values within the same field.
-     * @param header
-     * @param typeKey 
+     * The type scores of one column, and the format of its values
      */
-    private void updateInferralScoreMap(String header, String typeKey){
-        if(this.getTypeInferralMap().get(header).containsKey(typeKey)){
-            int newCount = this.typeInferralMap.get(header).get(typeKey) + 1;
-            this.getTypeInferralMap().get(header).replace(typeKey, newCount);
-        }else{
-            this.getTypeInferralMap().get(header).put(typeKey, 1);
+    static final class ColumnInferrer {
+        // One Field per candidate type, created once per column instead of once per value
+        private final List<Field> candidates = new ArrayList<>(TYPE_INFERRAL_ORDER_LIST.size());
+        // the LexicalClassifier bit of each candidate
+        private final int[] candidateBits = new int[TYPE_INFERRAL_ORDER_LIST.size()];
+        private final Map<String, Integer> typeCounts = new HashMap<>();
+        // how often each type was inferred with each format
+        private final Map<String, Map<String, Integer>> formatCounts = new HashMap<>();
+        private String format = null;
+
+        ColumnInferrer() {
+            for (String[] typeInferralDefinition : TYPE_INFERRAL_ORDER_LIST) {
+                candidateBits[candidates.size()] = LexicalClassifier.bitFor(typeInferralDefinition[0]);
+                candidates.add(Field.forType(typeInferralDefinition[0], typeInferralDefinition[0]));
+            }
+        }
+
+        void score(List<Object[]> rows, int column) {
+            for (Object[] row : rows) {
+                if ((column < row.length) && (null != row[column])) {
+                    String datum = row[column].toString();
+                    // empty values parse as several types and would widen the column, they don't vote
+                    if (!datum.isEmpty()) {
+                        findType(datum);
+                    }
+                }
+            }
+        }
+
+        private void findType(String datum){
+            // Only parse with the types the characters of the value don't rule out
+            int mask = LexicalClassifier.classify(datum, (null == format) || TemporalParser.isDefaultFormat(format));
+            // Go through all the candidate field types and call their parsing method to find
+            // the first that won't throw
+            for(int i = 0; i < candidates.size(); i++){
+                if ((mask & candidateBits[i]) == 0) {
+                    continue;
+                }
+                Field field = candidates.get(i);
+                try{
+                    // Keep invoking the type casting methods until one doesn't throw an exception
+                    String valueFormat = format;
+                    if (null == valueFormat) {
+                        valueFormat = field.parseFormat(datum, null);
+                    }
+                    field.parseValue(datum, valueFormat, null);
+                    this.format = valueFormat;
+                    // If no exception is thrown, in means that a type has been inferred.
+                    // Let's keep track of it in the inferral map.
+                    typeCounts.merge(field.getType(), 1, Integer::sum);
+                    formatCounts.computeIfAbsent(field.getType(), (t) -> new HashMap<>())
+                            .merge((null != valueFormat) ? valueFormat : Field.FIELD_FORMAT_DEFAULT, 1, Integer::sum);
+
+                    // We no longer need to try to infer other types.
+                    // Let's break out of the loop.
+                    break;
+
+                } catch (Exception e) {
+                    // Do nothing.
+                    // An exception here means that we failed to infer with the current type.
+                    // Move on to attempt with the next type in the following iteration.
+                }
+            }
+        }
+
+        /**
+         * A type is settled once it has the majority of the column's values with the given confidence, so
+         * that it wins the vote whatever the remaining values are. The lower bound of its share is estimated
+         * from the values scored so far with Hoeffding's inequality, which holds for any distribution of the
+         * values as long as the scored values are a random sample. Columns without values never settle.
+         * @param confidence the probability with which the type must have the majority
+         * @return true if the type is settled
+         */
+        boolean isSettled(double confidence) {
+            int votes = 0;
+            int leading = 0;
+            for (int count : typeCounts.values()) {
+                votes += count;
+                leading = Math.max(leading, count);
+            }
+            if ((votes == 0) || (confidence >= 1)) {
+                return false;
+            }
+            double margin = Math.sqrt(Math.log(1 / (1 - confidence)) / (2.0 * votes));
+            return ((double) leading / votes) - margin > 0.5;
+        }
+
+        /**
+         * @return the type inferred the most, null if no value could be inferred
+         */
+        String getType() {
+            TreeMap<String, Integer> typeCountsSortedByCount = sortMapByValue(typeCounts);
+            return typeCountsSortedByCount.isEmpty() ? null : typeCountsSortedByCount.firstEntry().getKey();
+        }
+
+        String getFormat() {
+            return format;
+        }
+
+        Map<String, Integer> getTypeCounts() {
+            return typeCounts;
+        }
+
+        Map<String, Map<String, Integer>> getFormatCounts() {
+            return formatCounts;
         }
     }
     
@@ -207,15 +353,11 @@ public class TypeInferrer {
      * @param map
      * @return 
      */
-    private TreeMap<String, Integer> sortMapByValue(Map<String, Integer> map){
+    private static TreeMap<String, Integer> sortMapByValue(Map<String, Integer> map){
         Comparator<String> comparator = new MapValueComparator(map);
         TreeMap<String, Integer> result = new TreeMap<>(comparator);
         result.putAll(map);
 
         return result;
     }
-
-    private Map<String, Map<String, Integer>> getTypeInferralMap(){
-        return this.typeInferralMap;
-    }
-}
\ No newline at end of file
+}
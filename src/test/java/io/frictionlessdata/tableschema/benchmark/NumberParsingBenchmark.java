@@ -0,0 +1,141 @@
+package io.frictionlessdata.tableschema.benchmark;
+
+import io.frictionlessdata.tableschema.field.FieldCaster;
+import io.frictionlessdata.tableschema.field.IntegerField;
+import io.frictionlessdata.tableschema.field.NumberField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Time per value for parsing numbers with {@link NumberField} and {@link IntegerField}, compared to the
+ * regex based parsing they used before. Not run by the build, start it with
+ *
+ * `mvn test-compile exec:java -Dexec.classpathScope=test
+ *      -Dexec.mainClass=io.frictionlessdata.tableschema.benchmark.NumberParsingBenchmark`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParsingBenchmark {
+    private static final String[] INTEGERS = {"0", "42", "-17", "1234567", "+99", "2147483648", "-9000000000"};
+    private static final String[] DECIMALS = {"3.14", "-0.001", "1234.5678", "1e10", "2.5E-3", "100.00", "NaN"};
+    private static final String[] GERMAN = {"1.234,56", "-0,5", "12.345.678", "€ 99,90", "7", "1.000,00 €", "0,001"};
+
+    @Param({"integers", "decimals", "german"})
+    public String values;
+
+    private String[] data;
+    private Map<String, Object> options;
+    private NumberField numberField;
+    private IntegerField integerField;
+    private FieldCaster<Number> numberCaster;
+
+    @Setup
+    public void setUp() {
+        numberField = new NumberField("number");
+        integerField = new IntegerField("integer");
+        if ("german".equals(values)) {
+            data = GERMAN;
+            options = new HashMap<>();
+            options.put(NumberField.NUMBER_OPTION_DECIMAL_CHAR, ",");
+            options.put(NumberField.NUMBER_OPTION_GROUP_CHAR, ".");
+            options.put(NumberField.NUMBER_OPTION_BARE_NUMBER, false);
+        } else {
+            data = "integers".equals(values) ? INTEGERS : DECIMALS;
+            options = null;
+        }
+        numberCaster = numberField.getCaster(options);
+    }
+
+    @Benchmark
+    public void numberFieldParseValue(Blackhole blackhole) {
+        for (String value : data) {
+            blackhole.consume(numberField.parseValue(value, null, options));
+        }
+    }
+
+    @Benchmark
+    public void numberFieldCaster(Blackhole blackhole) {
+        for (String value : data) {
+            blackhole.consume(numberCaster.cast(value));
+        }
+    }
+
+    @Benchmark
+    public void legacyNumberParseValue(Blackhole blackhole) {
+        for (String value : data) {
+            blackhole.consume(legacyParseNumber(value, options));
+        }
+    }
+
+    @Benchmark
+    public void integerFieldParseValue(Blackhole blackhole) {
+        for (String value : INTEGERS) {
+            blackhole.consume(integerField.parseValue(value, null, null));
+        }
+    }
+
+    @Benchmark
+    public void legacyIntegerParseValue(Blackhole blackhole) {
+        for (String value : INTEGERS) {
+            blackhole.consume(new BigInteger(value.trim()));
+        }
+    }
+
+    /**
+     * NumberField.parseValue() as it was before the NumberScanner, as baseline
+     */
+    private static Number legacyParseNumber(String value, Map<String, Object> options) {
+        String locValue = value.trim();
+        if (options != null) {
+            if (options.containsKey(NumberField.NUMBER_OPTION_DECIMAL_CHAR)) {
+                locValue = locValue.replace((String) options.get(NumberField.NUMBER_OPTION_DECIMAL_CHAR), ".");
+            }
+            if (options.containsKey(NumberField.NUMBER_OPTION_GROUP_CHAR)) {
+                locValue = locValue.replace((String) options.get(NumberField.NUMBER_OPTION_GROUP_CHAR), "");
+            }
+            if (options.containsKey(NumberField.NUMBER_OPTION_BARE_NUMBER)
+                    && !(boolean) options.get(NumberField.NUMBER_OPTION_BARE_NUMBER)) {
+                locValue = locValue.replaceAll("((^\\D*)|(\\D*$))", "");
+            }
+        }
+        Matcher integerMatcher = Pattern.compile("[+-]?\\d+").matcher(locValue);
+        if (integerMatcher.matches()) {
+            return new BigInteger(locValue);
+        }
+        if (locValue.equalsIgnoreCase("NaN")) {
+            return Double.NaN;
+        }
+        return new BigDecimal(locValue);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NumberParsingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
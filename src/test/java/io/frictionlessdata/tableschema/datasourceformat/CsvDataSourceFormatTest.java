@@ -0,0 +1,62 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+class CsvDataSourceFormatTest {
+
+    @Test
+    @DisplayName("Validate splitting a CSV file respects quoted line breaks and returns all rows once, in order")
+    void testSplit() throws Exception {
+        Path dir = Files.createTempDirectory("csvsplit");
+        StringBuilder csv = new StringBuilder("id,text\n");
+        for (int i = 0; i < 100; i++) {
+            csv.append(i).append(",\"multi\nline ").append(i).append("\"\n");
+        }
+        Files.write(dir.resolve("split.csv"), csv.toString().getBytes(StandardCharsets.UTF_8));
+        CsvDataSourceFormat ds = new CsvDataSourceFormat(new File("split.csv"), dir.toFile());
+        Assertions.assertTrue(ds.isSplittable());
+        List<String[]> expected = ds.data();
+        Assertions.assertEquals(100, expected.size());
+        for (int numSplits = 1; numSplits <= 7; numSplits++) {
+            List<CsvDataSourceFormat> splits = ds.split(numSplits);
+            Assertions.assertTrue(splits.size() <= numSplits);
+            List<String[]> actual = new ArrayList<>();
+            for (CsvDataSourceFormat split : splits) {
+                Assertions.assertArrayEquals(new String[]{"id", "text"}, split.getHeaders());
+                actual.addAll(split.data());
+            }
+            Assertions.assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Assertions.assertArrayEquals(expected.get(i), actual.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Validate CSV from Strings is not splittable")
+    void testStringNotSplittable() throws Exception {
+        CsvDataSourceFormat ds = new CsvDataSourceFormat("a,b\n1,2");
+        Assertions.assertFalse(ds.isSplittable());
+        Assertions.assertEquals(1, DataSourceFormat.createDataSourceFormat("a,b\n1,2").split(4).size());
+    }
+
+    @Test
+    @DisplayName("Validate projecting CSV columns returns only their values, in the requested order")
+    void testIteratorColumns() throws Exception {
+        CsvDataSourceFormat ds = new CsvDataSourceFormat("a,b,c\n1,2,3\n4,5");
+        List<String[]> rows = new ArrayList<>();
+        ds.iterator(new String[]{"c", "a", "x"}).forEachRemaining(rows::add);
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertArrayEquals(new String[]{"3", "1", null}, rows.get(0));
+        Assertions.assertArrayEquals(new String[]{null, "4", null}, rows.get(1));
+    }
+}
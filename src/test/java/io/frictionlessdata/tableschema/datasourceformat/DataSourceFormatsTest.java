@@ -1,6 +1,7 @@
 package io.frictionlessdata.tableschema.datasourceformat;
 
 import io.frictionlessdata.tableschema.TestHelper;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import io.frictionlessdata.tableschema.schema.Schema;
 import org.apache.commons.csv.CSVFormat;
 import org.junit.Assert;
@@ -216,6 +217,50 @@ public class DataSourceFormatsTest {
         Assert.assertNotNull(ds);
     }
 
+    @Test
+    public void testStreamingInputStreamCreationCsv() throws Exception {
+        DataSourceFormat ds;
+        File inFile = new File(TestHelper.getTestDataDirectory(), "data/population.csv");
+        try (FileInputStream is = new FileInputStream(inFile)) {
+            ds = DataSourceFormat.createDataSourceFormat(is, true);
+            Assert.assertTrue(ds instanceof CsvDataSourceFormat);
+            Assert.assertArrayEquals(populationHeaders, ds.getHeaders());
+            List<String[]> data = ds.data();
+            byte[] bytes = Files.readAllBytes(inFile.toPath());
+            String[] content = new String(bytes).split("[\n\r]+");
+            Assert.assertEquals(content.length-1, data.size());
+            for (int i = 1; i < content.length; i++) {
+                String[] testArr = content[i].split(",");
+                Assert.assertArrayEquals(testArr, data.get(i-1));
+            }
+            // a stream can only be read once
+            exception.expect(TableSchemaException.class);
+            ds.data();
+        }
+    }
+
+    @Test
+    public void testStreamingInputStreamCreationJson() throws Exception {
+        File inFile = new File(TestHelper.getTestDataDirectory(), "data/population.json");
+        try (FileInputStream is = new FileInputStream(inFile)) {
+            DataSourceFormat ds = DataSourceFormat.createDataSourceFormat(is, true);
+            Assert.assertTrue(ds instanceof JsonArrayDataSourceFormat);
+            Assert.assertEquals(3, ds.data().size());
+        }
+    }
+
+    @Test
+    public void testInputFileWithBOMCreationCsv() throws Exception {
+        DataSourceFormat ds = DataSourceFormat.createDataSourceFormat(
+                new File("data/simple_data_bom2.tsv"), TestHelper.getTestDataDirectory());
+        Assert.assertTrue(ds instanceof CsvDataSourceFormat);
+        ((CsvDataSourceFormat)ds).setFormat(CSVFormat.TDF.withHeader());
+        Assert.assertArrayEquals(new String[]{"id", "title"}, ds.getHeaders());
+        Assert.assertEquals(3, ds.data().size());
+        // file-based data sources can be read repeatedly
+        Assert.assertEquals(3, ds.data().size());
+    }
+
     @Test
     public void writeCsvToFile() throws Exception{
         String content = null;
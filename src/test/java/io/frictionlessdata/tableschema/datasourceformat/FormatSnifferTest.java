@@ -0,0 +1,82 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import io.frictionlessdata.tableschema.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+class FormatSnifferTest {
+
+    @Test
+    @DisplayName("Test sniffing JSON arrays, NDJSON and JSON objects")
+    void testSniffJson() {
+        FormatSniffer.Result result = FormatSniffer.sniff("[\n {\"a\": 1},\n {\"a\": 2}\n]");
+        Assertions.assertEquals(DataSourceFormat.Format.FORMAT_JSON, result.getFormat());
+        Assertions.assertTrue(result.isJsonArray());
+
+        result = FormatSniffer.sniff("{\"a\": 1}\n{\"a\": 2}\n");
+        Assertions.assertEquals(DataSourceFormat.Format.FORMAT_NDJSON, result.getFormat());
+
+        result = FormatSniffer.sniff("[\"a\"]\n[1]\n[2]\n");
+        Assertions.assertEquals(DataSourceFormat.Format.FORMAT_NDJSON, result.getFormat());
+
+        result = FormatSniffer.sniff("{\n \"type\": \"FeatureCollection\"\n}");
+        Assertions.assertEquals(DataSourceFormat.Format.FORMAT_JSON, result.getFormat());
+        Assertions.assertFalse(result.isJsonArray());
+    }
+
+    @Test
+    @DisplayName("Test CSV starting with a bracket is not taken for JSON")
+    void testSniffCsvStartingWithBracket() {
+        FormatSniffer.Result result = FormatSniffer.sniff("[id],[name]\n1,foo\n");
+        Assertions.assertEquals(DataSourceFormat.Format.FORMAT_CSV, result.getFormat());
+        Assertions.assertEquals(',', result.getDialect().getDelimiter());
+    }
+
+    @Test
+    @DisplayName("Test sniffing the CSV delimiter")
+    void testSniffDelimiter() {
+        Assertions.assertEquals(';', FormatSniffer.sniff("a;b;c\n1;2;3\n").getDialect().getDelimiter());
+        Assertions.assertEquals('\t', FormatSniffer.sniff("a\tb\n1\t2\n").getDialect().getDelimiter());
+        Assertions.assertEquals('|', FormatSniffer.sniff("a|b\n1|\"x|y\"\n").getDialect().getDelimiter());
+        Assertions.assertEquals(',', FormatSniffer.sniff("a,b\n1;2,3\n").getDialect().getDelimiter());
+    }
+
+    @Test
+    @DisplayName("Test only a prefix of large input is sniffed, and a Reader is reset afterwards")
+    void testSniffLargeReader() throws Exception {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            sb.append((i == 0) ? "" : ",\n").append("{\"a\": true, \"b\": \"xyz\"}");
+        }
+        sb.append("]");
+        BufferedReader rdr = new BufferedReader(new StringReader(sb.toString()));
+        FormatSniffer.Result result = FormatSniffer.sniff(rdr);
+        Assertions.assertEquals(DataSourceFormat.Format.FORMAT_JSON, result.getFormat());
+        Assertions.assertTrue(result.isJsonArray());
+        Assertions.assertEquals("[{\"a\": true, \"b\": \"xyz\"},", rdr.readLine());
+    }
+
+    @Test
+    @DisplayName("Test DataSourceFormat.createDataSourceFormat keeps the default CSV format")
+    void testCreateWithDefaultFormat() throws Exception {
+        DataSourceFormat ds = DataSourceFormat.createDataSourceFormat("code\na|b\nc|d\n");
+        Assertions.assertTrue(ds instanceof CsvDataSourceFormat);
+        Assertions.assertEquals(',', ((CsvDataSourceFormat) ds).getFormat().getDelimiter());
+        Assertions.assertArrayEquals(new String[]{"code"}, ds.getHeaders());
+
+        ds = DataSourceFormat.createDataSourceFormat("{\"city\": \"london\"}\n{\"city\": \"paris\"}\n");
+        Assertions.assertTrue(ds instanceof NdJsonDataSourceFormat);
+    }
+
+    @Test
+    @DisplayName("Test reading CSV with the sniffed dialect on request")
+    void testReadWithSniffedDialect() throws Exception {
+        String data = "city;year\nlondon;2017\n";
+        Table table = Table.fromSource(data, null, FormatSniffer.sniff(data).getDialect());
+        Assertions.assertArrayEquals(new String[]{"city", "year"}, table.getHeaders());
+    }
+}
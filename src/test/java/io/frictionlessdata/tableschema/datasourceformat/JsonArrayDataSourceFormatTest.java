@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.*;
 import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Collectors;
 
 class JsonArrayDataSourceFormatTest {
@@ -146,4 +148,62 @@ class JsonArrayDataSourceFormatTest {
         Assertions.assertEquals(content.replaceAll("[\\r\\n ]", ""),
                 popCsv.replaceAll("[\\r\\n ]", ""));
     }
+
+    @Test
+    @DisplayName("Validate keys missing from the first JSON object are still found in later objects")
+    void testMissingEntryHeadersAndData() throws Exception {
+        DataSourceFormat ds = DataSourceFormat.createDataSourceFormat(populationJsonMissingEntry);
+        Assertions.assertArrayEquals(new String[]{"city", "population", "year"}, ds.getHeaders());
+        List<String[]> data = ds.data();
+        Assertions.assertEquals(3, data.size());
+        Assertions.assertArrayEquals(new String[]{"london", "8780000", null}, data.get(0));
+        Assertions.assertArrayEquals(new String[]{"paris", "2240000", "2017"}, data.get(1));
+    }
+
+    @Test
+    @DisplayName("Validate reading a JSON array of arrays with the header names in the first array")
+    void testArrayOfArrays() throws Exception {
+        String json = "[[\"city\", \"year\", \"info\"], [\"london\", 2017, {\"a\": [1, 2]}], [\"paris\", null]]";
+        JsonArrayDataSourceFormat ds = new JsonArrayDataSourceFormat(json);
+        Assertions.assertArrayEquals(new String[]{"city", "year", "info"}, ds.getHeaders());
+        Assertions.assertTrue(ds.hasReliableHeaders());
+        List<String[]> data = ds.data();
+        Assertions.assertEquals(2, data.size());
+        Assertions.assertArrayEquals(new String[]{"london", "2017", "{\"a\":[1,2]}"}, data.get(0));
+        Assertions.assertArrayEquals(new String[]{"paris", null, null}, data.get(1));
+    }
+
+    @Test
+    @DisplayName("Validate duplicate header names of an array of arrays keep their positions")
+    void testArrayOfArraysDuplicateHeaders() throws Exception {
+        JsonArrayDataSourceFormat ds = new JsonArrayDataSourceFormat("[[\"a\", \"b\", \"a\"], [1, 2, 3]]");
+        Assertions.assertArrayEquals(new String[]{"a", "b", "a"}, ds.getHeaders());
+        Assertions.assertArrayEquals(new String[]{"1", "2", "3"}, ds.data().get(0));
+    }
+
+    @Test
+    @DisplayName("Validate headers that can't be read are not reliable")
+    void testUnreadableHeadersNotReliable() {
+        JsonArrayDataSourceFormat ds = new JsonArrayDataSourceFormat("[1, 2]");
+        Assertions.assertFalse(ds.hasReliableHeaders());
+    }
+
+    @Test
+    @DisplayName("Validate iterating a JsonArrayDataSourceFormat in a given column order")
+    void testIteratorWithColumns() throws Exception {
+        JsonArrayDataSourceFormat ds = new JsonArrayDataSourceFormat(populationJson);
+        Iterator<String[]> iter = ds.iterator(new String[]{"population", "city", "country"});
+        Assertions.assertArrayEquals(new String[]{"8780000", "london", null}, iter.next());
+    }
+
+    @Test
+    @DisplayName("Validate a JsonArrayDataSourceFormat on a JSON file can be read repeatedly")
+    void testFileCreationJson() throws Exception {
+        DataSourceFormat ds = DataSourceFormat.createDataSourceFormat(new File("population.json"),
+                new File(TestHelper.getTestDataDirectory(), "data"));
+        Assertions.assertTrue(ds instanceof JsonArrayDataSourceFormat);
+        Assertions.assertArrayEquals(populationHeaders, ds.getHeaders());
+        Assertions.assertEquals(3, ds.data().size());
+        Assertions.assertEquals(3, ds.data().size());
+    }
 }
@@ -0,0 +1,65 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import io.frictionlessdata.tableschema.TestHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+class MappedCsvDataSourceFormatTest {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Test parallel parsing of a memory-mapped file returns the same rows as sequential parsing")
+    void testParseInOrder() throws Exception {
+        File basePath = new File(TestHelper.getTestDataDirectory(), "data");
+        List<String[]> expected = new CsvDataSourceFormat(new File("employee_full.csv"), basePath).data();
+
+        // chunks smaller than a record to force lots of splits, also inside quoted fields
+        MappedCsvDataSourceFormat ds = new MappedCsvDataSourceFormat(new File("employee_full.csv"), basePath)
+                .setChunkSize(16)
+                .setPool(pool);
+        Assertions.assertArrayEquals(
+                new CsvDataSourceFormat(new File("employee_full.csv"), basePath).getHeaders(),
+                ds.getHeaders());
+        List<String[]> actual = ds.data();
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Test unordered parallel parsing of a memory-mapped file returns all rows")
+    void testParseUnordered() throws Exception {
+        File basePath = new File(TestHelper.getTestDataDirectory(), "data");
+        List<String[]> expected = new CsvDataSourceFormat(new File("population.csv"), basePath).data();
+
+        MappedCsvDataSourceFormat ds = new MappedCsvDataSourceFormat(new File("population.csv"), basePath)
+                .setChunkSize(8)
+                .setOrdered(false);
+        Set<List<String>> actual = new HashSet<>();
+        ds.iterator().forEachRemaining((row) -> actual.add(Arrays.asList(row)));
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (String[] row : expected) {
+            Assertions.assertTrue(actual.contains(Arrays.asList(row)));
+        }
+    }
+
+    @Test
+    @DisplayName("Test memory-mapping files in zip archives is rejected")
+    void testZipFileRejected() throws Exception {
+        File basePath = new File(TestHelper.getTestDataDirectory(), "data/population.zip");
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MappedCsvDataSourceFormat(new File("population.csv"), basePath));
+    }
+}
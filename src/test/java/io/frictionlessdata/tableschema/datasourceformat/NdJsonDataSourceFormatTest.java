@@ -0,0 +1,60 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import io.frictionlessdata.tableschema.TestHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+class NdJsonDataSourceFormatTest {
+    private final String[] populationHeaders = new String[]{
+            "city", "year", "population"
+    };
+
+    @Test
+    @DisplayName("Validate DataSourceFormat.createDataSourceFormat creates a NdJsonDataSourceFormat from a NDJSON file")
+    void testFileCreationNdJson() throws Exception {
+        DataSourceFormat ds = DataSourceFormat.createDataSourceFormat(new File("population.ndjson"),
+                new File(TestHelper.getTestDataDirectory(), "data"));
+        Assertions.assertTrue(ds instanceof NdJsonDataSourceFormat);
+        Assertions.assertArrayEquals(populationHeaders, ds.getHeaders());
+        List<String[]> data = ds.data();
+        Assertions.assertEquals(3, data.size());
+        Assertions.assertArrayEquals(new String[]{"rome", "2017", "2860000"}, data.get(2));
+    }
+
+    @Test
+    @DisplayName("Validate reading NDJSON lines of arrays with the header names in the first line")
+    void testArrayLines() throws Exception {
+        String json = "[\"city\", \"year\"]\n[\"london\", 2017]\n\n[\"paris\", 2018]\n";
+        NdJsonDataSourceFormat ds = new NdJsonDataSourceFormat(json);
+        Assertions.assertArrayEquals(new String[]{"city", "year"}, ds.getHeaders());
+        List<String[]> data = ds.data();
+        Assertions.assertEquals(2, data.size());
+        Assertions.assertArrayEquals(new String[]{"paris", "2018"}, data.get(1));
+    }
+
+    @Test
+    @DisplayName("Validate splitting a NDJSON file returns all rows exactly once, in order")
+    void testSplit() throws Exception {
+        NdJsonDataSourceFormat ds = new NdJsonDataSourceFormat(new File("population.ndjson"),
+                new File(TestHelper.getTestDataDirectory(), "data"));
+        List<String[]> expected = ds.data();
+        for (int numSplits = 1; numSplits <= 5; numSplits++) {
+            List<NdJsonDataSourceFormat> splits = ds.split(numSplits);
+            Assertions.assertTrue(splits.size() <= numSplits);
+            List<String[]> actual = new ArrayList<>();
+            for (NdJsonDataSourceFormat split : splits) {
+                Assertions.assertArrayEquals(populationHeaders, split.getHeaders());
+                actual.addAll(split.data());
+            }
+            Assertions.assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Assertions.assertArrayEquals(expected.get(i), actual.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import io.frictionlessdata.tableschema.TestHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class PrefetchingIteratorTest {
+
+    @Test
+    @DisplayName("Validate reading ahead returns all rows in order and closes the source")
+    void testOrder() throws Exception {
+        CountDownLatch closed = new CountDownLatch(1);
+        PrefetchingIterator iter = new PrefetchingIterator(rows(10000, -1), closed::countDown, 8);
+        int i = 0;
+        while (iter.hasNext()) {
+            Assertions.assertArrayEquals(new String[]{String.valueOf(i++)}, iter.next());
+        }
+        Assertions.assertEquals(10000, i);
+        Assertions.assertTrue(closed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Validate exceptions of the source are thrown after the rows read before")
+    void testException() {
+        PrefetchingIterator iter = new PrefetchingIterator(rows(100, 42), null, 4);
+        List<String[]> read = new ArrayList<>();
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            while (iter.hasNext()) {
+                read.add(iter.next());
+            }
+        });
+        Assertions.assertEquals(42, read.size());
+        Assertions.assertFalse(iter.hasNext());
+    }
+
+    @Test
+    @DisplayName("Validate closing stops reading ahead and closes the source")
+    void testClose() throws Exception {
+        CountDownLatch closed = new CountDownLatch(1);
+        PrefetchingIterator iter = new PrefetchingIterator(rows(Integer.MAX_VALUE, -1), closed::countDown, 4);
+        iter.next();
+        iter.close();
+        Assertions.assertTrue(closed.await(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(iter.hasNext());
+    }
+
+    @Test
+    @DisplayName("Validate a CSV data source with read-ahead returns the same data")
+    void testCsvPrefetch() throws Exception {
+        File dir = new File(TestHelper.getTestDataDirectory(), "data");
+        CsvDataSourceFormat ds = new CsvDataSourceFormat(new File("population.csv"), dir);
+        List<String[]> expected = ds.data();
+        ds.setPrefetchDepth(2);
+        List<String[]> actual = ds.data();
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    private static Iterator<String[]> rows(int count, int failAt) {
+        return new Iterator<String[]>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < count;
+            }
+
+            @Override
+            public String[] next() {
+                if (i == failAt) {
+                    throw new IllegalStateException("Failed at row " + i);
+                }
+                return new String[]{String.valueOf(i++)};
+            }
+        };
+    }
+}
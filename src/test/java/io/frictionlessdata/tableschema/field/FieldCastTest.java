@@ -265,6 +265,35 @@ class FieldCastTest {
         Assertions.assertEquals("2008-08-30T01:45:36.123Z", val.toString());
     }
 
+    @Test
+    void testFieldCastDateTimeVariants() throws Exception{
+        DatetimeField field = new DatetimeField("test");
+        Assertions.assertEquals("2008-08-30T01:45:36Z", field.castValue("2008-08-30T01:45:36Z").toString());
+        Assertions.assertEquals("2008-08-30T01:45:36.100+02:00",
+                field.castValue("2008-08-30T01:45:36.1+02:00").toString());
+        assertThrows(InvalidCastException.class, () -> field.castValue("2008-08-30T01:45:36"));
+        assertThrows(InvalidCastException.class, () -> field.castValue("2008-08-30 01:45:36Z"));
+    }
+
+    @Test
+    void testFieldCastDateTimeCustomFormat() throws Exception{
+        DatetimeField field = new DatetimeField("test", "%d.%m.%Y %H:%M", null, null, null, null, null);
+        ZonedDateTime val = field.castValue("30.08.2008 01:45");
+
+        Assertions.assertEquals("2008-08-30T01:45Z", val.toString());
+        Assertions.assertEquals("30.08.2008 01:45", field.formatValueAsString(val, field.getFormat(), null));
+    }
+
+    @Test
+    void testFieldCastDateCustomFormat() throws Exception{
+        DateField field = new DateField("test", "%d/%m/%Y", null, null, null, null, null);
+        Assertions.assertEquals(LocalDate.of(2008, 8, 30), field.castValue("30/08/2008"));
+        assertThrows(InvalidCastException.class, () -> field.castValue("2008-08-30"));
+
+        DateField invalidFormat = new DateField("test", "%Q", null, null, null, null, null);
+        assertThrows(InvalidCastException.class, () -> invalidFormat.castValue("2008-08-30"));
+    }
+
     @Test
     void testFieldCastDate() throws Exception{
         DateField field = new DateField("test");
@@ -361,6 +390,53 @@ class FieldCastTest {
         Assertions.assertEquals("John Doe", val);
     }
 
+    @Test
+    @DisplayName("Test tryCast reports invalid values and constraint violations instead of throwing")
+    void testFieldTryCast() {
+        Map<String, Object> constraints = new HashMap<>();
+        constraints.put(Field.CONSTRAINT_KEY_MINIMUM, 10);
+        IntegerField intField = new IntegerField("count", null, null, null, null, constraints, null);
+
+        CastResult<BigInteger> result = intField.tryCast("42");
+        Assertions.assertTrue(result.isValid());
+        Assertions.assertEquals(BigInteger.valueOf(42), result.getValue());
+
+        result = intField.tryCast("forty-two");
+        Assertions.assertFalse(result.isValid());
+        Assertions.assertNull(result.getValue());
+        Assertions.assertEquals("Value 'forty-two' is not a valid integer", result.getReason());
+
+        result = intField.tryCast("5");
+        Assertions.assertFalse(result.isValid());
+        Assertions.assertEquals("Violated constraints: minimum", result.getReason());
+        Assertions.assertTrue(intField.tryCast("5", false, null).isValid());
+
+        result = intField.tryCast("");
+        Assertions.assertTrue(result.isValid());
+        Assertions.assertNull(result.getValue());
+
+        Assertions.assertFalse(new NumberField("amount").tryCast("12a").isValid());
+        Assertions.assertFalse(new BooleanField("flag").tryCast("maybe").isValid());
+        Assertions.assertFalse(new DateField("day").tryCast("2020-13-01").isValid());
+        Assertions.assertFalse(new DatetimeField("at").tryCast("2020-01-01 10:00").isValid());
+        DateField customDate = new DateField("day", "%d/%m/%Y", null, null, null, null, null);
+        Assertions.assertEquals(LocalDate.of(2020, 3, 1), customDate.tryCast("01/03/2020").getValue());
+        Assertions.assertEquals("Value '2020-03-01' is not a valid date in format '%d/%m/%Y'",
+                customDate.tryCast("2020-03-01").getReason());
+    }
+
+    @Test
+    @DisplayName("Test the casters of Fields report invalid values like tryCast")
+    void testFieldCasterTryCast() {
+        FieldCaster<Number> caster = new NumberField("amount").getCaster(null);
+        Assertions.assertEquals(new BigDecimal("1.5"), caster.tryCast("1.5").getValue());
+        Assertions.assertFalse(caster.tryCast("one and a half").isValid());
+        Assertions.assertNull(caster.tryCast(null).getValue());
+
+        FieldCaster<String> stringCaster = new StringField("name").getCaster(null);
+        Assertions.assertEquals("John Doe", stringCaster.tryCast("John Doe").getValue());
+    }
+
     @Test
     @DisplayName("Test fix for Issue https://github.com/frictionlessdata/tableschema-java/issues/21")
     void testIssue21() {
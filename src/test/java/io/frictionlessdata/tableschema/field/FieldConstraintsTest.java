@@ -1,7 +1,10 @@
 package io.frictionlessdata.tableschema.field;
 
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
+import java.math.BigInteger;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -674,4 +677,59 @@ public class FieldConstraintsTest {
         violatedConstraints = field.checkConstraintViolations(datetime3);
         Assert.assertTrue(violatedConstraints.containsKey(Field.CONSTRAINT_KEY_ENUM));
     }
+
+    @Test
+    public void testMinimumAndMaximumDateFromStrings(){
+        Map<String, Object> constraints = new HashMap();
+        constraints.put(Field.CONSTRAINT_KEY_MINIMUM, "2000-01-15");
+        constraints.put(Field.CONSTRAINT_KEY_MAXIMUM, "2019-01-15");
+
+        DateField field = new DateField("test",  null, null, null, null, constraints, null);
+
+        Assert.assertTrue(field.checkConstraintViolations(LocalDate.of(2017, 1, 15)).isEmpty());
+        Assert.assertTrue(field.checkConstraintViolations(LocalDate.of(2000, 1, 15)).isEmpty());
+        Assert.assertTrue(field.checkConstraintViolations(LocalDate.of(2000, 1, 14))
+                .containsKey(Field.CONSTRAINT_KEY_MINIMUM));
+        Assert.assertTrue(field.checkConstraintViolations(LocalDate.of(2019, 1, 16))
+                .containsKey(Field.CONSTRAINT_KEY_MAXIMUM));
+
+        Assert.assertEquals(LocalDate.of(2010, 5, 5), field.castValue("2010-05-05"));
+        exception.expect(ConstraintsException.class);
+        field.castValue("2020-05-05");
+    }
+
+    @Test
+    public void testEnumIntegerCast(){
+        Map<String, Object> constraints = new HashMap();
+        constraints.put(Field.CONSTRAINT_KEY_ENUM, Arrays.asList(1, 2, 4));
+        constraints.put(Field.CONSTRAINT_KEY_MINIMUM, 2);
+
+        IntegerField field = new IntegerField("test", null, null, null, null, constraints, null);
+
+        Assert.assertEquals(BigInteger.valueOf(4), field.castValue("4"));
+        Assert.assertTrue(field.checkConstraintViolations(BigInteger.valueOf(1))
+                .containsKey(Field.CONSTRAINT_KEY_MINIMUM));
+        Assert.assertTrue(field.checkConstraintViolations(BigInteger.valueOf(3))
+                .containsKey(Field.CONSTRAINT_KEY_ENUM));
+
+        ConstraintsChecker checker = field.getConstraintsChecker();
+        checker.check(BigInteger.valueOf(2));
+        exception.expect(ConstraintsException.class);
+        checker.check(BigInteger.valueOf(3));
+    }
+
+    @Test
+    public void testChangedConstraintsMap(){
+        Map<String, Object> constraints = new HashMap();
+        constraints.put(Field.CONSTRAINT_KEY_MAXIMUM, 10);
+
+        IntegerField field = new IntegerField("test", null, null, null, null, constraints, null);
+        Assert.assertTrue(field.checkConstraintViolations(BigInteger.valueOf(7)).isEmpty());
+
+        field.getConstraints().put(Field.CONSTRAINT_KEY_MAXIMUM, 5);
+        Assert.assertTrue(field.checkConstraintViolations(BigInteger.valueOf(7))
+                .containsKey(Field.CONSTRAINT_KEY_MAXIMUM));
+        exception.expect(ConstraintsException.class);
+        field.castValue("7");
+    }
 }
@@ -0,0 +1,57 @@
+package io.frictionlessdata.tableschema.field;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+class FieldTypeRegistryTest {
+
+    @Test
+    @DisplayName("Create Fields of the built-in types")
+    void testBuiltInTypes() {
+        FieldTypeRegistry registry = new FieldTypeRegistry();
+        Assertions.assertEquals(15, registry.getTypes().size());
+        Field field = registry.create(Field.FIELD_TYPE_INTEGER, "count");
+        Assertions.assertTrue(field instanceof IntegerField);
+        Assertions.assertEquals("count", field.getName());
+        Assertions.assertEquals(Field.FIELD_TYPE_INTEGER, field.getType());
+        Assertions.assertTrue(registry.create("Yearmonth", "month") instanceof YearmonthField);
+        Assertions.assertNotSame(registry.create(Field.FIELD_TYPE_DATE, "a"), registry.create(Field.FIELD_TYPE_DATE, "a"));
+    }
+
+    @Test
+    @DisplayName("Create AnyFields for unknown types")
+    void testUnknownType() {
+        FieldTypeRegistry registry = new FieldTypeRegistry();
+        Assertions.assertFalse(registry.isRegistered("anon"));
+        Field field = registry.create("anon", "anon");
+        Assertions.assertTrue(field instanceof AnyField);
+        Assertions.assertEquals("anon", field.getName());
+        Assertions.assertTrue(registry.create("", "empty") instanceof AnyField);
+        Assertions.assertTrue(registry.create(null, "none") instanceof AnyField);
+    }
+
+    @Test
+    @DisplayName("Register and replace types")
+    void testRegister() {
+        FieldTypeRegistry registry = new FieldTypeRegistry()
+                .register("text", StringField::new)
+                .register(Field.FIELD_TYPE_DURATION, StringField::new);
+        Assertions.assertTrue(registry.create("text", "t") instanceof StringField);
+        Assertions.assertTrue(registry.create(Field.FIELD_TYPE_DURATION, "d") instanceof StringField);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.register("", StringField::new));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.register("text", null));
+    }
+
+    @Test
+    @DisplayName("Load types of FieldTypeProviders into the default registry")
+    void testServiceLoader() {
+        Assertions.assertTrue(FieldTypeRegistry.getDefault().isRegistered(TestFieldTypeProvider.FIELD_TYPE_MONEY));
+        Field field = Field.forType(TestFieldTypeProvider.FIELD_TYPE_MONEY, "price");
+        Assertions.assertTrue(field instanceof TestFieldTypeProvider.MoneyField);
+        Assertions.assertEquals(new BigDecimal("12.50"), field.castValue("12.5"));
+        Assertions.assertFalse(new FieldTypeRegistry().isRegistered(TestFieldTypeProvider.FIELD_TYPE_MONEY));
+    }
+}
@@ -0,0 +1,97 @@
+package io.frictionlessdata.tableschema.field;
+
+import io.frictionlessdata.tableschema.exception.TypeInferringException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+class NumberScannerTest {
+
+    @Test
+    @DisplayName("scan integers and decimals into unscaled value and scale")
+    void testScanPlain() {
+        long[] result = new long[2];
+        Assertions.assertEquals(NumberScanner.INTEGER, NumberScanner.PLAIN.scan(" -42 ", result));
+        Assertions.assertEquals(-42L, result[0]);
+
+        Assertions.assertEquals(NumberScanner.DECIMAL, NumberScanner.PLAIN.scan("+3.140", result));
+        Assertions.assertEquals(3140L, result[0]);
+        Assertions.assertEquals(3L, result[1]);
+
+        Assertions.assertEquals(NumberScanner.DECIMAL, NumberScanner.PLAIN.scan("2.5E-3", result));
+        Assertions.assertEquals(25L, result[0]);
+        Assertions.assertEquals(4L, result[1]);
+
+        Assertions.assertEquals(NumberScanner.NAN, NumberScanner.PLAIN.scan("nan", result));
+        Assertions.assertEquals(NumberScanner.POSITIVE_INFINITY, NumberScanner.PLAIN.scan("INF", result));
+        Assertions.assertEquals(NumberScanner.NEGATIVE_INFINITY, NumberScanner.PLAIN.scan("-inf", result));
+    }
+
+    @Test
+    @DisplayName("reject values that are not numbers")
+    void testScanInvalid() {
+        long[] result = new long[2];
+        for (String value : new String[]{"", " ", "-", ".", "1.2.3", "12a", "1e", "1,000"}) {
+            Assertions.assertEquals(NumberScanner.INVALID, NumberScanner.PLAIN.scan(value, result), value);
+        }
+        // non-ASCII characters are left to BigDecimal, which rejects them
+        Assertions.assertEquals(NumberScanner.ARBITRARY, NumberScanner.PLAIN.scan("€5", result));
+        Assertions.assertThrows(TypeInferringException.class, () -> new NumberField("test").parseValue("€5", null, null));
+    }
+
+    @Test
+    @DisplayName("report values not fitting into a long as arbitrary precision")
+    void testScanArbitrary() {
+        long[] result = new long[2];
+        Assertions.assertEquals(NumberScanner.INTEGER, NumberScanner.PLAIN.scan("9223372036854775799", result));
+        Assertions.assertEquals(NumberScanner.ARBITRARY, NumberScanner.PLAIN.scan("92233720368547758070", result));
+        Assertions.assertEquals(NumberScanner.ARBITRARY, NumberScanner.PLAIN.scan("1e9999999999", result));
+    }
+
+    @Test
+    @DisplayName("scan with decimalChar, groupChar and bareNumber options")
+    void testScanOptions() {
+        Map<String, Object> options = new HashMap<>();
+        options.put(NumberField.NUMBER_OPTION_DECIMAL_CHAR, ",");
+        options.put(NumberField.NUMBER_OPTION_GROUP_CHAR, ".");
+        options.put(NumberField.NUMBER_OPTION_BARE_NUMBER, false);
+        NumberScanner scanner = NumberScanner.forOptions(options);
+
+        long[] result = new long[2];
+        Assertions.assertEquals(NumberScanner.DECIMAL, scanner.scan("EUR 1.234.567,89", result));
+        Assertions.assertEquals(123456789L, result[0]);
+        Assertions.assertEquals(2L, result[1]);
+        Assertions.assertEquals(NumberScanner.INTEGER, scanner.scan("12.000 $", result));
+        Assertions.assertEquals(12000L, result[0]);
+        Assertions.assertEquals("1234.5", scanner.normalize(" 1.234,5% "));
+    }
+
+    @Test
+    @DisplayName("use the plain scanner if no number options are set")
+    void testForOptions() {
+        Assertions.assertSame(NumberScanner.PLAIN, NumberScanner.forOptions(null));
+        Assertions.assertSame(NumberScanner.PLAIN, NumberScanner.forOptions(new HashMap<>()));
+    }
+
+    @Test
+    @DisplayName("parse values of all sizes to the same types as before")
+    void testNumberFieldTypes() {
+        NumberField field = new NumberField("test");
+        Assertions.assertEquals(new BigInteger("42"), field.parseValue("42", null, null));
+        Assertions.assertEquals(new BigDecimal("3.140"), field.parseValue("3.140", null, null));
+        Assertions.assertEquals(new BigDecimal("1E+10"), field.parseValue("1e10", null, null));
+        Assertions.assertEquals(new BigInteger("92233720368547758070"),
+                field.parseValue("92233720368547758070", null, null));
+        Assertions.assertEquals(Double.NaN, field.parseValue("NaN", null, null));
+
+        IntegerField integerField = new IntegerField("test");
+        Assertions.assertEquals(BigInteger.valueOf(-17), integerField.parseValue(" -17", null, null));
+        Assertions.assertEquals(new BigInteger("92233720368547758070"),
+                integerField.parseValue("92233720368547758070", null, null));
+    }
+}
@@ -0,0 +1,43 @@
+package io.frictionlessdata.tableschema.field;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+
+/**
+ * Registered in `META-INF/services` of the test resources to check {@link FieldTypeRegistry} loads
+ * {@link FieldTypeProvider}s
+ */
+public class TestFieldTypeProvider implements FieldTypeProvider {
+    static final String FIELD_TYPE_MONEY = "money";
+
+    @Override
+    public void registerTypes(FieldTypeRegistry registry) {
+        registry.register(FIELD_TYPE_MONEY, MoneyField::new);
+    }
+
+    /**
+     * Amounts with two decimal places
+     */
+    static class MoneyField extends Field<BigDecimal> {
+
+        MoneyField(String name) {
+            super(name, FIELD_TYPE_MONEY, null, null, null, null, null, null);
+        }
+
+        @Override
+        public BigDecimal parseValue(String value, String format, Map<String, Object> options) {
+            return new BigDecimal(value.trim()).setScale(2, RoundingMode.HALF_EVEN);
+        }
+
+        @Override
+        public String formatValueAsString(BigDecimal value, String format, Map<String, Object> options) {
+            return value.toPlainString();
+        }
+
+        @Override
+        public String parseFormat(String value, Map<String, Object> options) {
+            return FIELD_FORMAT_DEFAULT;
+        }
+    }
+}
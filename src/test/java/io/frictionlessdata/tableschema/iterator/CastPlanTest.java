@@ -0,0 +1,188 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.exception.ConstraintsException;
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.BooleanField;
+import io.frictionlessdata.tableschema.field.DateField;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.IntegerField;
+import io.frictionlessdata.tableschema.field.NumberField;
+import io.frictionlessdata.tableschema.field.StringField;
+import io.frictionlessdata.tableschema.schema.Schema;
+import io.frictionlessdata.tableschema.util.TableSchemaUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+class CastPlanTest {
+    private Schema schema;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> constraints = new HashMap<>();
+        constraints.put(Field.CONSTRAINT_KEY_MAX_LENGTH, 5);
+        schema = new Schema();
+        schema.addField(new StringField("name", null, null, null, null, constraints, null));
+        schema.addField(new IntegerField("age"));
+        schema.addField(new StringField("city"));
+    }
+
+    @Test
+    @DisplayName("Test a CastPlan reorders and casts columns, and returns null for missing columns")
+    void testCast() {
+        Map<Integer, Integer> mapping = TableSchemaUtil.createSchemaHeaderMapping(
+                new String[]{"age", "name"}, new String[]{"name", "age", "city"});
+        CastPlan plan = new CastPlan(schema, mapping, null);
+        Assertions.assertEquals(3, plan.getWidth());
+        Assertions.assertArrayEquals(new Object[]{"john", new BigInteger("42"), null},
+                plan.cast(new String[]{"42", "john"}));
+        Assertions.assertArrayEquals(new Object[]{null, null, null},
+                plan.cast(new String[]{"", null}));
+    }
+
+    @Test
+    @DisplayName("Test a CastPlan throws the same exceptions as Field.castValue()")
+    void testCastExceptions() {
+        Map<Integer, Integer> mapping = TableSchemaUtil.createSchemaHeaderMapping(
+                new String[]{"name", "age", "city"}, new String[]{"name", "age", "city"});
+        CastPlan plan = new CastPlan(schema, mapping, null);
+        Assertions.assertThrows(ConstraintsException.class,
+                () -> plan.cast(new String[]{"johnathan", "42", "london"}));
+        Assertions.assertThrows(InvalidCastException.class,
+                () -> plan.cast(new String[]{"john", "forty-two", "london"}));
+        Assertions.assertThrows(TableSchemaException.class,
+                () -> plan.cast(new String[]{"john", "42", "london", "uk"}));
+    }
+
+    @Test
+    @DisplayName("Test a CastPlan collects all errors of a row instead of throwing")
+    void testTryCast() {
+        Map<Integer, Integer> mapping = TableSchemaUtil.createSchemaHeaderMapping(
+                new String[]{"name", "age", "city"}, new String[]{"name", "age", "city"});
+        CastPlan plan = new CastPlan(schema, mapping, null);
+        CastErrorCollector errors = new CastErrorCollector();
+        Assertions.assertArrayEquals(new Object[]{"john", new BigInteger("42"), "london"},
+                plan.tryCast(new String[]{"john", "42", "london"}, 1, errors));
+        Assertions.assertEquals(0, errors.getErrorCount());
+
+        Assertions.assertNull(plan.tryCast(new String[]{"johnathan", "forty-two", "london"}, 2, errors));
+        Assertions.assertNull(plan.tryCast(new String[]{"john", "42", "london", "uk"}, 3, errors));
+        Assertions.assertEquals(3, errors.getErrorCount());
+        CastError error = errors.getErrors().get(0);
+        Assertions.assertEquals(2, error.getRowNumber());
+        Assertions.assertEquals("name", error.getColumn());
+        Assertions.assertEquals("johnathan", error.getValue());
+        Assertions.assertEquals("Violated constraints: maxLength", error.getReason());
+        error = errors.getErrors().get(1);
+        Assertions.assertEquals("age", error.getColumn());
+        Assertions.assertEquals("Value 'forty-two' is not a valid integer", error.getReason());
+        error = errors.getErrors().get(2);
+        Assertions.assertEquals(3, error.getRowNumber());
+        Assertions.assertNull(error.getColumn());
+    }
+
+    @Test
+    @DisplayName("Test a CastPlan casts into primitives, and falls back to BigInteger/BigDecimal on overflow " +
+            "or loss of precision")
+    void testCastIntoPrimitiveRow() {
+        Schema primitives = new Schema();
+        primitives.addField(new IntegerField("count"));
+        primitives.addField(new NumberField("amount"));
+        primitives.addField(new BooleanField("active"));
+        primitives.addField(new DateField("day"));
+        primitives.addField(new StringField("name"));
+        String[] headers = new String[]{"count", "amount", "active", "day", "name"};
+        CastPlan plan = new CastPlan(primitives,
+                TableSchemaUtil.createSchemaHeaderMapping(headers, headers), null);
+        PrimitiveRow row = new PrimitiveRow(plan.getWidth());
+
+        plan.castInto(new String[]{" -42 ", "1.5e3", "true", "2020-01-02", "john"}, row);
+        Assertions.assertEquals(-42L, row.getLong(0));
+        Assertions.assertEquals(1500.0, row.getDouble(1));
+        Assertions.assertTrue(row.getBoolean(2));
+        Assertions.assertEquals(LocalDate.of(2020, 1, 2).toEpochDay(), row.getEpochDay(3));
+        Assertions.assertEquals(LocalDate.of(2020, 1, 2), row.get(3));
+        Assertions.assertEquals("john", row.get(4));
+
+        plan.castInto(new String[]{"123456789012345678901", "1e400", "", null, "jane"}, row);
+        Assertions.assertEquals(new BigInteger("123456789012345678901"), row.get(0));
+        Assertions.assertThrows(ArithmeticException.class, () -> row.getLong(0));
+        Assertions.assertEquals(new BigDecimal("1e400"), row.get(1));
+        Assertions.assertTrue(row.isNull(2));
+        Assertions.assertTrue(row.isNull(3));
+        Assertions.assertThrows(NullPointerException.class, () -> row.getBoolean(2));
+        Assertions.assertThrows(ClassCastException.class, () -> row.getLong(4));
+
+        plan.castInto(new String[]{"9223372036854775807", "42", "false", "2020-01-02", "jim"}, row);
+        Assertions.assertEquals(Long.MAX_VALUE, row.getLong(0));
+        Assertions.assertEquals(42L, row.getLong(1));
+        Assertions.assertFalse(row.getBoolean(2));
+
+        plan.castInto(new String[]{"1", "0.1000000000000000000001", "true", "2020-01-02", "jo"}, row);
+        Assertions.assertEquals(new BigDecimal("0.1000000000000000000001"), row.get(1));
+        plan.castInto(new String[]{"1", "1e-400", "true", "2020-01-02", "jo"}, row);
+        Assertions.assertEquals(new BigDecimal("1e-400"), row.get(1));
+        row.setValue(1, new BigDecimal("0.25"));
+        Assertions.assertEquals(0.25, row.getDouble(1));
+
+        Assertions.assertThrows(InvalidCastException.class,
+                () -> plan.castInto(new String[]{"4.2", "1", "true", "2020-01-02", "joe"}, row));
+        Assertions.assertThrows(InvalidCastException.class,
+                () -> plan.castInto(new String[]{"1", "1.2.3", "true", "2020-01-02", "joe"}, row));
+    }
+
+    @Test
+    @DisplayName("Test column vectors hold cast values, nulls and overflowing values")
+    void testFillColumnVectors() {
+        Schema primitives = new Schema();
+        primitives.addField(new IntegerField("count"));
+        primitives.addField(new NumberField("amount"));
+        primitives.addField(new BooleanField("active"));
+        primitives.addField(new DateField("day"));
+        primitives.addField(new StringField("name"));
+        String[] headers = new String[]{"count", "amount", "active", "day", "name"};
+        CastPlan plan = new CastPlan(primitives,
+                TableSchemaUtil.createSchemaHeaderMapping(headers, headers), null);
+        String[][] rows = new String[][]{
+                {"1", "1.5", "true", "2020-01-02", "john"},
+                {"", "", "", "", ""},
+                {"123456789012345678901", "42", "false", "1970-01-01", "john"}};
+
+        LongVector counts = new LongVector(3);
+        counts.fill(plan, rows, 0);
+        Assertions.assertEquals(1L, counts.getLong(0));
+        Assertions.assertTrue(counts.isNull(1));
+        Assertions.assertTrue(counts.hasOverflow());
+        Assertions.assertEquals(new BigInteger("123456789012345678901"), counts.get(2));
+        Assertions.assertEquals(5L, counts.getValidity()[0]);
+
+        DoubleVector amounts = new DoubleVector(3);
+        amounts.fill(plan, rows, 1);
+        Assertions.assertArrayEquals(new double[]{1.5, 0, 42}, amounts.getValues());
+        Assertions.assertNull(amounts.get(1));
+
+        BooleanVector active = new BooleanVector(3);
+        active.fill(plan, rows, 2);
+        Assertions.assertArrayEquals(new boolean[]{true, false, false}, active.getValues());
+
+        DateVector days = new DateVector(3);
+        days.fill(plan, rows, 3);
+        Assertions.assertEquals(LocalDate.of(2020, 1, 2), days.get(0));
+        Assertions.assertEquals(0, days.getEpochDay(2));
+        Assertions.assertNull(days.get(1));
+
+        StringVector names = new StringVector(3);
+        names.fill(plan, rows, 4);
+        Assertions.assertEquals(1, names.getDictionary().size());
+        Assertions.assertArrayEquals(new int[]{0, 0, 0}, names.getCodes());
+        Assertions.assertNull(names.getString(1));
+    }
+}
@@ -2,18 +2,33 @@ package io.frictionlessdata.tableschema.iterator;
 
 import io.frictionlessdata.tableschema.Table;
 import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.datasourceformat.StringArrayDataSourceFormat;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.NumberField;
 import io.frictionlessdata.tableschema.schema.Schema;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
 
@@ -102,6 +117,386 @@ class TableIteratorTest {
         });
     }
 
+    @Test
+    void testReusingIteratorCast() throws Exception {
+        List<Object[]> expected = validPopulationTable.read();
+        Object[] buffer = new Object[3];
+        Iterator<Object[]> iter = validPopulationTable.iterator(buffer);
+        int i = 0;
+        while (iter.hasNext()) {
+            Object[] row = iter.next();
+            Assertions.assertSame(buffer, row);
+            Assertions.assertArrayEquals(expected.get(i++), row);
+        }
+        Assertions.assertEquals(expected.size(), i);
+    }
+
+    @Test
+    void testReusingIteratorCastRejectsStringBuffer() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> validPopulationTable.iterator(new String[3]));
+    }
+
+    @Test
+    void testReusingIteratorKeyedAndStringArray() throws Exception{
+        Schema schema = Schema.fromJson(new File(getTestDataDirectory(), "/schema/population_schema_alternate.json"), true);
+        Table table = Table.fromSource(jsonData, schema, DataSourceFormat.getDefaultCsvFormat());
+        List<String[]> expectedData = this.getExpectedAlternatePopulationData();
+
+        String[] stringBuffer = new String[3];
+        Iterator<String[]> iter = table.stringArrayIterator(stringBuffer);
+        for (String[] expected : expectedData) {
+            Assertions.assertSame(stringBuffer, iter.next());
+            Assertions.assertArrayEquals(expected, stringBuffer);
+        }
+        Assertions.assertFalse(iter.hasNext());
+
+        Map<String, Object> mapBuffer = new HashMap<>();
+        Iterator<Map<String, Object>> keyedIter = table.keyedIterator(mapBuffer);
+        for (String[] expected : expectedData) {
+            Assertions.assertSame(mapBuffer, keyedIter.next());
+            Assertions.assertEquals(expected[1], mapBuffer.get("city"));
+            Assertions.assertEquals(expected[2], mapBuffer.get("population").toString());
+        }
+        Assertions.assertFalse(keyedIter.hasNext());
+    }
+
+    @Test
+    void testRowIterator() throws Exception {
+        List<Object[]> expected = validPopulationTable.read();
+        Iterator<Row> iter = validPopulationTable.rowIterator();
+        Row previous = null;
+        for (Object[] expectedRow : expected) {
+            Row row = iter.next();
+            Assertions.assertNotSame(previous, row);
+            Assertions.assertEquals(expectedRow[0], row.get(0));
+            Assertions.assertEquals(expectedRow[1], row.get(1));
+            Assertions.assertEquals(((Number)expectedRow[2]).longValue(), row.getLong(2));
+            previous = row;
+        }
+        Assertions.assertFalse(iter.hasNext());
+
+        iter = validPopulationTable.rowIterator(true);
+        Row first = iter.next();
+        Assertions.assertSame(first, iter.next());
+        Assertions.assertEquals(((Number)expected.get(1)[2]).longValue(), first.getLong(2));
+    }
+
+    @Test
+    void testLazyRowIterator() throws Exception {
+        List<Object[]> expected = validPopulationTable.read();
+        Iterator<Row> iter = validPopulationTable.rowIterator(false, true);
+        for (Object[] expectedRow : expected) {
+            Row row = iter.next();
+            Assertions.assertEquals(3, row.size());
+            Assertions.assertEquals(expectedRow[1], row.get(1));
+            Assertions.assertSame(row.get(1), row.get(1));
+            Assertions.assertEquals(((Number)expectedRow[2]).longValue(), row.getLong(2));
+        }
+        Assertions.assertFalse(iter.hasNext());
+    }
+
+    @Test
+    void testLazyRowIteratorDefersCastErrors() throws Exception {
+        // the first row has a city as year, which only fails once the year is accessed
+        Iterator<Row> iter = invalidPopulationTable.rowIterator(true, true);
+        Row row = iter.next();
+        Assertions.assertEquals(8780000L, row.getLong(2));
+        Assertions.assertThrows(InvalidCastException.class, () -> row.get(1));
+        Assertions.assertSame(row, iter.next());
+        Assertions.assertEquals("paris", row.get(0));
+    }
+
+    @Test
+    void testBatchIterator() throws Exception {
+        Iterator<ColumnBatch> iter = validPopulationTable.batchIterator(2);
+        ColumnBatch batch = iter.next();
+        Assertions.assertEquals(2, batch.size());
+        Assertions.assertEquals(3, batch.getColumnCount());
+        StringVector cities = (StringVector) batch.getColumn("city");
+        Assertions.assertEquals("paris", cities.getString(1));
+        LongVector population = (LongVector) batch.getColumn(2);
+        Assertions.assertArrayEquals(new long[]{8780000, 2240000}, population.getValues());
+
+        batch = iter.next();
+        Assertions.assertEquals(1, batch.size());
+        Assertions.assertEquals("rome", batch.getColumn(0).get(0));
+        Assertions.assertEquals(2860000L, ((LongVector) batch.getColumn(2)).getLong(0));
+        Assertions.assertFalse(iter.hasNext());
+    }
+
+    @Test
+    void testParallelStream() throws Exception {
+        List<Object[]> expected = validPopulationTable.read();
+        List<Object[]> actual = validPopulationTable.stream().parallel().collect(Collectors.toList());
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), actual.get(i));
+        }
+        Assertions.assertEquals(Arrays.asList("london", "paris", "rome"), validPopulationTable.keyedStream()
+                .parallel()
+                .map((row) -> row.get("city"))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testStreamClosesIterators() throws Exception {
+        List<String[]> data = Arrays.asList(new String[]{"1"}, new String[]{"2"}, new String[]{"3"});
+        Table table = new Table(data, new String[]{"id"}, null);
+        List<ClosingIterator> opened = new ArrayList<>();
+        TableSpliterator.IteratorFactory<String[]> factory = (t) -> {
+            ClosingIterator iter = new ClosingIterator(t.getDataSourceFormat().iterator());
+            opened.add(iter);
+            return iter;
+        };
+
+        List<String[]> read = StreamSupport.stream(new TableSpliterator<>(table, factory), false)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(3, read.size());
+        Assertions.assertTrue(opened.get(0).closed);
+
+        opened.clear();
+        TableSpliterator<String[]> rows = new TableSpliterator<>(table, factory);
+        try (Stream<String[]> stream = StreamSupport.stream(rows, false).onClose(rows::close)) {
+            Assertions.assertEquals("1", stream.findFirst().get()[0]);
+            Assertions.assertFalse(opened.get(0).closed);
+        }
+        Assertions.assertTrue(opened.get(0).closed);
+    }
+
+    @Test
+    void testPipelinedIterator() throws Exception {
+        List<Object[]> expected = validPopulationTable.read();
+        List<Object[]> actual = new ArrayList<>();
+        try (PipelinedTableIterator<Object[]> iter
+                     = validPopulationTable.pipelinedIterator(false, false, true, false, 2)) {
+            iter.forEachRemaining(actual::add);
+        }
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    void testPipelinedIteratorInvalidCast() throws Exception {
+        PipelinedTableIterator<Object[]> iter
+                = invalidPopulationTable.pipelinedIterator(true, false, true, false, 2);
+        Assertions.assertThrows(InvalidCastException.class, iter::next);
+        Assertions.assertFalse(iter.hasNext());
+    }
+
+    @Test
+    void testPipelinedIteratorClosesDataSource() throws Exception {
+        List<String[]> data = new ArrayList<>();
+        for (int i = 0; i < PipelinedTableIterator.BATCH_SIZE * 10; i++) {
+            data.add(new String[]{Integer.toString(i)});
+        }
+        List<ClosingIterator> opened = new ArrayList<>();
+        Table table = new Table();
+        table.setDataSourceFormat(new StringArrayDataSourceFormat(data, new String[]{"id"}) {
+            @Override
+            public Iterator<String[]> iterator() throws Exception {
+                ClosingIterator iter = new ClosingIterator(super.iterator());
+                opened.add(iter);
+                return iter;
+            }
+        });
+        PipelinedTableIterator<Object[]> iter = table.pipelinedIterator(false, false, false, false, 2);
+        Assertions.assertEquals("0", iter.next()[0]);
+        iter.close();
+        Assertions.assertFalse(iter.hasNext());
+        Assertions.assertTrue(opened.get(0).closed);
+    }
+
+    @Test
+    void testProjectedIterator() throws Exception {
+        List<Object[]> expected = validPopulationTable.read();
+        List<String> columns = Arrays.asList("population", "city");
+        Iterator<Object[]> iter = validPopulationTable.iterator(columns);
+        for (Object[] expectedRow : expected) {
+            Assertions.assertArrayEquals(new Object[]{expectedRow[2], expectedRow[0]}, iter.next());
+        }
+        Assertions.assertFalse(iter.hasNext());
+
+        Map<String, Object> keyedRow = validPopulationTable.keyedIterator(columns).next();
+        Assertions.assertEquals(2, keyedRow.size());
+        Assertions.assertEquals(expected.get(0)[0], keyedRow.get("city"));
+
+        List<Object[]> streamed = validPopulationTable.stream(columns).collect(Collectors.toList());
+        Assertions.assertEquals(expected.size(), streamed.size());
+        Assertions.assertEquals(expected.get(1)[2], streamed.get(1)[0]);
+    }
+
+    @Test
+    void testProjectedIteratorUnknownColumn() {
+        Assertions.assertThrows(TableSchemaException.class,
+                () -> validPopulationTable.iterator(Arrays.asList("city", "area")));
+    }
+
+    @Test
+    void testFilteredIterator() throws Exception {
+        List<Object[]> expected = validPopulationTable.read();
+        Iterator<Object[]> iter = validPopulationTable.iterator(RowFilter.equalTo("city", "paris"));
+        Assertions.assertArrayEquals(expected.get(1), iter.next());
+        Assertions.assertFalse(iter.hasNext());
+
+        // filter column not among the projected columns
+        List<Object[]> large = new ArrayList<>();
+        validPopulationTable.iterator(Collections.singletonList("city"), RowFilter.atLeast("population", "2500000"))
+                .forEachRemaining(large::add);
+        Assertions.assertEquals(2, large.size());
+        Assertions.assertArrayEquals(new Object[]{"london"}, large.get(0));
+        Assertions.assertArrayEquals(new Object[]{"rome"}, large.get(1));
+
+        RowFilter filter = RowFilter.raw("city", (city) -> city.startsWith("r"))
+                .and(RowFilter.value("population", (pop) -> ((Number) pop).longValue() < 3000000));
+        List<Object[]> filtered = validPopulationTable.stream(Arrays.asList("city", "population"), filter)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(1, filtered.size());
+        Assertions.assertEquals("rome", filtered.get(0)[0]);
+    }
+
+    @Test
+    @DisplayName("Test filtered Streams over data of known size report the number of matching rows")
+    void testFilteredStreamSize() throws Exception {
+        List<String[]> data = new ArrayList<>();
+        for (String city : new String[]{"london", "paris", "rome", "berlin", "riga"}) {
+            data.add(new String[]{city});
+        }
+        Table table = new Table(data, new String[]{"city"}, null);
+        RowFilter filter = RowFilter.raw("city", (city) -> city.startsWith("r"));
+        Assertions.assertEquals(2, table.stream(Collections.singletonList("city"), filter).count());
+        Assertions.assertEquals(2, table.stream(Collections.singletonList("city"), filter).toArray().length);
+        Assertions.assertEquals(5, table.stream(Collections.singletonList("city"), null).count());
+    }
+
+    @Test
+    @DisplayName("Test comparison filters on a number column with integer, decimal and special values")
+    void testComparedNumbers() throws Exception {
+        Schema schema = new Schema();
+        schema.addField(new NumberField("price"));
+        Table table = Table.fromSource("price\n10\n10.5\n9.99\nNaN\nINF\n-INF\n",
+                schema, DataSourceFormat.getDefaultCsvFormat());
+        List<Object[]> atLeast = new ArrayList<>();
+        table.iterator(RowFilter.atLeast("price", "10")).forEachRemaining(atLeast::add);
+        Assertions.assertEquals(3, atLeast.size());
+        Assertions.assertEquals(new BigInteger("10"), atLeast.get(0)[0]);
+        Assertions.assertEquals(new BigDecimal("10.5"), atLeast.get(1)[0]);
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, atLeast.get(2)[0]);
+
+        List<Object[]> lessThan = new ArrayList<>();
+        table.iterator(RowFilter.lessThan("price", "10.5")).forEachRemaining(lessThan::add);
+        Assertions.assertEquals(3, lessThan.size());
+        Assertions.assertEquals(new BigDecimal("9.99"), lessThan.get(1)[0]);
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, lessThan.get(2)[0]);
+    }
+
+    @Test
+    void testFilteredIteratorSkipsCasting() throws Exception {
+        // the first row can't be cast, but is dropped by the filter before casting
+        Iterator<Object[]> iter = invalidPopulationTable.iterator(RowFilter.equalTo("city", "paris"));
+        Assertions.assertEquals("paris", iter.next()[0]);
+        Assertions.assertFalse(iter.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test errors of a filtered error collecting Iterator carry the row number in the data")
+    void testFilteredErrorRowNumber() throws Exception {
+        Table table = Table.fromSource("city,year,population\nparis,2017,2240000\n2017,london,8780000\n",
+                validPopulationTable.getSchema(), DataSourceFormat.getDefaultCsvFormat());
+        CastErrorCollector errors = new CastErrorCollector();
+        Iterator<Object[]> iter = new TableIterator<>(table, null,
+                RowFilter.raw("city", (city) -> !city.equals("paris")), false, false, errors);
+        Assertions.assertFalse(iter.hasNext());
+        Assertions.assertEquals(2, errors.getErrors().get(0).getRowNumber());
+    }
+
+    @Test
+    void testPublisher() throws Exception {
+        List<Object[]> expected = validPopulationTable.read();
+        RecordingSubscriber<Object[]> subscriber = new RecordingSubscriber<>();
+        validPopulationTable.publisher().subscribe(subscriber);
+        Assertions.assertTrue(subscriber.rows.isEmpty());
+
+        subscriber.subscription.request(1);
+        Assertions.assertEquals(1, subscriber.rows.size());
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(subscriber.completed);
+        Assertions.assertNull(subscriber.error);
+        Assertions.assertEquals(expected.size(), subscriber.rows.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), subscriber.rows.get(i));
+        }
+    }
+
+    @Test
+    void testPublisherCancel() {
+        RecordingSubscriber<Object[]> subscriber = new RecordingSubscriber<>();
+        validPopulationTable.publisher().subscribe(subscriber);
+        subscriber.subscription.request(2);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(5);
+        Assertions.assertEquals(2, subscriber.rows.size());
+        Assertions.assertFalse(subscriber.completed);
+        Assertions.assertNull(subscriber.error);
+    }
+
+    @Test
+    void testPublisherInvalidRequest() {
+        RecordingSubscriber<Object[]> subscriber = new RecordingSubscriber<>();
+        validPopulationTable.publisher().subscribe(subscriber);
+        subscriber.subscription.request(0);
+        Assertions.assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void testPublisherInvalidCast() {
+        RecordingSubscriber<Object[]> subscriber = new RecordingSubscriber<>();
+        invalidPopulationTable.publisher().subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(subscriber.error instanceof InvalidCastException);
+        Assertions.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Test a throwing Subscriber cancels the Subscription without getting an error signal")
+    void testPublisherThrowingSubscriber() {
+        List<String[]> data = Arrays.asList(new String[]{"1"}, new String[]{"2"});
+        ClosingIterator rows = new ClosingIterator(data.iterator());
+        RecordingSubscriber<String[]> subscriber = new RecordingSubscriber<String[]>() {
+            @Override
+            public void onNext(String[] row) {
+                super.onNext(row);
+                throw new IllegalStateException("broken Subscriber");
+            }
+        };
+        new TablePublisher<>(new Table(), (table) -> rows).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertEquals(1, subscriber.rows.size());
+        Assertions.assertTrue(rows.closed);
+        Assertions.assertNull(subscriber.error);
+
+        RecordingSubscriber<String[]> completing = new RecordingSubscriber<String[]>() {
+            @Override
+            public void onComplete() {
+                super.onComplete();
+                throw new IllegalStateException("broken Subscriber");
+            }
+        };
+        new TablePublisher<>(new Table(), (table) -> data.iterator()).subscribe(completing);
+        completing.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(completing.completed);
+        Assertions.assertNull(completing.error);
+    }
+
+    @Test
+    void testReusingIteratorBufferTooSmall() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            validPopulationTable.iterator(new Object[2]);
+        });
+    }
+
     @Test
     void testStringArrayIterateDataFromJSONFormatAlternateSchema() throws Exception{
 
@@ -191,6 +586,48 @@ class TableIteratorTest {
     }
 
 
+    @Test
+    @DisplayName("Test the error collecting Iterator skips invalid rows, records errors and quarantines the rows")
+    void testErrorCollectingIterator() throws Exception {
+        StringWriter quarantine = new StringWriter();
+        CastErrorCollector errors = new CastErrorCollector(CastErrorCollector.UNLIMITED, quarantine);
+        Iterator<Object[]> iter = invalidPopulationTable.iterator(errors);
+        List<Object[]> rows = new ArrayList<>();
+        iter.forEachRemaining(rows::add);
+
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals("paris", rows.get(0)[0]);
+        Assertions.assertEquals("rome", rows.get(1)[0]);
+        Assertions.assertEquals(1, errors.getInvalidRowCount());
+        Assertions.assertEquals(1, errors.getErrorCount());
+        CastError error = errors.getErrors().get(0);
+        Assertions.assertEquals(1, error.getRowNumber());
+        Assertions.assertEquals("year", error.getColumn());
+        Assertions.assertEquals("london", error.getValue());
+        Assertions.assertEquals("Value 'london' is not a valid year", error.getReason());
+        Assertions.assertEquals("city,year,population\r\n2017,london,8780000\r\n", quarantine.toString());
+    }
+
+    @Test
+    @DisplayName("Test the error collecting Iterator stops once the error budget is used up")
+    void testErrorCollectingIteratorBudget() throws Exception {
+        CastErrorCollector errors = new CastErrorCollector(1, null);
+        Iterator<Map<String, Object>> iter = invalidPopulationTable.keyedIterator(errors);
+        Assertions.assertThrows(TableSchemaException.class, iter::hasNext);
+        Assertions.assertTrue(errors.isBudgetExhausted());
+        Assertions.assertEquals(1, errors.getErrorCount());
+
+        errors = new CastErrorCollector();
+        iter = validPopulationTable.keyedIterator(errors);
+        int count = 0;
+        while (iter.hasNext()) {
+            Assertions.assertNotNull(iter.next().get("year"));
+            count++;
+        }
+        Assertions.assertEquals(3, count);
+        Assertions.assertEquals(0, errors.getErrorCount());
+    }
+
     @Test
     void testStringObjectMapIterateDataFromJSONFormatAlternateSchema() throws Exception{
 
@@ -228,4 +665,55 @@ class TableIteratorTest {
 
         return expectedData;
     }
-}
\ No newline at end of file
+
+    private static class RecordingSubscriber<T> implements Subscriber<T> {
+        private final List<T> rows = new ArrayList<>();
+        private Subscription subscription = null;
+        private Throwable error = null;
+        private boolean completed = false;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T row) {
+            rows.add(row);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private static class ClosingIterator implements Iterator<String[]>, AutoCloseable {
+        private final Iterator<String[]> rows;
+        private boolean closed = false;
+
+        ClosingIterator(Iterator<String[]> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public String[] next() {
+            return rows.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
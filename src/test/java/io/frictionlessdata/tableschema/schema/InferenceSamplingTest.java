@@ -0,0 +1,162 @@
+package io.frictionlessdata.tableschema.schema;
+
+import io.frictionlessdata.tableschema.datasourceformat.StringArrayDataSourceFormat;
+import io.frictionlessdata.tableschema.field.Field;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+class InferenceSamplingTest {
+
+    @Test
+    @DisplayName("Strided sampling takes rows at even distances")
+    void testStrided() throws Exception {
+        StringArrayDataSourceFormat source = new StringArrayDataSourceFormat(rows(0, 1000), new String[]{"id"});
+        List<String> sample = values(RowSampler.sample(source, InferenceSampling.strided(10)));
+        Assertions.assertEquals(10, sample.size());
+        Assertions.assertEquals("99", sample.get(0));
+        Assertions.assertEquals("199", sample.get(1));
+        Assertions.assertEquals("999", sample.get(9));
+    }
+
+    @Test
+    @DisplayName("Strided sampling reads the parts of splittable data in turn")
+    void testStridedSplit() throws Exception {
+        SplittableSource source = new SplittableSource(rows(0, 400), 4);
+        List<String> sample = values(RowSampler.sample(source, InferenceSampling.strided(8)));
+        Assertions.assertArrayEquals(new Object[]{"0", "100", "200", "300", "1", "101", "201", "301"}, sample.toArray());
+    }
+
+    @Test
+    @DisplayName("Strided sampling of short parts returns all their rows")
+    void testStridedSplitShortParts() throws Exception {
+        SplittableSource source = new SplittableSource(rows(0, 6), 3);
+        List<String> sample = values(RowSampler.sample(source, InferenceSampling.strided(100)));
+        Assertions.assertEquals(6, sample.size());
+        Assertions.assertEquals(new HashSet<>(values(rows(0, 6).iterator())), new HashSet<>(sample));
+    }
+
+    @Test
+    @DisplayName("Reservoir sampling picks distinct rows, the same for the same seed")
+    void testReservoir() throws Exception {
+        StringArrayDataSourceFormat source = new StringArrayDataSourceFormat(rows(0, 1000), new String[]{"id"});
+        List<String> sample = values(RowSampler.sample(source, InferenceSampling.reservoir(50, 7)));
+        Assertions.assertEquals(50, sample.size());
+        Assertions.assertEquals(50, new HashSet<>(sample).size());
+        Assertions.assertEquals(sample, values(RowSampler.sample(source, InferenceSampling.reservoir(50, 7))));
+        Assertions.assertNotEquals(sample, values(RowSampler.sample(source, InferenceSampling.reservoir(50, 8))));
+
+        List<String> all = values(RowSampler.sample(source, InferenceSampling.reservoir(5000, 7)));
+        Assertions.assertEquals(1000, all.size());
+    }
+
+    @Test
+    @DisplayName("Stop reading once all column types are settled")
+    void testEarlyStop() {
+        CountingIterator data = new CountingIterator(rows(0, TypeInferrer.BATCH_SIZE * 10));
+        TypeInferrer.ColumnInferrer[] columns = TypeInferrer.getInstance()
+                .inferColumns(data, new String[]{"id"}, -1, InferenceSampling.DEFAULT_CONFIDENCE);
+        Assertions.assertEquals(Field.FIELD_TYPE_INTEGER, columns[0].getType());
+        Assertions.assertEquals(TypeInferrer.BATCH_SIZE, data.count);
+
+        data = new CountingIterator(rows(0, TypeInferrer.BATCH_SIZE * 10));
+        TypeInferrer.getInstance().inferColumns(data, new String[]{"id"}, -1, 1);
+        Assertions.assertEquals(TypeInferrer.BATCH_SIZE * 10, data.count);
+    }
+
+    @Test
+    @DisplayName("Keep reading while no type has a clear majority")
+    void testNoEarlyStopWithoutMajority() {
+        List<String[]> rows = new ArrayList<>();
+        for (int i = 0; i < TypeInferrer.BATCH_SIZE * 4; i++) {
+            rows.add(new String[]{(i % 2 == 0) ? Integer.toString(100000 + i) : "text " + i});
+        }
+        CountingIterator data = new CountingIterator(rows);
+        TypeInferrer.getInstance().inferColumns(data, new String[]{"mixed"}, -1, InferenceSampling.DEFAULT_CONFIDENCE);
+        Assertions.assertEquals(rows.size(), data.count);
+    }
+
+    @Test
+    @DisplayName("Reject invalid sample sizes and confidences")
+    void testInvalidSampling() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> InferenceSampling.strided(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> InferenceSampling.strided(10).withConfidence(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> InferenceSampling.strided(10).withConfidence(1.5));
+        Assertions.assertEquals(0.9, InferenceSampling.reservoir(10, 1).withConfidence(0.9).getConfidence());
+    }
+
+    private static List<String[]> rows(int from, int to) {
+        List<String[]> rows = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            rows.add(new String[]{Integer.toString(i)});
+        }
+        return rows;
+    }
+
+    private static List<String> values(Iterator<String[]> rows) throws Exception {
+        List<String> values = new ArrayList<>();
+        try {
+            rows.forEachRemaining((row) -> values.add(row[0]));
+        } finally {
+            RowSampler.close(rows);
+        }
+        return values;
+    }
+
+    private static class CountingIterator implements Iterator<String[]> {
+        private final Iterator<String[]> rows;
+        private int count = 0;
+
+        CountingIterator(List<String[]> rows) {
+            this.rows = rows.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public String[] next() {
+            count++;
+            return rows.next();
+        }
+    }
+
+    /**
+     * In-memory data splitting into consecutive parts, like local files do
+     */
+    private static class SplittableSource extends StringArrayDataSourceFormat {
+        private final List<String[]> rows;
+        private final int numParts;
+
+        SplittableSource(List<String[]> rows, int numParts) {
+            super(rows, new String[]{"id"});
+            this.rows = rows;
+            this.numParts = numParts;
+        }
+
+        @Override
+        public boolean isSplittable() {
+            return true;
+        }
+
+        @Override
+        public List<StringArrayDataSourceFormat> split(int numSplits) {
+            int count = Math.min(numSplits, numParts);
+            int partSize = rows.size() / count;
+            List<StringArrayDataSourceFormat> parts = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int end = (i == count - 1) ? rows.size() : (i + 1) * partSize;
+                parts.add(new StringArrayDataSourceFormat(rows.subList(i * partSize, end), new String[]{"id"}));
+            }
+            return parts;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.frictionlessdata.tableschema.schema;
+
+import io.frictionlessdata.tableschema.field.Field;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+class InferenceStateTest {
+    private static final String[] HEADERS = new String[]{"id", "amount"};
+
+    @Test
+    @DisplayName("Merging adds up the votes and widens the type")
+    void testMerge() {
+        InferenceState integers = shard(new String[]{"1", "10"}, new String[]{"2", "20"});
+        InferenceState decimals = shard(new String[]{"3", "1.5"});
+        Assertions.assertEquals(Field.FIELD_TYPE_INTEGER, integers.getType("amount"));
+
+        InferenceState merged = integers.merge(decimals);
+        Assertions.assertEquals(Arrays.asList("id", "amount"), merged.getColumnNames());
+        Assertions.assertEquals(Field.FIELD_TYPE_INTEGER, merged.getType("id"));
+        Assertions.assertEquals(3L, (long) merged.getTypeCounts("id").get(Field.FIELD_TYPE_INTEGER));
+        Assertions.assertEquals(Field.FIELD_TYPE_NUMBER, merged.getType("amount"));
+        Assertions.assertEquals(Field.FIELD_FORMAT_DEFAULT, merged.getFormat("amount"));
+        Assertions.assertEquals(2L, (long) merged.getTypeCounts("amount").get(Field.FIELD_TYPE_INTEGER));
+        Assertions.assertEquals(1L, (long) merged.getFormatCounts("amount", Field.FIELD_TYPE_NUMBER)
+                .get(Field.FIELD_FORMAT_DEFAULT));
+
+        // the shards are unchanged
+        Assertions.assertEquals(Field.FIELD_TYPE_INTEGER, integers.getType("amount"));
+    }
+
+    @Test
+    @DisplayName("Merging is associative and commutative")
+    void testMergeAssociative() {
+        InferenceState a = shard(new String[]{"1", "10"});
+        InferenceState b = shard(new String[]{"2", "1.5"});
+        InferenceState c = shard(new String[]{"x", "2020"});
+        Assertions.assertEquals(a.merge(b).merge(c), a.merge(b.merge(c)));
+        Assertions.assertEquals(a.merge(b), b.merge(a));
+        Assertions.assertEquals(Field.FIELD_TYPE_STRING, a.merge(b).merge(c).getType("id"));
+    }
+
+    @Test
+    @DisplayName("Keep columns missing from some shards")
+    void testMergeDifferentColumns() {
+        InferenceState a = shard(new String[]{"1", "10"});
+        InferenceState b = InferenceState.infer(rows(new String[]{"true"}), new String[]{"flag"});
+        InferenceState merged = a.merge(b);
+        Assertions.assertEquals(Arrays.asList("id", "amount", "flag"), merged.getColumnNames());
+        Assertions.assertEquals(Field.FIELD_TYPE_BOOLEAN, merged.getType("flag"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> merged.getType("unknown"));
+    }
+
+    @Test
+    @DisplayName("Widen types to the narrowest common type")
+    void testWiden() {
+        Assertions.assertEquals(Field.FIELD_TYPE_INTEGER, InferenceState.widen(Field.FIELD_TYPE_YEAR, Field.FIELD_TYPE_INTEGER));
+        Assertions.assertEquals(Field.FIELD_TYPE_NUMBER, InferenceState.widen(Field.FIELD_TYPE_NUMBER, Field.FIELD_TYPE_YEAR));
+        Assertions.assertEquals(Field.FIELD_TYPE_STRING, InferenceState.widen(Field.FIELD_TYPE_INTEGER, Field.FIELD_TYPE_STRING));
+        Assertions.assertEquals(Field.FIELD_TYPE_OBJECT, InferenceState.widen(Field.FIELD_TYPE_GEOJSON, Field.FIELD_TYPE_OBJECT));
+        Assertions.assertEquals(Field.FIELD_TYPE_STRING, InferenceState.widen(Field.FIELD_TYPE_DATE, Field.FIELD_TYPE_DATETIME));
+        Assertions.assertEquals(Field.FIELD_TYPE_ANY, InferenceState.widen(Field.FIELD_TYPE_ANY, Field.FIELD_TYPE_INTEGER));
+        Assertions.assertEquals(Field.FIELD_TYPE_STRING, InferenceState.widen("money", Field.FIELD_TYPE_NUMBER));
+        Assertions.assertEquals(Field.FIELD_TYPE_DATE, InferenceState.widen(Field.FIELD_TYPE_DATE, Field.FIELD_TYPE_DATE));
+    }
+
+    @Test
+    @DisplayName("No type for columns without values")
+    void testEmptyColumn() {
+        InferenceState state = InferenceState.infer(rows(new String[]{"1", null}), HEADERS);
+        Assertions.assertNull(state.getType("amount"));
+        Assertions.assertNull(state.getFormat("amount"));
+        Assertions.assertTrue(state.getTypeCounts("amount").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Blank values don't vote, so gaps don't widen a column")
+    void testBlankValues() {
+        String[] headers = new String[]{"day"};
+        InferenceState a = InferenceState.infer(rows(new String[]{"2020-01-01"}, new String[]{""}), headers);
+        InferenceState b = InferenceState.infer(rows(new String[]{""}, new String[]{"2020-01-03"}), headers);
+        InferenceState merged = a.merge(b);
+        Assertions.assertEquals(Field.FIELD_TYPE_DATE, merged.getType("day"));
+        Assertions.assertEquals(1, merged.getTypeCounts("day").size());
+        Assertions.assertNull(InferenceState.infer(rows(new String[]{""}), headers).getType("day"));
+    }
+
+    @Test
+    @DisplayName("Serialize and deserialize the state")
+    void testSerialization() throws Exception {
+        InferenceState state = shard(new String[]{"1", "1.5"}, new String[]{"2", "2020-01-01"});
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(state);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            InferenceState read = (InferenceState) in.readObject();
+            Assertions.assertEquals(state, read);
+            Assertions.assertEquals(Field.FIELD_TYPE_STRING, read.getType("amount"));
+        }
+    }
+
+    @Test
+    @DisplayName("Build the Schema from the merged state")
+    void testToSchema() throws Exception {
+        Schema schema = shard(new String[]{"1", "10"}).merge(shard(new String[]{"2", "1.5"})).toSchema();
+        Assertions.assertEquals(2, schema.getFields().size());
+        Assertions.assertEquals(Field.FIELD_TYPE_INTEGER, schema.getField("id").getType());
+        Assertions.assertEquals(Field.FIELD_TYPE_NUMBER, schema.getField("amount").getType());
+    }
+
+    private static InferenceState shard(String[]... rows) {
+        return InferenceState.infer(rows(rows), HEADERS);
+    }
+
+    private static Iterator<String[]> rows(String[]... rows) {
+        List<String[]> data = new ArrayList<>(Arrays.asList(rows));
+        return data.iterator();
+    }
+}
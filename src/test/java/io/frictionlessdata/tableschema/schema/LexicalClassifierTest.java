@@ -0,0 +1,54 @@
+package io.frictionlessdata.tableschema.schema;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LexicalClassifierTest {
+
+    @Test
+    @DisplayName("Only string and any are candidates for plain text")
+    void testPlainText() {
+        Assertions.assertEquals(LexicalClassifier.ALWAYS, LexicalClassifier.classify("hello world", true));
+    }
+
+    @Test
+    @DisplayName("Keep the types that may accept a value")
+    void testCandidates() {
+        int year = LexicalClassifier.classify("2020", true);
+        Assertions.assertEquals(LexicalClassifier.YEAR | LexicalClassifier.INTEGER | LexicalClassifier.NUMBER
+                | LexicalClassifier.BOOLEAN | LexicalClassifier.ALWAYS, year);
+
+        int date = LexicalClassifier.classify("2020-01-31", true);
+        Assertions.assertNotEquals(0, date & LexicalClassifier.DATE);
+        Assertions.assertEquals(0, date & (LexicalClassifier.TIME | LexicalClassifier.DATETIME | LexicalClassifier.YEAR));
+
+        int datetime = LexicalClassifier.classify("2020-01-31T10:00:00Z", true);
+        Assertions.assertNotEquals(0, datetime & LexicalClassifier.DATETIME);
+        Assertions.assertEquals(0, datetime & LexicalClassifier.DATE);
+
+        Assertions.assertNotEquals(0, LexicalClassifier.classify("PT1H", true) & LexicalClassifier.DURATION);
+        Assertions.assertNotEquals(0, LexicalClassifier.classify("12:30", true) & LexicalClassifier.TIME);
+        Assertions.assertNotEquals(0, LexicalClassifier.classify("1, 2", true) & LexicalClassifier.GEOPOINT);
+        Assertions.assertNotEquals(0, LexicalClassifier.classify("{\"a\": 1}", true) & LexicalClassifier.OBJECT);
+        Assertions.assertNotEquals(0, LexicalClassifier.classify("[1]", true) & LexicalClassifier.ARRAY);
+    }
+
+    @Test
+    @DisplayName("Keep number for values without digits the number parser accepts")
+    void testSpecialNumbers() {
+        for (String value : new String[]{"", "null", "NaN", " INF ", "-INF"}) {
+            Assertions.assertNotEquals(0, LexicalClassifier.classify(value, true) & LexicalClassifier.NUMBER, value);
+        }
+        Assertions.assertEquals(0, LexicalClassifier.classify("none", true) & LexicalClassifier.INTEGER);
+        Assertions.assertNotEquals(0, LexicalClassifier.classify("\u0663", true) & LexicalClassifier.INTEGER);
+    }
+
+    @Test
+    @DisplayName("Keep temporal types in non-default formats")
+    void testNonDefaultTemporalFormat() {
+        int mask = LexicalClassifier.classify("31/01/2020", false);
+        Assertions.assertEquals(LexicalClassifier.TEMPORAL, mask & LexicalClassifier.TEMPORAL);
+        Assertions.assertEquals(0, LexicalClassifier.classify("31/01/2020", true) & LexicalClassifier.TEMPORAL);
+    }
+}
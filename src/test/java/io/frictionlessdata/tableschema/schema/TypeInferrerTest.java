@@ -0,0 +1,70 @@
+package io.frictionlessdata.tableschema.schema;
+
+import io.frictionlessdata.tableschema.field.Field;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class TypeInferrerTest {
+
+    @Test
+    @DisplayName("Infer the column types of data spanning several batches")
+    void testInferColumns() {
+        List<Object[]> data = new ArrayList<>();
+        for (int i = 0; i < TypeInferrer.BATCH_SIZE * 2 + 10; i++) {
+            data.add(new Object[]{Integer.toString(100000 + i), i + ".5", "2020-01-" + (10 + i % 20), "name" + i});
+        }
+        TypeInferrer.ColumnInferrer[] columns = TypeInferrer.getInstance()
+                .inferColumns(data.iterator(), new String[]{"id", "amount", "day", "name"}, -1);
+
+        Assertions.assertEquals(4, columns.length);
+        Assertions.assertEquals(Field.FIELD_TYPE_INTEGER, columns[0].getType());
+        Assertions.assertEquals(Field.FIELD_TYPE_NUMBER, columns[1].getType());
+        Assertions.assertEquals(Field.FIELD_TYPE_DATE, columns[2].getType());
+        Assertions.assertEquals(Field.FIELD_FORMAT_DEFAULT, columns[2].getFormat());
+        Assertions.assertEquals(Field.FIELD_TYPE_STRING, columns[3].getType());
+    }
+
+    @Test
+    @DisplayName("Only use the rows up to the row limit")
+    void testInferColumnsRowLimit() {
+        List<Object[]> data = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            data.add(new Object[]{Integer.toString(i)});
+        }
+        for (int i = 0; i < TypeInferrer.BATCH_SIZE; i++) {
+            data.add(new Object[]{"text"});
+        }
+        TypeInferrer.ColumnInferrer[] columns = TypeInferrer.getInstance()
+                .inferColumns(data.iterator(), new String[]{"id"}, 2);
+        Assertions.assertEquals(Field.FIELD_TYPE_INTEGER, columns[0].getType());
+
+        columns = TypeInferrer.getInstance().inferColumns(data.iterator(), new String[]{"id"}, -1);
+        Assertions.assertEquals(Field.FIELD_TYPE_STRING, columns[0].getType());
+    }
+
+    @Test
+    @DisplayName("Skip null values and missing columns")
+    void testInferColumnsNullValues() {
+        List<Object[]> data = new ArrayList<>();
+        data.add(new Object[]{"1", null});
+        data.add(new Object[]{null, "true"});
+        data.add(new Object[]{"3"});
+        TypeInferrer.ColumnInferrer[] columns = TypeInferrer.getInstance()
+                .inferColumns(data.iterator(), new String[]{"id", "flag"}, -1);
+        Assertions.assertEquals(Field.FIELD_TYPE_INTEGER, columns[0].getType());
+        Assertions.assertEquals(Field.FIELD_TYPE_BOOLEAN, columns[1].getType());
+    }
+
+    @Test
+    @DisplayName("No type for columns without values")
+    void testInferColumnsEmpty() {
+        List<Object[]> data = new ArrayList<>();
+        TypeInferrer.ColumnInferrer[] columns = TypeInferrer.getInstance()
+                .inferColumns(data.iterator(), new String[]{"id"}, -1);
+        Assertions.assertNull(columns[0].getType());
+    }
+}
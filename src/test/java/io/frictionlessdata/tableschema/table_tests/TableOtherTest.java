@@ -4,6 +4,7 @@ import io.frictionlessdata.tableschema.TestHelper;
 import io.frictionlessdata.tableschema.datasourceformat.CsvDataSourceFormat;
 import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
 import io.frictionlessdata.tableschema.exception.TableValidationException;
+import io.frictionlessdata.tableschema.schema.InferenceSampling;
 import io.frictionlessdata.tableschema.schema.Schema;
 import io.frictionlessdata.tableschema.Table;
 import io.frictionlessdata.tableschema.exception.TableSchemaException;
@@ -16,6 +17,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.io.StringWriter;
 import java.math.BigInteger;
 import java.nio.file.Files;
 import java.time.Duration;
@@ -135,6 +137,26 @@ public class TableOtherTest {
     }
 
 
+    @Test
+    public void testCsvDataSourceFormatToNdJson() throws Exception{
+        File schemaFile = new File(getTestDataDirectory(), "schema/employee_schema.json");
+        Schema schema = Schema.fromJson (schemaFile, true);
+        File inFile = new File("data/employee_data.csv");
+
+        Table table = Table.fromSource(inFile, getTestDataDirectory(), schema, null);
+        StringWriter sw = new StringWriter();
+        table.write(sw, DataSourceFormat.Format.FORMAT_NDJSON);
+        String[] lines = sw.toString().split("\n");
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode reference = objectMapper.readTree(table.asJson());
+        Assert.assertEquals(reference.size(), lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            Assert.assertEquals(reference.get(i), objectMapper.readTree(lines[i]));
+        }
+    }
+
+
     /*
     The schema contains an additional column not present in the data. Since JSON objects
     will simply drop entries with null values, this can happen, but the Schema should still
@@ -182,6 +204,21 @@ public class TableOtherTest {
             Assert.assertEquals(node.get("name").asText(), node.get("type").asText());
         }
     }
+    @Test
+    public void testInferTypesIntAndDatesSampled() throws Exception{
+        for (InferenceSampling sampling : new InferenceSampling[]{
+                InferenceSampling.strided(100), InferenceSampling.reservoir(100, 42)}) {
+            Table table = Table.fromSource(new File ("dates_data.csv"), getTestDataDirectory());
+            ObjectMapper objectMapper = new ObjectMapper();
+            JsonNode schemaFiles = objectMapper.readTree(table.inferSchema(sampling).getJson()).get("fields");
+
+            for(int i=0; i< schemaFiles.size(); i++) {
+                JsonNode node = schemaFiles.get(i);
+                Assert.assertEquals(node.get("name").asText(), node.get("type").asText());
+            }
+        }
+    }
+
     //TODO not sure how the test should correctly regard 1 as integer and as boolean at another time
     /*
     @Test